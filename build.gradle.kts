@@ -4,6 +4,7 @@ plugins {
     id("java")
     id("maven-publish")
     id("com.github.johnrengelman.shadow") version "8.1.1"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "de.jexcellence.multiverse"
@@ -43,8 +44,10 @@ dependencies {
     compileOnly(platform("org.hibernate.orm:hibernate-platform:6.6.4.Final"))
     compileOnly("org.hibernate.orm:hibernate-core")
     compileOnly("jakarta.transaction:jakarta.transaction-api")
-    compileOnly("com.github.ben-manes.caffeine:caffeine:3.2.0")
     compileOnly("com.mysql:mysql-connector-j:9.2.0")
+
+    // Benchmark dependencies
+    jmh("io.papermc.paper:paper-api:1.21.4-R0.1-SNAPSHOT")
 }
 
 java {
@@ -53,6 +56,14 @@ java {
     }
 }
 
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
+
 tasks.register<ShadowJar>("cleanShadowJar") {
     dependsOn("clean", "shadowJar")
 }
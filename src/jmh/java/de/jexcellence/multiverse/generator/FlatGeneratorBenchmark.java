@@ -0,0 +1,58 @@
+package de.jexcellence.multiverse.generator;
+
+import de.jexcellence.multiverse.generator.flatgenerator.FlatChunkGenerator;
+import de.jexcellence.multiverse.generator.flatgenerator.FlatLayerPreset;
+import org.bukkit.generator.ChunkGenerator;
+import org.bukkit.generator.WorldInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of generating one flat world chunk for presets of different heights and layer counts.
+ * <p>
+ * The cost only depends on the preset, never on the chunk position, so every invocation generates the same chunk.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FlatGeneratorBenchmark {
+
+  private static final int MIN_HEIGHT = -64;
+  private static final int MAX_HEIGHT = 320;
+
+  @Param({
+    "bedrock,2*dirt,grass_block",
+    "bedrock,3*stone,52*sandstone",
+    "bedrock,59*stone,3*dirt,grass_block",
+    "bedrock,stone,andesite,stone,diorite,stone,granite,stone,deepslate,stone,tuff,stone,dirt,grass_block"
+  })
+  public String preset;
+
+  private final Random random = new Random(0L);
+
+  private WorldInfo worldInfo;
+  private ChunkGenerator.ChunkData chunkData;
+  private FlatChunkGenerator generator;
+
+  @Setup
+  public void setUp() {
+    this.worldInfo = GeneratorStandIns.worldInfo(MIN_HEIGHT, MAX_HEIGHT);
+    this.chunkData = GeneratorStandIns.chunkData(new GeneratorStandIns.BlockBuffer(MIN_HEIGHT, MAX_HEIGHT));
+    this.generator = new FlatChunkGenerator(FlatLayerPreset.parse(this.preset));
+  }
+
+  @Benchmark
+  public void chunkDataGeneration() {
+    this.generator.generateNoise(this.worldInfo, this.random, 0, 0, this.chunkData);
+  }
+}
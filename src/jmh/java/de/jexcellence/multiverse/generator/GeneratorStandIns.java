@@ -0,0 +1,636 @@
+package de.jexcellence.multiverse.generator;
+
+import io.papermc.paper.block.fluid.FluidData;
+import io.papermc.paper.world.MoonPhase;
+import org.bukkit.Color;
+import org.bukkit.FeatureFlag;
+import org.bukkit.HeightMap;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.SoundGroup;
+import org.bukkit.TreeType;
+import org.bukkit.World;
+import org.bukkit.block.Biome;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.BlockSupport;
+import org.bukkit.block.PistonMoveReaction;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.block.structure.Mirror;
+import org.bukkit.block.structure.StructureRotation;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.entity.CreatureSpawnEvent;
+import org.bukkit.generator.BiomeProvider;
+import org.bukkit.generator.ChunkGenerator;
+import org.bukkit.generator.LimitedRegion;
+import org.bukkit.generator.WorldInfo;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.material.MaterialData;
+import org.bukkit.util.BoundingBox;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Local stand-ins for the Bukkit generator interfaces, so generators can be benchmarked without a server.
+ * <p>
+ * Every stand-in is a plain final class, so calls made by a generator are ordinary virtual calls without argument
+ * arrays, boxing or reflection, and the measured allocations are those of the generator alone. All writes land in a
+ * {@link BlockBuffer} covering a single chunk, which mirrors the per-block work a real server does. Reads answer from
+ * the buffer or with neutral values. Methods the generators never call, such as block states, fluids and entity
+ * spawning, return {@code null} instead of throwing, so a generator that starts calling one keeps running and the
+ * benchmark still measures it.
+ * </p>
+ * <p>
+ * The methods carry no {@code @Override}, so the stand-ins keep compiling when a later API version adds default
+ * methods or drops deprecated ones.
+ * </p>
+ */
+public final class GeneratorStandIns {
+
+  private static final UUID WORLD_UID = new UUID(0L, 0L);
+  private static final NamespacedKey WORLD_KEY = NamespacedKey.minecraft("benchmark");
+
+  private GeneratorStandIns() {}
+
+  /**
+   * Creates a {@link WorldInfo} with the given height bounds.
+   *
+   * @param minHeight the minimum world height.
+   * @param maxHeight the maximum world height.
+   * @return the world info stand-in.
+   */
+  public static @NotNull WorldInfo worldInfo(final int minHeight, final int maxHeight) {
+    return new StandInWorldInfo(minHeight, maxHeight);
+  }
+
+  /**
+   * Creates a {@link ChunkGenerator.ChunkData} writing into the given buffer.
+   *
+   * @param buffer the buffer receiving all writes.
+   * @return the chunk data stand-in.
+   */
+  public static @NotNull ChunkGenerator.ChunkData chunkData(final @NotNull BlockBuffer buffer) {
+    return new StandInChunkData(buffer);
+  }
+
+  /**
+   * Creates a {@link LimitedRegion} around a single chunk writing into the given buffer.
+   *
+   * @param buffer the buffer receiving all writes.
+   * @return the limited region stand-in.
+   */
+  public static @NotNull LimitedRegion limitedRegion(final @NotNull BlockBuffer buffer) {
+    return new StandInLimitedRegion(buffer);
+  }
+
+  /**
+   * Creates a {@link BlockData} of the given material. Stand-ins are compared by identity.
+   *
+   * @param material the material.
+   * @return the block data stand-in.
+   */
+  public static @NotNull BlockData blockData(final @NotNull Material material) {
+    return new StandInBlockData(material);
+  }
+
+  /**
+   * The block storage of one chunk, shared by the stand-ins.
+   */
+  public static final class BlockBuffer {
+
+    private final int minHeight;
+    private final int maxHeight;
+    private final Object[] blocks;
+    private long writes;
+
+    public BlockBuffer(final int minHeight, final int maxHeight) {
+      this.minHeight = minHeight;
+      this.maxHeight = maxHeight;
+      this.blocks = new Object[16 * 16 * (maxHeight - minHeight)];
+    }
+
+    /**
+     * Clears all blocks and the write counter.
+     */
+    public void reset() {
+      Arrays.fill(this.blocks, null);
+      this.writes = 0L;
+    }
+
+    /**
+     * Retrieves the number of blocks written since the last reset.
+     *
+     * @return the number of written blocks.
+     */
+    public long getWrites() {
+      return this.writes;
+    }
+
+    void set(final int x, final int y, final int z, final Object block) {
+      if (y < this.minHeight || y >= this.maxHeight)
+        return;
+      this.blocks[this.index(x, y, z)] = block;
+      this.writes++;
+    }
+
+    void fill(final int minX, final int minY, final int minZ, final int maxX, final int maxY, final int maxZ, final Object block) {
+      final int fromY = Math.max(minY, this.minHeight);
+      final int toY = Math.min(maxY, this.maxHeight);
+      for (int y = fromY; y < toY; y++)
+        for (int x = Math.max(minX, 0); x < Math.min(maxX, 16); x++)
+          for (int z = Math.max(minZ, 0); z < Math.min(maxZ, 16); z++) {
+            this.blocks[this.index(x, y, z)] = block;
+            this.writes++;
+          }
+    }
+
+    Material getType(final int x, final int y, final int z) {
+      if (y < this.minHeight || y >= this.maxHeight)
+        return Material.VOID_AIR;
+      final Object block = this.blocks[this.index(x, y, z)];
+      if (block instanceof Material material)
+        return material;
+      if (block instanceof BlockData blockData)
+        return blockData.getMaterial();
+      return Material.AIR;
+    }
+
+    BlockData getBlockData(final int x, final int y, final int z) {
+      if (y >= this.minHeight && y < this.maxHeight && this.blocks[this.index(x, y, z)] instanceof BlockData blockData)
+        return blockData;
+      return new StandInBlockData(this.getType(x, y, z));
+    }
+
+    int getHighestBlockY(final int x, final int z) {
+      for (int y = this.maxHeight - 1; y >= this.minHeight; y--)
+        if (this.blocks[this.index(x, y, z)] != null && !this.getType(x, y, z).isAir())
+          return y;
+      return this.minHeight;
+    }
+
+    private int index(final int x, final int y, final int z) {
+      return ((y - this.minHeight) << 8) | (x << 4) | z;
+    }
+  }
+
+  /**
+   * A {@link WorldInfo} of an overworld with fixed height bounds.
+   */
+  public static final class StandInWorldInfo implements WorldInfo {
+
+    private final int minHeight;
+    private final int maxHeight;
+
+    private StandInWorldInfo(final int minHeight, final int maxHeight) {
+      this.minHeight = minHeight;
+      this.maxHeight = maxHeight;
+    }
+
+    public @NotNull String getName() {
+      return "benchmark";
+    }
+
+    public @NotNull UUID getUID() {
+      return WORLD_UID;
+    }
+
+    public @NotNull World.Environment getEnvironment() {
+      return World.Environment.NORMAL;
+    }
+
+    public long getSeed() {
+      return 0L;
+    }
+
+    public int getMinHeight() {
+      return this.minHeight;
+    }
+
+    public int getMaxHeight() {
+      return this.maxHeight;
+    }
+
+    public @Nullable BiomeProvider vanillaBiomeProvider() {
+      return null;
+    }
+  }
+
+  /**
+   * A {@link ChunkGenerator.ChunkData} writing into a {@link BlockBuffer}.
+   */
+  public static final class StandInChunkData implements ChunkGenerator.ChunkData {
+
+    private final BlockBuffer buffer;
+
+    private StandInChunkData(final BlockBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    public int getMinHeight() {
+      return this.buffer.minHeight;
+    }
+
+    public int getMaxHeight() {
+      return this.buffer.maxHeight;
+    }
+
+    public @NotNull Biome getBiome(final int x, final int y, final int z) {
+      return Biome.PLAINS;
+    }
+
+    public void setBlock(final int x, final int y, final int z, final @NotNull Material material) {
+      this.buffer.set(x, y, z, material);
+    }
+
+    public void setBlock(final int x, final int y, final int z, final @NotNull MaterialData material) {
+      this.buffer.set(x, y, z, material.getItemType());
+    }
+
+    public void setBlock(final int x, final int y, final int z, final @NotNull BlockData blockData) {
+      this.buffer.set(x, y, z, blockData);
+    }
+
+    public void setRegion(
+      final int xMin, final int yMin, final int zMin, final int xMax, final int yMax, final int zMax,
+      final @NotNull Material material
+    ) {
+      this.buffer.fill(xMin, yMin, zMin, xMax, yMax, zMax, material);
+    }
+
+    public void setRegion(
+      final int xMin, final int yMin, final int zMin, final int xMax, final int yMax, final int zMax,
+      final @NotNull MaterialData material
+    ) {
+      this.buffer.fill(xMin, yMin, zMin, xMax, yMax, zMax, material.getItemType());
+    }
+
+    public void setRegion(
+      final int xMin, final int yMin, final int zMin, final int xMax, final int yMax, final int zMax,
+      final @NotNull BlockData blockData
+    ) {
+      this.buffer.fill(xMin, yMin, zMin, xMax, yMax, zMax, blockData);
+    }
+
+    public @NotNull Material getType(final int x, final int y, final int z) {
+      return this.buffer.getType(x, y, z);
+    }
+
+    public @NotNull MaterialData getTypeAndData(final int x, final int y, final int z) {
+      return new MaterialData(this.buffer.getType(x, y, z));
+    }
+
+    public @NotNull BlockData getBlockData(final int x, final int y, final int z) {
+      return this.buffer.getBlockData(x, y, z);
+    }
+
+    public byte getData(final int x, final int y, final int z) {
+      return 0;
+    }
+  }
+
+  /**
+   * A {@link LimitedRegion} around the chunk of a {@link BlockBuffer}. Absolute coordinates are folded into the
+   * buffer's chunk; the region holds no entities or tile entities.
+   */
+  public static final class StandInLimitedRegion implements LimitedRegion {
+
+    private final BlockBuffer buffer;
+
+    private StandInLimitedRegion(final BlockBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    public int getBuffer() {
+      return 0;
+    }
+
+    public boolean isInRegion(final @NotNull Location location) {
+      return true;
+    }
+
+    public boolean isInRegion(final int x, final int y, final int z) {
+      return true;
+    }
+
+    public @NotNull List<BlockState> getTileEntities() {
+      return List.of();
+    }
+
+    public int getCenterChunkX() {
+      return 0;
+    }
+
+    public int getCenterChunkZ() {
+      return 0;
+    }
+
+    public @NotNull Biome getBiome(final @NotNull Location location) {
+      return Biome.PLAINS;
+    }
+
+    public @NotNull Biome getBiome(final int x, final int y, final int z) {
+      return Biome.PLAINS;
+    }
+
+    public @NotNull Biome getComputedBiome(final int x, final int y, final int z) {
+      return Biome.PLAINS;
+    }
+
+    public void setBiome(final @NotNull Location location, final @NotNull Biome biome) {
+      // Biomes are not stored
+    }
+
+    public void setBiome(final int x, final int y, final int z, final @NotNull Biome biome) {
+      // Biomes are not stored
+    }
+
+    public @Nullable BlockState getBlockState(final @NotNull Location location) {
+      return null;
+    }
+
+    public @Nullable BlockState getBlockState(final int x, final int y, final int z) {
+      return null;
+    }
+
+    public @Nullable FluidData getFluidData(final int x, final int y, final int z) {
+      return null;
+    }
+
+    public @NotNull BlockData getBlockData(final @NotNull Location location) {
+      return this.getBlockData(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    public @NotNull BlockData getBlockData(final int x, final int y, final int z) {
+      return this.buffer.getBlockData(x & 15, y, z & 15);
+    }
+
+    public @NotNull Material getType(final @NotNull Location location) {
+      return this.getType(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    public @NotNull Material getType(final int x, final int y, final int z) {
+      return this.buffer.getType(x & 15, y, z & 15);
+    }
+
+    public void setBlockData(final @NotNull Location location, final @NotNull BlockData blockData) {
+      this.setBlockData(location.getBlockX(), location.getBlockY(), location.getBlockZ(), blockData);
+    }
+
+    public void setBlockData(final int x, final int y, final int z, final @NotNull BlockData blockData) {
+      this.buffer.set(x & 15, y, z & 15, blockData);
+    }
+
+    public void setType(final @NotNull Location location, final @NotNull Material material) {
+      this.setType(location.getBlockX(), location.getBlockY(), location.getBlockZ(), material);
+    }
+
+    public void setType(final int x, final int y, final int z, final @NotNull Material material) {
+      this.buffer.set(x & 15, y, z & 15, material);
+    }
+
+    public boolean generateTree(final @NotNull Location location, final @NotNull Random random, final @NotNull TreeType type) {
+      return false;
+    }
+
+    public boolean generateTree(
+      final @NotNull Location location,
+      final @NotNull Random random,
+      final @NotNull TreeType type,
+      final @Nullable Consumer<? super BlockState> stateConsumer
+    ) {
+      return false;
+    }
+
+    public boolean generateTree(
+      final @NotNull Location location,
+      final @NotNull Random random,
+      final @NotNull TreeType type,
+      final @Nullable Predicate<? super BlockState> statePredicate
+    ) {
+      return false;
+    }
+
+    public @Nullable Entity spawnEntity(final @NotNull Location location, final @NotNull EntityType type) {
+      return null;
+    }
+
+    public @Nullable Entity spawnEntity(final @NotNull Location location, final @NotNull EntityType type, final boolean randomizeData) {
+      return null;
+    }
+
+    public @NotNull List<Entity> getEntities() {
+      return List.of();
+    }
+
+    public @NotNull List<LivingEntity> getLivingEntities() {
+      return List.of();
+    }
+
+    public <T extends Entity> @NotNull Collection<T> getEntitiesByClass(final @NotNull Class<T> cls) {
+      return List.of();
+    }
+
+    public @NotNull Collection<Entity> getEntitiesByClasses(final @NotNull Class<?>... classes) {
+      return List.of();
+    }
+
+    public @Nullable Entity getEntity(final @NotNull UUID uuid) {
+      return null;
+    }
+
+    public <T extends Entity> @Nullable T createEntity(final @NotNull Location location, final @NotNull Class<T> clazz) {
+      return null;
+    }
+
+    public <T extends Entity> @Nullable T spawn(final @NotNull Location location, final @NotNull Class<T> clazz) {
+      return null;
+    }
+
+    public <T extends Entity> @Nullable T spawn(
+      final @NotNull Location location,
+      final @NotNull Class<T> clazz,
+      final @Nullable Consumer<? super T> function
+    ) {
+      return null;
+    }
+
+    public <T extends Entity> @Nullable T spawn(
+      final @NotNull Location location,
+      final @NotNull Class<T> clazz,
+      final @Nullable Consumer<? super T> function,
+      final @NotNull CreatureSpawnEvent.SpawnReason reason
+    ) {
+      return null;
+    }
+
+    public <T extends Entity> @Nullable T spawn(
+      final @NotNull Location location,
+      final @NotNull Class<T> clazz,
+      final boolean randomizeData,
+      final @Nullable Consumer<? super T> function
+    ) {
+      return null;
+    }
+
+    public <T extends Entity> @NotNull T addEntity(final @NotNull T entity) {
+      return entity;
+    }
+
+    public int getHighestBlockYAt(final int x, final int z) {
+      return this.buffer.getHighestBlockY(x & 15, z & 15);
+    }
+
+    public int getHighestBlockYAt(final @NotNull Location location) {
+      return this.getHighestBlockYAt(location.getBlockX(), location.getBlockZ());
+    }
+
+    public int getHighestBlockYAt(final int x, final int z, final @NotNull HeightMap heightMap) {
+      return this.getHighestBlockYAt(x, z);
+    }
+
+    public int getHighestBlockYAt(final @NotNull Location location, final @NotNull HeightMap heightMap) {
+      return this.getHighestBlockYAt(location.getBlockX(), location.getBlockZ());
+    }
+
+    public @NotNull MoonPhase getMoonPhase() {
+      return MoonPhase.FULL_MOON;
+    }
+
+    public @NotNull NamespacedKey getKey() {
+      return WORLD_KEY;
+    }
+
+    public boolean lineOfSightExists(final @NotNull Location from, final @NotNull Location to) {
+      return true;
+    }
+
+    public boolean hasCollisionsIn(final @NotNull BoundingBox boundingBox) {
+      return false;
+    }
+
+    public @NotNull Set<FeatureFlag> getFeatureFlags() {
+      return Set.of();
+    }
+  }
+
+  /**
+   * A {@link BlockData} carrying nothing but its material, compared by identity.
+   */
+  public static final class StandInBlockData implements BlockData {
+
+    private final Material material;
+
+    private StandInBlockData(final Material material) {
+      this.material = material;
+    }
+
+    public @NotNull Material getMaterial() {
+      return this.material;
+    }
+
+    public @NotNull String getAsString() {
+      return this.material.getKey().toString();
+    }
+
+    public @NotNull String getAsString(final boolean hideUnspecified) {
+      return this.getAsString();
+    }
+
+    public @NotNull BlockData merge(final @NotNull BlockData data) {
+      return this;
+    }
+
+    public boolean matches(final @Nullable BlockData data) {
+      return data != null && data.getMaterial() == this.material;
+    }
+
+    public @NotNull BlockData clone() {
+      return this;
+    }
+
+    public @Nullable SoundGroup getSoundGroup() {
+      return null;
+    }
+
+    public int getLightEmission() {
+      return 0;
+    }
+
+    public boolean isOccluding() {
+      return this.material.isOccluding();
+    }
+
+    public boolean requiresCorrectToolForDrops() {
+      return false;
+    }
+
+    public boolean isPreferredTool(final @NotNull ItemStack tool) {
+      return false;
+    }
+
+    public @NotNull PistonMoveReaction getPistonMoveReaction() {
+      return PistonMoveReaction.MOVE;
+    }
+
+    public boolean isSupported(final @NotNull Block block) {
+      return true;
+    }
+
+    public boolean isSupported(final @NotNull Location location) {
+      return true;
+    }
+
+    public boolean isFaceSturdy(final @NotNull BlockFace face, final @NotNull BlockSupport support) {
+      return this.material.isSolid();
+    }
+
+    public @NotNull Color getMapColor() {
+      return Color.BLACK;
+    }
+
+    public @NotNull Material getPlacementMaterial() {
+      return this.material;
+    }
+
+    public void rotate(final @NotNull StructureRotation rotation) {
+      // Stand-ins have no orientation
+    }
+
+    public void mirror(final @NotNull Mirror mirror) {
+      // Stand-ins have no orientation
+    }
+
+    public void copyTo(final @NotNull BlockData other) {
+      // Stand-ins have no properties
+    }
+
+    public @Nullable BlockState createBlockState() {
+      return null;
+    }
+
+    public float getDestroySpeed(final @NotNull ItemStack itemStack, final boolean considerEnchants) {
+      return 1.0F;
+    }
+
+    public boolean isRandomlyTicked() {
+      return false;
+    }
+
+    public boolean isReplaceable() {
+      return this.material.isAir();
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package de.jexcellence.multiverse.generator;
+
+import de.jexcellence.multiverse.generator.islandgenerator.IslandGridChunkGenerator;
+import de.jexcellence.multiverse.generator.islandgenerator.IslandTemplate;
+import org.bukkit.Material;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.generator.ChunkGenerator;
+import org.bukkit.generator.WorldInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of generating one island grid chunk and of compiling an island template.
+ * <p>
+ * The island is a rough hemisphere of stone, dirt and grass with some ores. Every invocation of
+ * {@link #chunkDataGeneration()} generates the next chunk of a square area covering a few grid cells, so chunks
+ * without islands, chunks cutting through an island and chunks on an island's edge are all covered.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IslandGridGeneratorBenchmark {
+
+  private static final int MIN_HEIGHT = -64;
+  private static final int MAX_HEIGHT = 320;
+  private static final int ISLAND_Y = 64;
+
+  @Param({"16", "48"})
+  public int islandSize;
+
+  @Param({"64", "256"})
+  public int spacing;
+
+  private final Random random = new Random(0L);
+
+  private WorldInfo worldInfo;
+  private ChunkGenerator.ChunkData chunkData;
+  private IslandGridChunkGenerator generator;
+  private BlockData[] islandBlocks;
+  private int islandHeight;
+  private int areaChunks;
+  private int chunkIndex;
+
+  @Setup
+  public void setUp() {
+    this.worldInfo = GeneratorStandIns.worldInfo(MIN_HEIGHT, MAX_HEIGHT);
+    this.chunkData = GeneratorStandIns.chunkData(new GeneratorStandIns.BlockBuffer(MIN_HEIGHT, MAX_HEIGHT));
+    this.islandHeight = this.islandSize / 2;
+    this.islandBlocks = createIsland(this.islandSize, this.islandHeight);
+    this.generator = new IslandGridChunkGenerator(
+      IslandTemplate.compile(this.islandSize, this.islandHeight, this.islandSize, this.islandBlocks), this.spacing, ISLAND_Y
+    );
+    this.areaChunks = 2 * this.spacing / 16;
+  }
+
+  @Benchmark
+  public void chunkDataGeneration() {
+    final int chunk = this.chunkIndex;
+    this.chunkIndex = (chunk + 1) % (this.areaChunks * this.areaChunks);
+    this.generator.generateNoise(this.worldInfo, this.random, chunk % this.areaChunks, chunk / this.areaChunks, this.chunkData);
+  }
+
+  @Benchmark
+  public IslandTemplate templateCompilation() {
+    return IslandTemplate.compile(this.islandSize, this.islandHeight, this.islandSize, this.islandBlocks);
+  }
+
+  private static BlockData[] createIsland(final int size, final int height) {
+    final BlockData stone = GeneratorStandIns.blockData(Material.STONE);
+    final BlockData dirt = GeneratorStandIns.blockData(Material.DIRT);
+    final BlockData grass = GeneratorStandIns.blockData(Material.GRASS_BLOCK);
+    final BlockData ore = GeneratorStandIns.blockData(Material.IRON_ORE);
+    final Random random = new Random(42L);
+    final double radius = size / 2.0;
+
+    final BlockData[] blocks = new BlockData[size * height * size];
+    for (int x = 0; x < size; x++)
+      for (int z = 0; z < size; z++) {
+        final double distance = Math.hypot(x + 0.5 - radius, z + 0.5 - radius) / radius;
+        if (distance > 1.0)
+          continue;
+
+        final int depth = (int) Math.ceil(height * Math.sqrt(1.0 - distance * distance));
+        for (int y = height - depth; y < height; y++) {
+          final BlockData block;
+          if (y == height - 1)
+            block = grass;
+          else if (y >= height - 3)
+            block = dirt;
+          else
+            block = random.nextInt(16) == 0 ? ore : stone;
+          blocks[(x * size + z) * height + y] = block;
+        }
+      }
+    return blocks;
+  }
+}
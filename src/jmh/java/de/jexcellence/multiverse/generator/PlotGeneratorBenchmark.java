@@ -0,0 +1,99 @@
+package de.jexcellence.multiverse.generator;
+
+import de.jexcellence.multiverse.generator.plotgenerator.PlotBlockPopulator;
+import de.jexcellence.multiverse.generator.plotgenerator.PlotChunkGenerator;
+import de.jexcellence.multiverse.generator.plotgenerator.PlotGenerationMode;
+import de.jexcellence.multiverse.generator.plotgenerator.PlotLayer;
+import org.bukkit.Material;
+import org.bukkit.generator.ChunkGenerator;
+import org.bukkit.generator.LimitedRegion;
+import org.bukkit.generator.WorldInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of generating one plot world chunk, through bulk {@code ChunkData} fills
+ * and through the block-by-block populator.
+ * <p>
+ * Every invocation generates the next chunk of a 64x64 chunk area, so all distinct chunk layouts are covered.
+ * Run with the {@code gc} profiler (enabled in the build) to see the allocation rate per chunk.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PlotGeneratorBenchmark {
+
+  private static final int MIN_HEIGHT = -64;
+  private static final int MAX_HEIGHT = 320;
+  private static final int AREA_CHUNKS = 64;
+
+  @Param({"30", "64"})
+  public int plotSize;
+
+  @Param({"6", "12"})
+  public int plotRoadWidth;
+
+  @Param({"30", "94", "200"})
+  public int plotHeight;
+
+  private final Random random = new Random(0L);
+
+  private WorldInfo worldInfo;
+  private ChunkGenerator.ChunkData chunkData;
+  private LimitedRegion limitedRegion;
+  private PlotChunkGenerator chunkDataGenerator;
+  private PlotBlockPopulator blockPopulator;
+  private int chunkIndex;
+
+  @Setup
+  public void setUp() {
+    final GeneratorStandIns.BlockBuffer buffer = new GeneratorStandIns.BlockBuffer(MIN_HEIGHT, MAX_HEIGHT);
+    final List<PlotLayer> plotLayers = List.of(
+      new PlotLayer(1, this.plotHeight - 1, Material.DIRT),
+      new PlotLayer(this.plotHeight, this.plotHeight + 1, Material.GRASS_BLOCK)
+    );
+
+    this.worldInfo = GeneratorStandIns.worldInfo(MIN_HEIGHT, MAX_HEIGHT);
+    this.chunkData = GeneratorStandIns.chunkData(buffer);
+    this.limitedRegion = GeneratorStandIns.limitedRegion(buffer);
+    this.chunkDataGenerator = new PlotChunkGenerator(
+      this.plotSize, this.plotRoadWidth, this.plotHeight,
+      Material.STONE, Material.COBBLESTONE_SLAB, Material.IRON_BLOCK,
+      plotLayers, PlotGenerationMode.CHUNK_DATA
+    );
+    this.blockPopulator = new PlotBlockPopulator(
+      this.plotSize, this.plotRoadWidth, this.plotHeight,
+      Material.STONE, Material.COBBLESTONE_SLAB, Material.IRON_BLOCK,
+      plotLayers, true
+    );
+  }
+
+  @Benchmark
+  public void chunkDataGeneration() {
+    final int chunk = this.nextChunk();
+    this.chunkDataGenerator.generateNoise(this.worldInfo, this.random, chunk % AREA_CHUNKS, chunk / AREA_CHUNKS, this.chunkData);
+  }
+
+  @Benchmark
+  public void populatorGeneration() {
+    final int chunk = this.nextChunk();
+    this.blockPopulator.populate(this.worldInfo, this.random, chunk % AREA_CHUNKS, chunk / AREA_CHUNKS, this.limitedRegion);
+  }
+
+  private int nextChunk() {
+    final int chunk = this.chunkIndex;
+    this.chunkIndex = (chunk + 1) % (AREA_CHUNKS * AREA_CHUNKS);
+    return chunk;
+  }
+}
@@ -0,0 +1,55 @@
+package de.jexcellence.multiverse.generator;
+
+import de.jexcellence.multiverse.generator.voidgenerator.VoidChunkGenerator;
+import org.bukkit.generator.ChunkGenerator;
+import org.bukkit.generator.WorldInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-chunk overhead of the void world generator and the cost of resolving its biome provider.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VoidGeneratorBenchmark {
+
+  private static final int MIN_HEIGHT = -64;
+  private static final int MAX_HEIGHT = 320;
+
+  private final Random random = new Random(0L);
+  private final VoidChunkGenerator generator = new VoidChunkGenerator();
+
+  private WorldInfo worldInfo;
+  private ChunkGenerator.ChunkData chunkData;
+  private int chunkX;
+
+  @Setup
+  public void setUp() {
+    this.worldInfo = GeneratorStandIns.worldInfo(MIN_HEIGHT, MAX_HEIGHT);
+    this.chunkData = GeneratorStandIns.chunkData(new GeneratorStandIns.BlockBuffer(MIN_HEIGHT, MAX_HEIGHT));
+  }
+
+  @Benchmark
+  public void chunkGeneration() {
+    final int chunk = this.chunkX++;
+    this.generator.generateNoise(this.worldInfo, this.random, chunk, 0, this.chunkData);
+    this.generator.generateSurface(this.worldInfo, this.random, chunk, 0, this.chunkData);
+    this.generator.generateBedrock(this.worldInfo, this.random, chunk, 0, this.chunkData);
+    this.generator.generateCaves(this.worldInfo, this.random, chunk, 0, this.chunkData);
+  }
+
+  @Benchmark
+  public void defaultBiomeProvider(final Blackhole blackhole) {
+    blackhole.consume(this.generator.getDefaultBiomeProvider(this.worldInfo));
+  }
+}
@@ -5,19 +5,35 @@ import de.jexcellence.jeplatform.JEPlatform;
 import de.jexcellence.jeplatform.logger.JELogger;
 import de.jexcellence.jeplatform.utility.teleportation.TeleportFactory;
 import de.jexcellence.multiverse.api.MultiverseAdapter;
+import de.jexcellence.multiverse.config.MultiverseConfig;
 import de.jexcellence.multiverse.database.entity.MVWorld;
+import de.jexcellence.multiverse.database.migration.SpawnLocationMigration;
 import de.jexcellence.multiverse.database.repository.MVWorldRepository;
+import de.jexcellence.multiverse.database.repository.MVWorldWriteBehind;
+import de.jexcellence.multiverse.executor.InstrumentedExecutorService;
+import de.jexcellence.multiverse.executor.MultiverseExecutors;
+import de.jexcellence.multiverse.metrics.MetricsRegistry;
+import de.jexcellence.multiverse.metrics.MetricsReporter;
 import de.jexcellence.multiverse.ui.MultiverseEditorView;
+import de.jexcellence.multiverse.utility.ChunkPregenerator;
+import de.jexcellence.multiverse.utility.ChunkPrewarmer;
+import de.jexcellence.multiverse.utility.IslandSchematics;
+import de.jexcellence.multiverse.utility.PlotResetEngine;
+import de.jexcellence.multiverse.utility.SpawnIndex;
+import de.jexcellence.multiverse.utility.WorldBackups;
+import de.jexcellence.multiverse.utility.WorldDeletionPipeline;
+import de.jexcellence.multiverse.utility.WorldLifecycleManager;
 import de.jexcellence.multiverse.utility.WorldManager;
+import de.jexcellence.multiverse.utility.WorldNameIndex;
+import de.jexcellence.multiverse.utility.WorldRegistry;
 import me.devnatan.inventoryframework.ViewFrame;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.logging.Level;
 
 /**
  * The main class for the Multiverse plugin, responsible for registering
@@ -25,13 +41,25 @@ import java.util.concurrent.Executors;
  */
 public class Multiverse extends JavaPlugin {
 
-  private final ExecutorService executor = Executors.newFixedThreadPool(5);
-  private final Map<String, MVWorld> worlds = new HashMap<>();
+  private final MetricsRegistry metrics = new MetricsRegistry();
+  private final WorldRegistry worldRegistry = new WorldRegistry();
+  private final SpawnIndex spawnIndex = new SpawnIndex();
+  private final WorldNameIndex worldNameIndex = new WorldNameIndex();
+  private final ChunkPrewarmer chunkPrewarmer = new ChunkPrewarmer(this);
+  private final ChunkPregenerator chunkPregenerator = new ChunkPregenerator(this);
+  private final PlotResetEngine plotResetEngine = new PlotResetEngine(this);
+  private final WorldBackups worldBackups = new WorldBackups(this);
+  private final IslandSchematics islandSchematics = new IslandSchematics(this);
 
+  private MultiverseConfig multiverseConfig;
+  private MultiverseExecutors executors;
+  private WorldLifecycleManager worldLifecycleManager;
+  private MetricsReporter metricsReporter;
   private MultiverseAdapter adapter;
   private CommandFactory commandFactory;
 
   private MVWorldRepository mvWorldRepository;
+  private MVWorldWriteBehind mvWorldWriteBehind;
   private TeleportFactory teleportFactory;
   private JEPlatform platform;
 
@@ -53,13 +81,38 @@ public class Multiverse extends JavaPlugin {
    */
   @Override
   public void onEnable() {
+    this.saveDefaultConfig();
+    this.multiverseConfig = new MultiverseConfig(this.getConfig());
+    this.executors = new MultiverseExecutors(this.multiverseConfig);
+    this.worldRegistry.addListener(this.spawnIndex);
+    this.worldRegistry.addListener(this.worldNameIndex);
+    Bukkit.getWorlds().forEach(world -> this.worldNameIndex.setLoaded(world.getName(), true));
+
     this.adapter = new MultiverseAdapter(this);
     Bukkit.getServer().getServicesManager()
       .register(MultiverseAdapter.class, this.adapter, this, ServicePriority.Normal);
 
     this.commandFactory = new CommandFactory(this);
     this.teleportFactory = new TeleportFactory(this.platform);
-    this.mvWorldRepository = new MVWorldRepository(this.executor, this.platform.getEntityManagerFactory());
+    this.mvWorldRepository = new MVWorldRepository(
+      this.executors.getIoExecutor(),
+      this.platform.getEntityManagerFactory(),
+      this.metrics
+    );
+    this.mvWorldWriteBehind = new MVWorldWriteBehind(
+      this.mvWorldRepository,
+      this.executors.getIoExecutor(),
+      this.multiverseConfig.getWriteBehindWindowMillis(),
+      throwable -> this.getPlatformLogger().logDebug("Failed to write world changes, retrying with the next flush", throwable),
+      (droppedWorlds, throwable) -> this.getLogger().log(
+        Level.SEVERE,
+        "Dropped the changes of " + droppedWorlds.stream().map(MVWorld::getIdentifier).toList() + " after " +
+          MVWorldWriteBehind.MAX_ATTEMPTS + " failed writes",
+        throwable
+      )
+    );
+    if (!this.migrateSpawnLocations())
+      return;
 
     // Register commands and listeners
     this.commandFactory.registerAllCommandsAndListeners();
@@ -73,7 +126,21 @@ public class Multiverse extends JavaPlugin {
     }).with(new MultiverseEditorView()).register();
 
     // Load worlds from the repository
-    new WorldManager(this).loadWorlds();
+    final WorldManager worldManager = new WorldManager(this);
+    this.worldLifecycleManager = new WorldLifecycleManager(this, worldManager);
+    new WorldDeletionPipeline(this).cleanTrash();
+    worldManager.loadWorlds();
+    this.worldLifecycleManager.start();
+    this.chunkPregenerator.resumeAll();
+    this.registerGauges();
+    if (this.multiverseConfig.getMetricsWriteIntervalSeconds() > 0) {
+      this.metricsReporter = new MetricsReporter(
+        this,
+        this.metrics,
+        this.getDataFolder().toPath().resolve(this.multiverseConfig.getMetricsFile())
+      );
+      this.metricsReporter.start(this.multiverseConfig.getMetricsWriteIntervalSeconds());
+    }
 
     this.getPlatformLogger().logInfo("Multiverse is enabled!");
   }
@@ -85,6 +152,85 @@ public class Multiverse extends JavaPlugin {
   @Override
   public void onDisable() {
     this.getPlatformLogger().logInfo("Multiverse is disabling...");
+    this.chunkPregenerator.shutdown();
+    this.plotResetEngine.shutdown();
+    if (this.worldLifecycleManager != null) {
+      this.worldLifecycleManager.stop();
+      this.getPlatformLogger().logDebug("World lifecycle: " + this.worldLifecycleManager.getStatistics());
+    }
+    this.getPlatformLogger().logDebug("Teleport chunk pre-warming: " + this.chunkPrewarmer.getStatistics());
+    this.getPlatformLogger().logDebug(
+      "Spawn index resolved " + this.spawnIndex.getHits() + " spawns, " + this.spawnIndex.getFallbacks() + " fell back to the vanilla world spawn"
+    );
+    if (this.mvWorldWriteBehind != null) {
+      try {
+        this.mvWorldWriteBehind.flush();
+      } catch (final RuntimeException exception) {
+        this.getPlatformLogger().logInfo("Failed to write " + this.mvWorldWriteBehind.getStatistics().pendingWorlds() + " pending world changes");
+        this.getPlatformLogger().logDebug("Failed to flush pending world changes", exception);
+      }
+      this.getPlatformLogger().logDebug("World write-behind: " + this.mvWorldWriteBehind.getStatistics());
+    }
+    if (this.metricsReporter != null)
+      this.metricsReporter.stop();
+    if (this.mvWorldRepository != null)
+      this.getPlatformLogger().logDebug("World read model: " + this.mvWorldRepository.getStatistics());
+
+    if (this.executors != null) {
+      this.executors.getStatistics().forEach(statistics -> this.getPlatformLogger().logDebug("Executor " + statistics));
+      if (!this.executors.shutdown())
+        this.getPlatformLogger().logInfo("Some background tasks did not finish in time and were cancelled");
+    }
+  }
+
+  /**
+   * Exposes the statistics the components already track as gauges of the {@link MetricsRegistry}.
+   */
+  private void registerGauges() {
+    for (InstrumentedExecutorService executor : List.of(this.executors.getIoExecutor(), this.executors.getCpuExecutor())) {
+      final String prefix = "executor." + executor.getName() + ".";
+      this.metrics.gauge(prefix + "queue_depth", () -> executor.getStatistics().queueDepth());
+      this.metrics.gauge(prefix + "active_tasks", () -> executor.getStatistics().activeTasks());
+      this.metrics.gauge(prefix + "average_queue_millis", () -> executor.getStatistics().averageQueueMillis());
+    }
+    this.metrics.gauge("worlds.registered", () -> this.worldRegistry.snapshot().size());
+    this.metrics.gauge("worlds.loaded", () -> this.worldRegistry.snapshot().getLoaded().size());
+    this.metrics.gauge("world_name_index.size", this.worldNameIndex::size);
+    this.metrics.gauge("spawn_index.hits", this.spawnIndex::getHits);
+    this.metrics.gauge("spawn_index.fallbacks", this.spawnIndex::getFallbacks);
+    this.metrics.gauge("write_behind.pending", () -> this.mvWorldWriteBehind.getStatistics().pendingWorlds());
+    this.metrics.gauge("write_behind.coalescing_ratio", () -> this.mvWorldWriteBehind.getStatistics().coalescingRatio());
+    this.metrics.gauge("plot_reset.queued_chunks", this.plotResetEngine::getQueuedChunks);
+    this.metrics.gauge("plot_reset.blocks_per_tick", this.plotResetEngine::getBlocksPerTick);
+  }
+
+  /**
+   * Converts spawn locations stored by earlier versions into numeric columns before any world is read.
+   * <p>
+   * A failed migration leaves the world table in an unknown state, so the plugin is disabled instead of loading
+   * worlds with missing spawn points.
+   * </p>
+   *
+   * @return {@code true} if the migration succeeded or had nothing to do, {@code false} if the plugin was disabled.
+   */
+  private boolean migrateSpawnLocations() {
+    try {
+      final SpawnLocationMigration.Result result = new SpawnLocationMigration(this.platform.getEntityManagerFactory()).migrate();
+      if (result != null) {
+        this.getPlatformLogger().logInfo(
+          "Migrated " + result.migratedRows() + " spawn locations to numeric columns, " + result.skippedRows() + " could not be parsed"
+        );
+        if (result.skippedRows() > 0)
+          this.getPlatformLogger().logInfo(
+            "The unparsable spawn locations were copied to " + SpawnLocationMigration.BACKUP_TABLE + ", those worlds use their world spawn"
+          );
+      }
+      return true;
+    } catch (final RuntimeException exception) {
+      this.getLogger().log(Level.SEVERE, "Failed to migrate spawn locations, disabling Multiverse", exception);
+      Bukkit.getPluginManager().disablePlugin(this);
+      return false;
+    }
   }
 
   /**
@@ -96,6 +242,24 @@ public class Multiverse extends JavaPlugin {
     return this.platform.getLogger();
   }
 
+  /**
+   * Retrieves the typed plugin configuration.
+   *
+   * @return The {@link MultiverseConfig} instance.
+   */
+  public MultiverseConfig getMultiverseConfig() {
+    return this.multiverseConfig;
+  }
+
+  /**
+   * Retrieves the {@link MetricsRegistry} holding the plugin's performance metrics.
+   *
+   * @return The {@link MetricsRegistry} instance.
+   */
+  public MetricsRegistry getMetrics() {
+    return this.metrics;
+  }
+
   /**
    * Retrieves the {@link MVWorldRepository} used to manage worlds in storage.
    *
@@ -105,6 +269,15 @@ public class Multiverse extends JavaPlugin {
     return this.mvWorldRepository;
   }
 
+  /**
+   * Retrieves the {@link MVWorldWriteBehind} collecting world changes before they are written to storage.
+   *
+   * @return The {@link MVWorldWriteBehind} instance.
+   */
+  public MVWorldWriteBehind getMvWorldWriteBehind() {
+    return this.mvWorldWriteBehind;
+  }
+
   /**
    * Retrieves the {@link TeleportFactory} used for managing teleportation-related tasks.
    *
@@ -124,12 +297,30 @@ public class Multiverse extends JavaPlugin {
   }
 
   /**
-   * Retrieves the {@link ExecutorService} used to perform asynchronous operations.
+   * Retrieves the {@link ExecutorService} used for blocking asynchronous operations such as database and file access.
    *
-   * @return The {@link ExecutorService} instance.
+   * @return The I/O {@link ExecutorService} instance.
    */
   public ExecutorService getExecutor() {
-    return this.executor;
+    return this.executors.getIoExecutor();
+  }
+
+  /**
+   * Retrieves the bounded {@link ExecutorService} used for CPU-bound asynchronous operations.
+   *
+   * @return The CPU {@link ExecutorService} instance.
+   */
+  public ExecutorService getCpuExecutor() {
+    return this.executors.getCpuExecutor();
+  }
+
+  /**
+   * Retrieves the {@link MultiverseExecutors} owning all executors and their statistics.
+   *
+   * @return The {@link MultiverseExecutors} instance.
+   */
+  public MultiverseExecutors getExecutors() {
+    return this.executors;
   }
 
   /**
@@ -151,12 +342,84 @@ public class Multiverse extends JavaPlugin {
   }
 
   /**
-   * Retrieves the map of loaded worlds keyed by their identifiers.
+   * Retrieves the {@link WorldRegistry} holding all registered worlds keyed by their identifiers.
+   *
+   * @return The {@link WorldRegistry} instance.
+   */
+  public WorldRegistry getWorldRegistry() {
+    return this.worldRegistry;
+  }
+
+  /**
+   * Retrieves the {@link SpawnIndex} used to resolve spawn locations without database access.
+   *
+   * @return The {@link SpawnIndex} instance.
+   */
+  public SpawnIndex getSpawnIndex() {
+    return this.spawnIndex;
+  }
+
+  /**
+   * Retrieves the {@link WorldNameIndex} used to complete the names of registered and loaded worlds.
+   *
+   * @return The {@link WorldNameIndex} instance.
+   */
+  public WorldNameIndex getWorldNameIndex() {
+    return this.worldNameIndex;
+  }
+
+  /**
+   * Retrieves the {@link WorldLifecycleManager} loading worlds on demand and unloading idle ones.
+   *
+   * @return The {@link WorldLifecycleManager} instance.
+   */
+  public WorldLifecycleManager getWorldLifecycleManager() {
+    return this.worldLifecycleManager;
+  }
+
+  /**
+   * Retrieves the {@link ChunkPrewarmer} loading teleport destinations before players arrive.
+   *
+   * @return The {@link ChunkPrewarmer} instance.
+   */
+  public ChunkPrewarmer getChunkPrewarmer() {
+    return this.chunkPrewarmer;
+  }
+
+  /**
+   * Retrieves the {@link ChunkPregenerator} running the world pre-generations.
+   *
+   * @return The {@link ChunkPregenerator} instance.
+   */
+  public ChunkPregenerator getChunkPregenerator() {
+    return this.chunkPregenerator;
+  }
+
+  /**
+   * Retrieves the {@link PlotResetEngine} resetting plots to their generated state.
+   *
+   * @return The {@link PlotResetEngine} instance.
+   */
+  public PlotResetEngine getPlotResetEngine() {
+    return this.plotResetEngine;
+  }
+
+  /**
+   * Retrieves the {@link WorldBackups} managing the world snapshots.
+   *
+   * @return The {@link WorldBackups} instance.
+   */
+  public WorldBackups getWorldBackups() {
+    return this.worldBackups;
+  }
+
+  /**
+   * Retrieves the {@link IslandSchematics} shared by all island grid worlds.
    *
-   * @return A map of world identifier strings to {@link MVWorld} instances.
+   * @return The {@link IslandSchematics} instance.
    */
-  public Map<String, MVWorld> getWorlds() {
-    return this.worlds;
+  public IslandSchematics getIslandSchematics() {
+    return this.islandSchematics;
   }
 
   /**
@@ -1,6 +1,7 @@
 package de.jexcellence.multiverse.api;
 
 import de.jexcellence.multiverse.database.entity.MVWorld;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
@@ -39,6 +40,16 @@ public interface IMultiverseAdapter {
 		final @NotNull String worldName
 	);
 
+	/**
+	 * Ensures a registered world is loaded, loading it on demand if it is currently unloaded.
+	 *
+	 * @param worldName The name of the target world.
+	 * @return A {@link CompletableFuture} that completes with the loaded {@link World}, or null if the world is not registered.
+	 */
+	CompletableFuture<World> loadWorld(
+		final @NotNull String worldName
+	);
+
 	/**
 	 * Teleports the given player to a configured spawn, optionally sending a message.
 	 *
@@ -2,6 +2,7 @@ package de.jexcellence.multiverse.api;
 
 import de.jexcellence.multiverse.Multiverse;
 import de.jexcellence.multiverse.database.entity.MVWorld;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
@@ -21,17 +22,28 @@ public class MultiverseAdapter implements IMultiverseAdapter {
 	
 	@Override
 	public CompletableFuture<MVWorld> getGlobalMVWorld() {
-		return this.multiverse.getMvWorldRepository().findByGlobalSpawnAsync();
+		return this.multiverse.getMetrics().time("api.get_global_world", this.multiverse.getMvWorldRepository().findByGlobalSpawnAsync());
 	}
 	
 	@Override
 	public CompletableFuture<MVWorld> getMVWorld(final @NotNull String worldName) {
-		return this.multiverse.getMvWorldRepository().findByIdentifierAsync(worldName);
+		return this.multiverse.getMetrics().time("api.get_world", this.multiverse.getMvWorldRepository().findByIdentifierAsync(worldName));
 	}
 	
 	@Override
 	public CompletableFuture<Boolean> hasMultiverseSpawn(final @NotNull String worldName) {
-		return this.multiverse.getMvWorldRepository().findByIdentifierAsync(worldName).thenApplyAsync(Objects::nonNull);
+		return this.multiverse.getMetrics().time(
+			"api.has_multiverse_spawn",
+			this.multiverse.getMvWorldRepository().findByIdentifierAsync(worldName).thenApply(Objects::nonNull)
+		);
+	}
+	
+	@Override
+	public CompletableFuture<World> loadWorld(final @NotNull String worldName) {
+		return this.multiverse.getMetrics().time("api.load_world", this.getMVWorld(worldName).thenCompose(mvWorld -> mvWorld == null
+			? CompletableFuture.<World>completedFuture(null)
+			: this.multiverse.getWorldLifecycleManager().ensureLoaded(mvWorld)
+		));
 	}
 	
 	@Override
@@ -39,23 +51,21 @@ public class MultiverseAdapter implements IMultiverseAdapter {
 			final @NotNull Player player,
 			final @NotNull String message
 	) {
-		return this.getGlobalMVWorld().thenApplyAsync(mvWorld -> {
-			if (mvWorld == null) {
-				this.getMVWorld(player.getWorld().getName()).thenApplyAsync(alternateWorld -> {
-					if (alternateWorld == null)
-						return false;
-					
-					this.multiverse.getTeleportFactory().teleport(player, alternateWorld.getSpawnLocation(), message, Map.of("world_name", alternateWorld.getIdentifier()));
-					return true;
-				}, this.multiverse.getExecutor());
-			}
-			
-			if (mvWorld != null) {
-				this.multiverse.getTeleportFactory().teleport(player, mvWorld.getSpawnLocation(), message, Map.of("world_name", mvWorld.getIdentifier()));
-				return true;
-			}
-			
-			return false;
-		}, this.multiverse.getExecutor());
+		return this.multiverse.getMetrics().time("api.spawn", this.getGlobalMVWorld()
+			.thenCompose(mvWorld -> mvWorld != null
+				? CompletableFuture.completedFuture(mvWorld)
+				: this.getMVWorld(player.getWorld().getName())
+			)
+			.thenCompose(mvWorld -> {
+				if (mvWorld == null)
+					return CompletableFuture.completedFuture(false);
+				
+				return this.multiverse.getWorldLifecycleManager().resolveSpawn(mvWorld)
+					.thenCompose(this.multiverse.getChunkPrewarmer()::prewarm)
+					.thenApply(spawnLocation -> {
+						this.multiverse.getTeleportFactory().teleport(player, spawnLocation, message, Map.of("world_name", mvWorld.getIdentifier()));
+						return true;
+					});
+			}));
 	}
 }
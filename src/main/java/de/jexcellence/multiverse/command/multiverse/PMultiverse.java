@@ -5,14 +5,18 @@ import de.jexcellence.commands.utility.Command;
 import de.jexcellence.je18n.i18n.I18n;
 import de.jexcellence.multiverse.Multiverse;
 import de.jexcellence.multiverse.database.entity.MVWorld;
+import de.jexcellence.multiverse.generator.plotgenerator.PlotChunkGenerator;
+import de.jexcellence.multiverse.generator.plotgenerator.PlotLayout;
+import de.jexcellence.multiverse.metrics.MetricsRegistry;
 import de.jexcellence.multiverse.type.MVWorldType;
 import de.jexcellence.multiverse.ui.MultiverseEditorView;
+import de.jexcellence.multiverse.utility.BatchWorldCreator;
 import de.jexcellence.multiverse.utility.WorldManager;
 import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
-import org.bukkit.util.StringUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -24,8 +28,12 @@ import java.util.stream.Collectors;
 @Command
 public class PMultiverse extends PlayerCommand {
 
+  static final String BACKUP_LIST = "list";
+  static final String PREGEN_CANCEL = "cancel";
+
   private final WorldManager worldManager;
   private final Multiverse multiverse;
+  private final PMultiverseTabCompleter tabCompleter;
 
   /**
    * Constructs a new PMultiverse command.
@@ -40,6 +48,7 @@ public class PMultiverse extends PlayerCommand {
     super(commandSection);
     this.multiverse = multiverse;
     this.worldManager = new WorldManager(this.multiverse);
+    this.tabCompleter = new PMultiverseTabCompleter(this.multiverse.getWorldNameIndex());
   }
 
   /**
@@ -72,6 +81,13 @@ public class PMultiverse extends PlayerCommand {
       return;
     }
 
+    if (
+      action.equals(PMultiverseAction.STATS)
+    ) {
+      this.handleStats(player);
+      return;
+    }
+
     final String identifier = this.stringParameter(args, 1);
     this.handleAction(action, player, args, identifier);
   }
@@ -94,7 +110,90 @@ public class PMultiverse extends PlayerCommand {
     final World.Environment environment = this.getOptionalEnum(args, 2, World.Environment.class, World.Environment.NORMAL);
     final MVWorldType worldType = this.getOptionalEnum(args, 3, MVWorldType.class, MVWorldType.DEFAULT);
 
-    this.worldManager.createWorld(worldIdentifier, environment, worldType, player, false);
+    this.worldManager.createWorld(worldIdentifier, environment, worldType, this.getOptionalPreset(args), player, false);
+  }
+
+  /**
+   * Backs up a world or lists its backups.
+   *
+   * @param player          The player requesting the backup.
+   * @param worldIdentifier The world identifier.
+   * @param args            Additional command arguments, {@code list} to list the backups.
+   */
+  private void handleBackup(
+    final Player player,
+    final String worldIdentifier,
+    final String[] args
+  ) {
+    if (
+      this.hasNoPermission(player, PMultiversePermission.BACKUP)
+    ) return;
+
+    if (args.length > 2 && args[2].equalsIgnoreCase(BACKUP_LIST)) {
+      this.multiverse.getWorldBackups().list(worldIdentifier, player);
+      return;
+    }
+
+    this.multiverse.getWorldBackups().backup(worldIdentifier, player);
+  }
+
+  /**
+   * Creates many worlds at once from a comma separated list or a pattern such as {@code event_{1..50}}.
+   *
+   * @param player  The player requesting the batch creation.
+   * @param pattern The identifier list or pattern.
+   * @param args    Additional command arguments.
+   */
+  private void handleBatchCreate(
+    final Player player,
+    final String pattern,
+    final String[] args
+  ) {
+    if (
+      this.hasNoPermission(player, PMultiversePermission.BATCH_CREATE)
+    ) return;
+
+    final List<String> identifiers = BatchWorldCreator.expandIdentifiers(pattern);
+    if (identifiers == null) {
+      new I18n.Builder("multiverse.batch_creation_invalid", player)
+        .includingPrefix()
+        .withPlaceholders(Map.of(
+          "pattern", pattern,
+          "max_batch_size", BatchWorldCreator.MAX_BATCH_SIZE
+        ))
+        .build()
+        .send();
+      return;
+    }
+
+    final World.Environment environment = this.getOptionalEnum(args, 2, World.Environment.class, World.Environment.NORMAL);
+    final MVWorldType worldType = this.getOptionalEnum(args, 3, MVWorldType.class, MVWorldType.DEFAULT);
+
+    this.worldManager.createWorlds(identifiers, environment, worldType, this.getOptionalPreset(args), player);
+  }
+
+  /**
+   * Copies an existing world into a new world.
+   *
+   * @param player           The player requesting the clone.
+   * @param sourceIdentifier The identifier of the world to copy.
+   * @param args             Additional command arguments, the identifier of the new world.
+   */
+  private void handleClone(
+    final Player player,
+    final String sourceIdentifier,
+    final String[] args
+  ) {
+    if (
+      this.hasNoPermission(player, PMultiversePermission.CLONE)
+    ) return;
+
+    if (args.length < 3) {
+      this.help(player);
+      return;
+    }
+
+    this.worldManager.cloneWorld(sourceIdentifier, args[2], player);
   }
 
   /**
@@ -140,7 +239,7 @@ public class PMultiverse extends PlayerCommand {
             )
           );
         });
-      }
+      }, this.multiverse.getExecutor()
     );
   }
 
@@ -163,7 +262,7 @@ public class PMultiverse extends PlayerCommand {
     final World.Environment environment = this.getOptionalEnum(args, 2, World.Environment.class, World.Environment.NORMAL);
     final MVWorldType worldType = this.getOptionalEnum(args, 3, MVWorldType.class, MVWorldType.DEFAULT);
 
-    this.worldManager.createWorld(worldIdentifier, environment, worldType, player, true);
+    this.worldManager.createWorld(worldIdentifier, environment, worldType, this.getOptionalPreset(args), player, true);
   }
 
   /**
@@ -185,6 +284,278 @@ public class PMultiverse extends PlayerCommand {
     this.worldManager.loadWorlds();
   }
 
+  /**
+   * Starts or cancels the chunk pre-generation of a world.
+   *
+   * @param player          The player requesting the pre-generation.
+   * @param worldIdentifier The world identifier.
+   * @param args            Additional command arguments, the radius in chunks or {@code cancel}.
+   */
+  private void handlePregen(
+    final Player player,
+    final String worldIdentifier,
+    final String[] args
+  ) {
+    if (
+      this.hasNoPermission(player, PMultiversePermission.PREGEN)
+    ) return;
+
+    if (args.length > 2 && args[2].equalsIgnoreCase(PREGEN_CANCEL)) {
+      new I18n.Builder(
+        this.multiverse.getChunkPregenerator().cancel(worldIdentifier)
+          ? "multiverse.pregeneration_cancelled"
+          : "multiverse.pregeneration_not_running",
+        player
+      )
+        .includingPrefix()
+        .withPlaceholder("world_name", worldIdentifier)
+        .build()
+        .send();
+      return;
+    }
+
+    final MVWorld mvWorld = this.multiverse.getWorldRegistry().get(worldIdentifier);
+    if (mvWorld == null) {
+      new I18n.Builder("multiverse.world_doesnt_exist", player)
+        .includingPrefix()
+        .withPlaceholder("world_name", worldIdentifier)
+        .build()
+        .send();
+      return;
+    }
+
+    final int maxRadius = this.multiverse.getMultiverseConfig().getPregenerationMaxRadius();
+    int radius = -1;
+    if (args.length > 2) {
+      try {
+        radius = Integer.parseInt(args[2]);
+      } catch (final NumberFormatException ignored) {
+        // reported below
+      }
+    }
+    if (radius < 1 || radius > maxRadius) {
+      new I18n.Builder("multiverse.pregeneration_invalid_radius", player)
+        .includingPrefix()
+        .withPlaceholders(Map.of("max_radius", maxRadius))
+        .build()
+        .send();
+      return;
+    }
+
+    final int pregenerationRadius = radius;
+    this.multiverse.getWorldLifecycleManager().ensureLoaded(mvWorld).whenComplete((world, throwable) -> {
+      if (throwable != null) {
+        new I18n.Builder("multiverse.world_load_failed", player)
+          .includingPrefix()
+          .withPlaceholder("world_name", worldIdentifier)
+          .build()
+          .send();
+        return;
+      }
+
+      this.multiverse.getChunkPregenerator().start(world, pregenerationRadius, player);
+    });
+  }
+
+  /**
+   * Resets a plot of a plot world to its generated state, either the plot with the given indices or the plot the
+   * player stands in.
+   *
+   * @param player          The player requesting the reset.
+   * @param worldIdentifier The world identifier.
+   * @param args            Additional command arguments, optionally the plot indices along the X and Z axis.
+   */
+  private void handleResetPlot(
+    final Player player,
+    final String worldIdentifier,
+    final String[] args
+  ) {
+    if (
+      this.hasNoPermission(player, PMultiversePermission.RESET_PLOT)
+    ) return;
+
+    final MVWorld mvWorld = this.multiverse.getWorldRegistry().get(worldIdentifier);
+    if (mvWorld == null) {
+      new I18n.Builder("multiverse.world_doesnt_exist", player)
+        .includingPrefix()
+        .withPlaceholder("world_name", worldIdentifier)
+        .build()
+        .send();
+      return;
+    }
+
+    this.multiverse.getWorldLifecycleManager().ensureLoaded(mvWorld).whenComplete((world, throwable) -> {
+      if (throwable != null) {
+        new I18n.Builder("multiverse.world_load_failed", player)
+          .includingPrefix()
+          .withPlaceholder("world_name", worldIdentifier)
+          .build()
+          .send();
+        return;
+      }
+
+      if (!(world.getGenerator() instanceof PlotChunkGenerator plotChunkGenerator)) {
+        new I18n.Builder("multiverse.plot_reset_not_a_plot_world", player)
+          .includingPrefix()
+          .withPlaceholder("world_name", worldIdentifier)
+          .build()
+          .send();
+        return;
+      }
+
+      final PlotLayout plotLayout = plotChunkGenerator.getPlotLayout();
+      final int[] plot = getPlotIndices(args, player, world, plotLayout);
+      if (plot == null) {
+        new I18n.Builder("multiverse.plot_reset_invalid_plot", player)
+          .includingPrefix()
+          .withPlaceholder("world_name", worldIdentifier)
+          .build()
+          .send();
+        return;
+      }
+
+      this.multiverse.getPlotResetEngine().reset(world, plotLayout, plot[0], plot[1], player);
+    });
+  }
+
+  /**
+   * Determines the plot to reset from the arguments, or from the player's position if no indices are given.
+   *
+   * @return the plot indices along the X and Z axis, or {@code null} if the arguments are no numbers or the player
+   * stands in another world.
+   */
+  private static int @Nullable [] getPlotIndices(
+    final String[] args,
+    final Player player,
+    final World world,
+    final PlotLayout plotLayout
+  ) {
+    if (args.length > 3) {
+      try {
+        return new int[]{Integer.parseInt(args[2]), Integer.parseInt(args[3])};
+      } catch (final NumberFormatException exception) {
+        return null;
+      }
+    }
+
+    if (!player.getWorld().equals(world))
+      return null;
+    return new int[]{
+      plotLayout.getPlotIndex(player.getLocation().getBlockX()),
+      plotLayout.getPlotIndex(player.getLocation().getBlockZ())
+    };
+  }
+
+  /**
+   * Restores a backup of a world into a new world.
+   *
+   * @param player          The player requesting the restore.
+   * @param worldIdentifier The identifier of the backed up world.
+   * @param args            Additional command arguments, the snapshot and the identifier of the new world.
+   */
+  private void handleRestore(
+    final Player player,
+    final String worldIdentifier,
+    final String[] args
+  ) {
+    if (
+      this.hasNoPermission(player, PMultiversePermission.RESTORE)
+    ) return;
+
+    if (args.length < 4) {
+      this.help(player);
+      return;
+    }
+
+    this.multiverse.getWorldBackups().restore(worldIdentifier, args[2], args[3], this.worldManager, player);
+  }
+
+  /**
+   * Shows the performance metrics of the plugin: every timer that recorded at least once, then all counters and
+   * gauges.
+   *
+   * @param player The player requesting the statistics.
+   */
+  private void handleStats(
+    final Player player
+  ) {
+    if (
+      this.hasNoPermission(player, PMultiversePermission.STATS)
+    ) return;
+
+    final MetricsRegistry.Snapshot snapshot = this.multiverse.getMetrics().snapshot();
+    new I18n.Builder("multiverse.stats_header", player)
+      .includingPrefix()
+      .build()
+      .send();
+
+    snapshot.timers().forEach((name, timer) -> {
+      if (timer.count() == 0)
+        return;
+
+      new I18n.Builder("multiverse.stats_timer", player)
+        .withPlaceholders(Map.of(
+          "metric", name,
+          "count", timer.count(),
+          "mean", formatMetric(timer.meanMillis()),
+          "p50", formatMetric(timer.p50Millis()),
+          "p95", formatMetric(timer.p95Millis()),
+          "p99", formatMetric(timer.p99Millis()),
+          "max", formatMetric(timer.maxMillis())
+        ))
+        .build()
+        .send();
+    });
+
+    final Map<String, Number> values = new TreeMap<>(snapshot.gauges());
+    values.putAll(snapshot.counters());
+    values.forEach((name, value) -> new I18n.Builder("multiverse.stats_value", player)
+      .withPlaceholders(Map.of(
+        "metric", name,
+        "value", formatMetric(value)
+      ))
+      .build()
+      .send());
+  }
+
+  /**
+   * Saves the region files of a world as the template for new worlds of its type.
+   *
+   * @param player          The player requesting the template.
+   * @param worldIdentifier The world identifier.
+   */
+  private void handleTemplate(
+    final Player player,
+    final String worldIdentifier
+  ) {
+    if (
+      this.hasNoPermission(player, PMultiversePermission.TEMPLATE)
+    ) return;
+
+    final MVWorld mvWorld = this.multiverse.getWorldRegistry().get(worldIdentifier);
+    if (mvWorld == null) {
+      new I18n.Builder("multiverse.world_doesnt_exist", player)
+        .includingPrefix()
+        .withPlaceholder("world_name", worldIdentifier)
+        .build()
+        .send();
+      return;
+    }
+
+    this.multiverse.getWorldLifecycleManager().ensureLoaded(mvWorld).whenComplete((world, throwable) -> {
+      if (throwable != null) {
+        new I18n.Builder("multiverse.world_load_failed", player)
+          .includingPrefix()
+          .withPlaceholder("world_name", worldIdentifier)
+          .build()
+          .send();
+        return;
+      }
+
+      this.worldManager.saveTemplate(world, mvWorld, player);
+    });
+  }
+
   /**
    * Teleports a player to the specified world.
    *
@@ -200,7 +571,18 @@ public class PMultiverse extends PlayerCommand {
     ) return;
 
     this.multiverse.getMvWorldRepository().findByIdentifierAsync(worldIdentifier).thenAcceptAsync(
-      mvWorld -> this.worldManager.teleport(mvWorld, player)
+      mvWorld -> {
+        if (mvWorld == null) {
+          new I18n.Builder("multiverse.world_doesnt_exist", player)
+            .includingPrefix()
+            .withPlaceholder("world_name", worldIdentifier)
+            .build()
+            .send();
+          return;
+        }
+
+        this.worldManager.teleport(mvWorld, player);
+      }
     , this.multiverse.getExecutor());
   }
 
@@ -214,7 +596,8 @@ public class PMultiverse extends PlayerCommand {
   }
 
   /**
-   * Provides tab-completion suggestions for this command.
+   * Provides tab-completion suggestions for this command. Paper clients are usually answered asynchronously by
+   * {@link de.jexcellence.multiverse.listener.OnAsyncTabComplete} before this is called.
    *
    * @param player The player requesting tab-completion.
    * @param label  The command label used.
@@ -227,24 +610,7 @@ public class PMultiverse extends PlayerCommand {
     final @NotNull String label,
     final String[] args
   ) {
-    final List<String> completions = new ArrayList<>();
-
-    if (args.length == 1) {
-      completions.addAll(getActionCompletions(args[0]));
-    } else if (args.length == 2) {
-      if (isCreateOrForceAction(args))
-        completions.add("world_" + UUID.randomUUID().toString().substring(24).replace("-", ""));
-      else
-        completions.addAll(getWorldNameCompletions(args[1]));
-    } else if (args.length == 3 && isCreateOrForceAction(args)) {
-      completions.addAll(getEnvironmentCompletions(args[2]));
-    } else if (args.length == 4 && isCreateOrForceAction(args)) {
-      completions.addAll(getWorldTypeCompletions(args[3]));
-    } else {
-      return List.of();
-    }
-
-    return completions;
+    return this.tabCompleter.complete(args);
   }
 
   private void handleAction(
@@ -254,11 +620,18 @@ public class PMultiverse extends PlayerCommand {
     final String identifier
   ) {
     switch (action) {
+      case BACKUP -> handleBackup(player, identifier, args);
+      case BATCH_CREATE -> handleBatchCreate(player, identifier, args);
+      case CLONE -> handleClone(player, identifier, args);
       case CREATE -> handleCreate(player, identifier, args);
       case DELETE -> handleDelete(player, identifier);
       case EDIT -> handleEdit(player, identifier);
       case FORCE_CREATION -> handleForceCreation(player, identifier, args);
       case LOAD -> handleLoad(player, identifier, args);
+      case PREGEN -> handlePregen(player, identifier, args);
+      case RESET_PLOT -> handleResetPlot(player, identifier, args);
+      case RESTORE -> handleRestore(player, identifier, args);
+      case TEMPLATE -> handleTemplate(player, identifier);
       case TELEPORT, TP -> handleTeleport(player, identifier);
 	    default -> help(player);
     }
@@ -276,41 +649,19 @@ public class PMultiverse extends PlayerCommand {
         defaultValue;
   }
 
-  private List<String> getActionCompletions(final String input) {
-    return StringUtil.copyPartialMatches(
-      input.toLowerCase(),
-      Arrays.stream(PMultiverseAction.values()).map(PMultiverseAction::name).map(String::toLowerCase).toList(),
-      new ArrayList<>()
-    );
-  }
-
-  private List<String> getWorldNameCompletions(final String input) {
-    return StringUtil.copyPartialMatches(
-      input.toLowerCase(),
-      Bukkit.getWorlds().stream().map(World::getName).toList(),
-      new ArrayList<>()
-    );
-  }
-
-  private List<String> getEnvironmentCompletions(final String input) {
-    return StringUtil.copyPartialMatches(
-      input.toLowerCase(),
-      Arrays.stream(World.Environment.values()).map(Enum::name).map(String::toLowerCase).toList(),
-      new ArrayList<>()
-    );
-  }
-
-  private List<String> getWorldTypeCompletions(final String input) {
-    return StringUtil.copyPartialMatches(
-      input.toLowerCase(),
-      Arrays.stream(MVWorldType.values()).map(MVWorldType::name).map(String::toLowerCase).toList(),
-      new ArrayList<>()
-    );
+  /**
+   * Retrieves the optional layer preset of a flat world or schematic of an island grid world, following the world type.
+   *
+   * @param args the command arguments.
+   * @return the preset or schematic, or {@code null} if none is given.
+   */
+  private @Nullable String getOptionalPreset(final String[] args) {
+    return args.length > 4 ? args[4] : null;
   }
 
-  private boolean isCreateOrForceAction(final String[] args) {
-    return args.length > 0 &&
-      (args[0].equalsIgnoreCase(PMultiverseAction.CREATE.name()) ||
-        args[0].equalsIgnoreCase(PMultiverseAction.FORCE_CREATION.name()));
+  private static String formatMetric(final Number value) {
+    if (value instanceof Double || value instanceof Float)
+      return String.format(Locale.ROOT, "%.2f", value.doubleValue());
+    return value.toString();
   }
-}
\ No newline at end of file
+}
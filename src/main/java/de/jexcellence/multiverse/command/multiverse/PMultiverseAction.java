@@ -5,6 +5,21 @@ package de.jexcellence.multiverse.command.multiverse;
  * such as creation, deletion, editing, forced creation, etc.
  */
 public enum PMultiverseAction {
+  /**
+   * Represents a request to back up a world or list its backups.
+   */
+  BACKUP,
+
+  /**
+   * Represents a request to create many worlds at once from a list or pattern of identifiers.
+   */
+  BATCH_CREATE,
+
+  /**
+   * Represents a request to copy an existing world into a new one.
+   */
+  CLONE,
+
   /**
    * Represents a request to create a new world.
    */
@@ -40,6 +55,31 @@ public enum PMultiverseAction {
    */
   LOAD,
 
+  /**
+   * Represents a request to pre-generate the chunks around a world's spawn.
+   */
+  PREGEN,
+
+  /**
+   * Represents a request to reset a plot of a plot world to its generated state.
+   */
+  RESET_PLOT,
+
+  /**
+   * Represents a request to restore a world backup into a new world.
+   */
+  RESTORE,
+
+  /**
+   * Represents a request to show the plugin's performance statistics.
+   */
+  STATS,
+
+  /**
+   * Saves a world's region files as the template for new worlds of its type.
+   */
+  TEMPLATE,
+
   /**
    * Represents a request to teleport to another world.
    */
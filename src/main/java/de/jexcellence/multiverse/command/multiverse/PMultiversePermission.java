@@ -10,6 +10,9 @@ import org.jetbrains.annotations.NotNull;
 public enum PMultiversePermission implements IPermissionNode {
 
 	MULTIVERSE("command", "multiverse.command"),
+	BACKUP("commandBackup", "multiverse.command.backup"),
+	BATCH_CREATE("commandBatchCreate", "multiverse.command.batch_create"),
+	CLONE("commandClone", "multiverse.command.clone"),
 	CREATE("commandCreate", "multiverse.command.create"),
 	DELETE("commandDelete", "multiverse.command.delete"),
 	EDIT("commandEdit", "multiverse.command.edit"),
@@ -17,6 +20,11 @@ public enum PMultiversePermission implements IPermissionNode {
 	HELP("commandHelp", "multiverse.command.help"),
 	LIST("commandList", "multiverse.command.list"),
 	LOAD("commandLoad", "multiverse.command.load"),
+	PREGEN("commandPregen", "multiverse.command.pregen"),
+	RESET_PLOT("commandResetPlot", "multiverse.command.reset_plot"),
+	RESTORE("commandRestore", "multiverse.command.restore"),
+	STATS("commandStats", "multiverse.command.stats"),
+	TEMPLATE("commandTemplate", "multiverse.command.template"),
 	TELEPORT("commandTeleport", "multiverse.command.teleport");
 
 	private final String internalName;
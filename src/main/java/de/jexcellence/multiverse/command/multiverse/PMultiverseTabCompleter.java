@@ -0,0 +1,101 @@
+package de.jexcellence.multiverse.command.multiverse;
+
+import de.jexcellence.multiverse.generator.flatgenerator.FlatLayerPreset;
+import de.jexcellence.multiverse.generator.islandgenerator.IslandGridSettings;
+import de.jexcellence.multiverse.type.MVWorldType;
+import de.jexcellence.multiverse.utility.WorldNameIndex;
+import org.bukkit.World;
+import org.bukkit.util.StringUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Computes the tab completions of the {@link PMultiverse} command.
+ * <p>
+ * The sub-command, environment and world type lists are built once, and world names are looked up in the
+ * {@link WorldNameIndex}, so a completion only copies the few matching entries. It reads no server state and is
+ * therefore safe to call off the main thread, e.g. from Paper's asynchronous tab completion.
+ * </p>
+ */
+public class PMultiverseTabCompleter {
+
+  private static final int MAX_WORLD_COMPLETIONS = 100;
+
+  private static final List<String> ACTION_COMPLETIONS = lowerCaseNames(PMultiverseAction.values());
+  private static final List<String> ENVIRONMENT_COMPLETIONS = lowerCaseNames(World.Environment.values());
+  private static final List<String> WORLD_TYPE_COMPLETIONS = lowerCaseNames(MVWorldType.values());
+  private static final List<String> BACKUP_COMPLETIONS = List.of(PMultiverse.BACKUP_LIST);
+  private static final List<String> FLAT_PRESET_COMPLETIONS = List.of(
+    FlatLayerPreset.DEFAULT_PRESET,
+    "bedrock,3*stone,52*sandstone",
+    "bedrock,59*stone,3*dirt,grass_block"
+  );
+  private static final List<String> ISLAND_SCHEMATIC_COMPLETIONS = List.of(IslandGridSettings.DEFAULT_SCHEMATIC);
+  private static final List<String> PREGEN_COMPLETIONS = List.of("100", "250", "500", PMultiverse.PREGEN_CANCEL);
+
+  private final WorldNameIndex worldNameIndex;
+
+  /**
+   * Constructs a new PMultiverseTabCompleter.
+   *
+   * @param worldNameIndex the index of the world names to complete.
+   */
+  public PMultiverseTabCompleter(final @NotNull WorldNameIndex worldNameIndex) {
+    this.worldNameIndex = worldNameIndex;
+  }
+
+  /**
+   * Provides the completions of the last argument.
+   *
+   * @param args the arguments typed after the command label, the last one being completed.
+   * @return the possible completions.
+   */
+  public @NotNull List<String> complete(final @NotNull String[] args) {
+    if (args.length == 1)
+      return matches(args[0], ACTION_COMPLETIONS);
+
+    final String action = args[0];
+    if (args.length == 2) {
+      if (action.equalsIgnoreCase(PMultiverseAction.BATCH_CREATE.name()))
+        return List.of("world_{1..10}");
+      if (isCreateOrForceAction(action))
+        return List.of("world_" + UUID.randomUUID().toString().substring(24).replace("-", ""));
+      return this.worldNameIndex.complete(args[1], MAX_WORLD_COMPLETIONS);
+    }
+
+    if (args.length == 3 && action.equalsIgnoreCase(PMultiverseAction.BACKUP.name()))
+      return matches(args[2], BACKUP_COMPLETIONS);
+    if (args.length == 3 && action.equalsIgnoreCase(PMultiverseAction.CLONE.name()))
+      return List.of(args[1] + "_copy");
+    if (args.length == 3 && action.equalsIgnoreCase(PMultiverseAction.PREGEN.name()))
+      return matches(args[2], PREGEN_COMPLETIONS);
+    if (args.length == 3 && isCreateOrForceAction(action))
+      return matches(args[2], ENVIRONMENT_COMPLETIONS);
+    if (args.length == 4 && isCreateOrForceAction(action))
+      return matches(args[3], WORLD_TYPE_COMPLETIONS);
+    if (args.length == 5 && isCreateOrForceAction(action) && args[3].equalsIgnoreCase(MVWorldType.FLAT.name()))
+      return matches(args[4], FLAT_PRESET_COMPLETIONS);
+    if (args.length == 5 && isCreateOrForceAction(action) && args[3].equalsIgnoreCase(MVWorldType.ISLAND_GRID.name()))
+      return matches(args[4], ISLAND_SCHEMATIC_COMPLETIONS);
+    return List.of();
+  }
+
+  private static List<String> matches(final String input, final List<String> candidates) {
+    return StringUtil.copyPartialMatches(input, candidates, new ArrayList<>());
+  }
+
+  private static boolean isCreateOrForceAction(final String action) {
+    return action.equalsIgnoreCase(PMultiverseAction.CREATE.name()) ||
+      action.equalsIgnoreCase(PMultiverseAction.FORCE_CREATION.name()) ||
+      action.equalsIgnoreCase(PMultiverseAction.BATCH_CREATE.name());
+  }
+
+  private static List<String> lowerCaseNames(final Enum<?>[] constants) {
+    return Arrays.stream(constants).map(constant -> constant.name().toLowerCase(Locale.ROOT)).toList();
+  }
+}
@@ -35,7 +35,10 @@ public class PSpawn extends PlayerCommand {
 			return;
 		}
 		this.multiverse.getAdapter().spawn(player, "spawn.teleporting_to_spawn").whenCompleteAsync((result, throwable) -> {
-			if (!result) {
+			if (throwable != null)
+				this.multiverse.getPlatformLogger().logDebug("Failed to teleport " + player.getName() + " to the spawn", throwable);
+
+			if (throwable != null || !result) {
 				new I18n.Builder("spawn.spawn_not_found", player).includingPrefix().build().send();
 			}
 		}, this.multiverse.getExecutor());
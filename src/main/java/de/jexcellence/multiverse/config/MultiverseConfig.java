@@ -0,0 +1,415 @@
+package de.jexcellence.multiverse.config;
+
+import de.jexcellence.multiverse.generator.biome.BiomeZoning;
+import de.jexcellence.multiverse.generator.flatgenerator.FlatLayerPreset;
+import de.jexcellence.multiverse.generator.islandgenerator.IslandGridSettings;
+import de.jexcellence.multiverse.type.BiomeZoneMode;
+import de.jexcellence.multiverse.type.WorldLifecycleMode;
+import org.bukkit.Registry;
+import org.bukkit.block.Biome;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typed view of the plugin's {@code config.yml}.
+ * <p>
+ * Values are read once when the plugin is enabled; missing or invalid entries fall back to sane defaults.
+ * </p>
+ */
+public class MultiverseConfig {
+
+  private final int worldLoadPageSize;
+  private final long worldLoadTickBudgetNanos;
+  private final int batchCreationWorldsPerTick;
+  private final int batchCreationPersistBatchSize;
+  private final boolean ioVirtualThreads;
+  private final int ioPoolSize;
+  private final int cpuPoolSize;
+  private final int cpuQueueCapacity;
+  private final long executorShutdownTimeoutMillis;
+  private final WorldLifecycleMode worldLifecycleMode;
+  private final long idleUnloadSeconds;
+  private final long idleCheckIntervalSeconds;
+  private final long estimatedChunkBytes;
+  private final boolean serverWideFlushFallback;
+  private final int teleportPrewarmRadius;
+  private final long teleportPrewarmTimeoutMillis;
+  private final int pregenerationMaxRadius;
+  private final int pregenerationMaxConcurrentChunks;
+  private final double pregenerationTargetMspt;
+  private final long pregenerationSaveIntervalNanos;
+  private final long pregenerationReportIntervalNanos;
+  private final long plotResetTickBudgetNanos;
+  private final long writeBehindWindowMillis;
+  private final long metricsWriteIntervalSeconds;
+  private final String metricsFile;
+  private final FlatLayerPreset flatWorldDefaultPreset;
+  private final BiomeZoning voidBiomeZoning;
+  private final BiomeZoning plotBiomeZoning;
+  private final IslandGridSettings islandGridDefaults;
+
+  /**
+   * Reads all settings from the given configuration section.
+   *
+   * @param config the root section of the plugin configuration.
+   */
+  public MultiverseConfig(final @NotNull ConfigurationSection config) {
+    this.worldLoadPageSize = Math.max(1, config.getInt("world-loading.page-size", 128));
+    this.worldLoadTickBudgetNanos = TimeUnit.MILLISECONDS.toNanos(
+      Math.max(1L, config.getLong("world-loading.tick-budget-millis", 20L))
+    );
+    this.batchCreationWorldsPerTick = Math.max(1, config.getInt("batch-creation.worlds-per-tick", 1));
+    this.batchCreationPersistBatchSize = Math.max(1, config.getInt("batch-creation.persist-batch-size", 50));
+    this.ioVirtualThreads = config.getBoolean("executors.io.virtual-threads", true);
+    this.ioPoolSize = Math.max(1, config.getInt("executors.io.pool-size", 8));
+    final int configuredCpuPoolSize = config.getInt("executors.cpu.pool-size", 0);
+    this.cpuPoolSize = configuredCpuPoolSize > 0
+      ? configuredCpuPoolSize
+      : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    this.cpuQueueCapacity = Math.max(1, config.getInt("executors.cpu.queue-capacity", 1024));
+    this.executorShutdownTimeoutMillis = TimeUnit.SECONDS.toMillis(
+      Math.max(0L, config.getLong("executors.shutdown-timeout-seconds", 10L))
+    );
+    this.worldLifecycleMode = parseEnum(config.getString("world-lifecycle.mode"), WorldLifecycleMode.class, WorldLifecycleMode.EAGER);
+    this.idleUnloadSeconds = Math.max(1L, config.getLong("world-lifecycle.idle-unload-seconds", 300L));
+    this.idleCheckIntervalSeconds = Math.max(1L, config.getLong("world-lifecycle.idle-check-interval-seconds", 30L));
+    this.estimatedChunkBytes = Math.max(0L, config.getLong("world-lifecycle.estimated-chunk-kilobytes", 200L)) * 1024L;
+    this.serverWideFlushFallback = config.getBoolean("world-lifecycle.server-wide-flush-fallback", false);
+    this.teleportPrewarmRadius = Math.max(-1, config.getInt("teleport.prewarm-radius", 2));
+    this.teleportPrewarmTimeoutMillis = Math.max(0L, config.getLong("teleport.prewarm-timeout-millis", 3000L));
+    this.pregenerationMaxRadius = Math.max(1, config.getInt("pregeneration.max-radius", 2000));
+    this.pregenerationMaxConcurrentChunks = Math.max(1, config.getInt("pregeneration.max-concurrent-chunks", 64));
+    this.pregenerationTargetMspt = Math.max(1.0, config.getDouble("pregeneration.target-mspt", 40.0));
+    this.pregenerationSaveIntervalNanos = TimeUnit.SECONDS.toNanos(
+      Math.max(1L, config.getLong("pregeneration.save-interval-seconds", 10L))
+    );
+    this.pregenerationReportIntervalNanos = TimeUnit.SECONDS.toNanos(
+      Math.max(1L, config.getLong("pregeneration.report-interval-seconds", 30L))
+    );
+    this.plotResetTickBudgetNanos = TimeUnit.MILLISECONDS.toNanos(
+      Math.max(1L, config.getLong("plot-reset.tick-budget-millis", 5L))
+    );
+    this.writeBehindWindowMillis = Math.max(0L, config.getLong("persistence.write-behind-millis", 500L));
+    this.metricsWriteIntervalSeconds = Math.max(0L, config.getLong("metrics.write-interval-seconds", 60L));
+    this.metricsFile = config.getString("metrics.file", "metrics.json");
+    this.flatWorldDefaultPreset = parsePreset(config.getString("flat-world.default-preset"));
+    this.voidBiomeZoning = parseBiomeZoning(config.getConfigurationSection("biome-zoning.void"), Biome.THE_VOID);
+    this.plotBiomeZoning = parseBiomeZoning(config.getConfigurationSection("biome-zoning.plot"), Biome.PLAINS);
+    final String islandGridSchematic = config.getString("island-grid.default-schematic", IslandGridSettings.DEFAULT_SCHEMATIC);
+    this.islandGridDefaults = new IslandGridSettings(
+      IslandGridSettings.isValidSchematicName(islandGridSchematic) ? islandGridSchematic : IslandGridSettings.DEFAULT_SCHEMATIC,
+      Math.max(16, config.getInt("island-grid.spacing", 256)),
+      config.getInt("island-grid.island-y", 64)
+    );
+  }
+
+  /**
+   * Retrieves the number of world records fetched from the database per page on startup.
+   *
+   * @return the page size.
+   */
+  public int getWorldLoadPageSize() {
+    return this.worldLoadPageSize;
+  }
+
+  /**
+   * Retrieves the main thread time that may be spent creating worlds per tick.
+   *
+   * @return the budget in nanoseconds.
+   */
+  public long getWorldLoadTickBudgetNanos() {
+    return this.worldLoadTickBudgetNanos;
+  }
+
+  /**
+   * Retrieves the number of worlds a batch creation may create per tick.
+   *
+   * @return the worlds per tick.
+   */
+  public int getBatchCreationWorldsPerTick() {
+    return this.batchCreationWorldsPerTick;
+  }
+
+  /**
+   * Retrieves the number of world rows persisted per transaction by a batch creation.
+   *
+   * @return the rows per transaction.
+   */
+  public int getBatchCreationPersistBatchSize() {
+    return this.batchCreationPersistBatchSize;
+  }
+
+  /**
+   * Retrieves whether blocking I/O runs on virtual threads.
+   *
+   * @return {@code true} if the I/O executor uses one virtual thread per task.
+   */
+  public boolean isIoVirtualThreads() {
+    return this.ioVirtualThreads;
+  }
+
+  /**
+   * Retrieves the number of platform threads of the I/O executor if virtual threads are disabled.
+   *
+   * @return the pool size.
+   */
+  public int getIoPoolSize() {
+    return this.ioPoolSize;
+  }
+
+  /**
+   * Retrieves the number of threads of the CPU executor, by default one less than the available processors.
+   *
+   * @return the pool size.
+   */
+  public int getCpuPoolSize() {
+    return this.cpuPoolSize;
+  }
+
+  /**
+   * Retrieves the number of tasks the CPU executor queues before submitters run tasks themselves.
+   *
+   * @return the queue capacity.
+   */
+  public int getCpuQueueCapacity() {
+    return this.cpuQueueCapacity;
+  }
+
+  /**
+   * Retrieves the time each executor is given to finish its tasks when the plugin is disabled.
+   *
+   * @return the timeout in milliseconds.
+   */
+  public long getExecutorShutdownTimeoutMillis() {
+    return this.executorShutdownTimeoutMillis;
+  }
+
+  /**
+   * Retrieves when registered worlds are loaded and unloaded.
+   *
+   * @return the lifecycle mode.
+   */
+  public @NotNull WorldLifecycleMode getWorldLifecycleMode() {
+    return this.worldLifecycleMode;
+  }
+
+  /**
+   * Retrieves how long a world has to be without players before it is unloaded in lazy mode.
+   *
+   * @return the idle time in seconds.
+   */
+  public long getIdleUnloadSeconds() {
+    return this.idleUnloadSeconds;
+  }
+
+  /**
+   * Retrieves how often idle worlds are looked for in lazy mode.
+   *
+   * @return the interval in seconds.
+   */
+  public long getIdleCheckIntervalSeconds() {
+    return this.idleCheckIntervalSeconds;
+  }
+
+  /**
+   * Retrieves the estimated heap held by one loaded chunk, used to report the heap saved by unloaded worlds.
+   *
+   * @return the estimate in bytes.
+   */
+  public long getEstimatedChunkBytes() {
+    return this.estimatedChunkBytes;
+  }
+
+  /**
+   * Retrieves whether {@code save-all flush} is used to flush a world before its files are read when the server
+   * offers no flushing save of a single world.
+   *
+   * @return whether the server-wide flush is used as fallback.
+   */
+  public boolean isServerWideFlushFallback() {
+    return this.serverWideFlushFallback;
+  }
+
+  /**
+   * Retrieves the radius in chunks loaded around a teleport destination before the player is moved.
+   *
+   * @return the radius, or {@code -1} if pre-warming is disabled.
+   */
+  public int getTeleportPrewarmRadius() {
+    return this.teleportPrewarmRadius;
+  }
+
+  /**
+   * Retrieves how long a teleport waits for its destination chunks before proceeding anyway.
+   *
+   * @return the timeout in milliseconds.
+   */
+  public long getTeleportPrewarmTimeoutMillis() {
+    return this.teleportPrewarmTimeoutMillis;
+  }
+
+  /**
+   * Retrieves the largest radius in chunks a pre-generation may cover.
+   *
+   * @return the maximum radius.
+   */
+  public int getPregenerationMaxRadius() {
+    return this.pregenerationMaxRadius;
+  }
+
+  /**
+   * Retrieves the upper bound of chunk requests a pre-generation keeps in flight.
+   *
+   * @return the maximum number of concurrent chunk requests.
+   */
+  public int getPregenerationMaxConcurrentChunks() {
+    return this.pregenerationMaxConcurrentChunks;
+  }
+
+  /**
+   * Retrieves the average tick time above which pre-generations reduce their concurrency.
+   *
+   * @return the target in milliseconds per tick.
+   */
+  public double getPregenerationTargetMspt() {
+    return this.pregenerationTargetMspt;
+  }
+
+  /**
+   * Retrieves how often the progress of a pre-generation is persisted.
+   *
+   * @return the interval in nanoseconds.
+   */
+  public long getPregenerationSaveIntervalNanos() {
+    return this.pregenerationSaveIntervalNanos;
+  }
+
+  /**
+   * Retrieves how often the progress of a pre-generation is reported.
+   *
+   * @return the interval in nanoseconds.
+   */
+  public long getPregenerationReportIntervalNanos() {
+    return this.pregenerationReportIntervalNanos;
+  }
+
+  /**
+   * Retrieves the main thread time that may be spent resetting plots per tick.
+   *
+   * @return the budget in nanoseconds.
+   */
+  public long getPlotResetTickBudgetNanos() {
+    return this.plotResetTickBudgetNanos;
+  }
+
+  /**
+   * Retrieves how long changes to a world are collected before they are written to the database.
+   *
+   * @return the window in milliseconds.
+   */
+  public long getWriteBehindWindowMillis() {
+    return this.writeBehindWindowMillis;
+  }
+
+  /**
+   * Retrieves how often the metrics are written to the metrics file.
+   *
+   * @return the interval in seconds, {@code 0} if the file is disabled.
+   */
+  public long getMetricsWriteIntervalSeconds() {
+    return this.metricsWriteIntervalSeconds;
+  }
+
+  /**
+   * Retrieves the path of the metrics file, relative to the plugin folder.
+   *
+   * @return the file path.
+   */
+  public @NotNull String getMetricsFile() {
+    return this.metricsFile;
+  }
+
+  /**
+   * Retrieves the layers of flat worlds created without a preset.
+   *
+   * @return the default preset.
+   */
+  public @NotNull FlatLayerPreset getFlatWorldDefaultPreset() {
+    return this.flatWorldDefaultPreset;
+  }
+
+  /**
+   * Retrieves the biome layout of void worlds.
+   *
+   * @return the biome zoning.
+   */
+  public @NotNull BiomeZoning getVoidBiomeZoning() {
+    return this.voidBiomeZoning;
+  }
+
+  /**
+   * Retrieves the biome layout of plot worlds. {@link BiomeZoneMode#PLOT} zones are aligned to the plot grid by the
+   * world manager.
+   *
+   * @return the biome zoning.
+   */
+  public @NotNull BiomeZoning getPlotBiomeZoning() {
+    return this.plotBiomeZoning;
+  }
+
+  /**
+   * Retrieves the settings of island grid worlds created without a schematic.
+   *
+   * @return the default island grid settings.
+   */
+  public @NotNull IslandGridSettings getIslandGridDefaults() {
+    return this.islandGridDefaults;
+  }
+
+  private static BiomeZoning parseBiomeZoning(final ConfigurationSection section, final Biome defaultBiome) {
+    if (section == null)
+      return BiomeZoning.single(defaultBiome);
+
+    final List<Biome> biomes = new ArrayList<>();
+    for (String name : section.getStringList("biomes")) {
+      final Biome biome = Registry.BIOME.match(name);
+      if (biome != null && biomes.size() < BiomeZoning.MAX_BIOMES)
+        biomes.add(biome);
+    }
+    if (biomes.isEmpty())
+      biomes.add(defaultBiome);
+
+    return new BiomeZoning(
+      parseEnum(section.getString("mode"), BiomeZoneMode.class, BiomeZoneMode.SINGLE),
+      biomes,
+      Math.max(1, section.getInt("zone-size", 256))
+    );
+  }
+
+  private static FlatLayerPreset parsePreset(final String value) {
+    if (value == null)
+      return FlatLayerPreset.parse(FlatLayerPreset.DEFAULT_PRESET);
+
+    try {
+      return FlatLayerPreset.parse(value);
+    } catch (final IllegalArgumentException exception) {
+      return FlatLayerPreset.parse(FlatLayerPreset.DEFAULT_PRESET);
+    }
+  }
+
+  private static <T extends Enum<T>> T parseEnum(final String value, final Class<T> type, final T defaultValue) {
+    if (value == null)
+      return defaultValue;
+
+    try {
+      return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+    } catch (final IllegalArgumentException exception) {
+      return defaultValue;
+    }
+  }
+}
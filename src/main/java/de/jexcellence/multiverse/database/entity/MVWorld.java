@@ -1,7 +1,6 @@
 package de.jexcellence.multiverse.database.entity;
 
 import de.jexcellence.hibernate.entity.AbstractEntity;
-import de.jexcellence.multiverse.database.converter.LocationConverter;
 import de.jexcellence.multiverse.type.MVWorldType;
 import jakarta.persistence.*;
 import org.bukkit.Location;
@@ -23,9 +22,8 @@ public class MVWorld extends AbstractEntity {
   @Column(name = "world_environment", nullable = false)
   private World.Environment environment;
 
-  @Convert(converter = LocationConverter.class)
-  @Column(name = "spawn_location", nullable = false, columnDefinition = "LONGTEXT")
-  private Location spawnLocation;
+  @Embedded
+  private SpawnPoint spawnPoint;
 
   @Column(name = "is_globalized_spawn", nullable = false)
   private boolean isGlobalizedSpawn;
@@ -36,6 +34,9 @@ public class MVWorld extends AbstractEntity {
   @Column(name = "enter_permission", nullable = false)
   private String enterPermission;
 
+  @Column(name = "generator_settings", length = 1024)
+  private String generatorSettings;
+
   // Default Constructor for JPA
   protected MVWorld() {}
 
@@ -43,10 +44,11 @@ public class MVWorld extends AbstractEntity {
     this.identifier = builder.identifier;
     this.type = builder.type;
     this.environment = builder.environment;
-    this.spawnLocation = builder.spawnLocation;
+    this.spawnPoint = SpawnPoint.of(builder.spawnLocation, builder.identifier);
     this.isGlobalizedSpawn = builder.isGlobalizedSpawn;
     this.isPvPEnabled = builder.isPvPEnabled;
     this.enterPermission = builder.enterPermission;
+    this.generatorSettings = builder.generatorSettings;
   }
 
   public static class Builder {
@@ -57,6 +59,7 @@ public class MVWorld extends AbstractEntity {
     private boolean isGlobalizedSpawn;
     private boolean isPvPEnabled;
     private String enterPermission;
+    private String generatorSettings;
 
     public Builder() {
       this.identifier = "";
@@ -119,6 +122,14 @@ public class MVWorld extends AbstractEntity {
     public void setEnterPermission(String enterPermission) {
       this.enterPermission = enterPermission;
     }
+
+    public String getGeneratorSettings() {
+      return this.generatorSettings;
+    }
+
+    public void setGeneratorSettings(String generatorSettings) {
+      this.generatorSettings = generatorSettings;
+    }
   }
 
   public String getIdentifier() {
@@ -134,11 +145,20 @@ public class MVWorld extends AbstractEntity {
   }
 
   public void setSpawnLocation(Location spawnLocation) {
-    this.spawnLocation = spawnLocation;
+    this.spawnPoint = SpawnPoint.of(spawnLocation, this.identifier);
   }
 
+  /**
+   * Resolves the spawn location, bound to its world if that world is loaded.
+   *
+   * @return a new location, or {@code null} if no spawn is stored.
+   */
   public Location getSpawnLocation() {
-    return this.spawnLocation;
+    return this.spawnPoint == null ? null : this.spawnPoint.toLocation();
+  }
+
+  public SpawnPoint getSpawnPoint() {
+    return this.spawnPoint;
   }
 
   public World.Environment getEnvironment() {
@@ -148,4 +168,14 @@ public class MVWorld extends AbstractEntity {
   public MVWorldType getType() {
     return this.type;
   }
+
+  /**
+   * Retrieves the type specific generator settings the world was created with, such as the layers of a
+   * {@link MVWorldType#FLAT} world.
+   *
+   * @return the settings, or {@code null} if the type has none.
+   */
+  public String getGeneratorSettings() {
+    return this.generatorSettings;
+  }
 }
@@ -0,0 +1,124 @@
+package de.jexcellence.multiverse.database.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A spawn position stored as plain numeric columns.
+ * <p>
+ * Unlike a {@link Location}, a spawn point references its world only by name, so an entity never keeps an unloaded
+ * world alive, and loading it needs no string parsing. {@link #toLocation()} resolves it against the world only when
+ * that world is loaded.
+ * </p>
+ */
+@Embeddable
+public class SpawnPoint {
+
+  @Column(name = "spawn_world")
+  private String worldName;
+
+  // Boxed, so the columns stay nullable when they are added to an existing table
+  @Column(name = "spawn_x")
+  private Double x;
+
+  @Column(name = "spawn_y")
+  private Double y;
+
+  @Column(name = "spawn_z")
+  private Double z;
+
+  @Column(name = "spawn_yaw")
+  private Float yaw;
+
+  @Column(name = "spawn_pitch")
+  private Float pitch;
+
+  // Default Constructor for JPA
+  protected SpawnPoint() {}
+
+  /**
+   * Constructs a new SpawnPoint.
+   *
+   * @param worldName the name of the world.
+   * @param x         the x coordinate.
+   * @param y         the y coordinate.
+   * @param z         the z coordinate.
+   * @param yaw       the yaw.
+   * @param pitch     the pitch.
+   */
+  public SpawnPoint(
+    final @NotNull String worldName,
+    final double x,
+    final double y,
+    final double z,
+    final float yaw,
+    final float pitch
+  ) {
+    this.worldName = worldName;
+    this.x = x;
+    this.y = y;
+    this.z = z;
+    this.yaw = yaw;
+    this.pitch = pitch;
+  }
+
+  /**
+   * Creates a spawn point from a location.
+   *
+   * @param location          the location, or {@code null}.
+   * @param fallbackWorldName the world name to use if the location has no world.
+   * @return the spawn point, or {@code null} if the location is {@code null}.
+   */
+  public static @Nullable SpawnPoint of(final @Nullable Location location, final @NotNull String fallbackWorldName) {
+    if (location == null)
+      return null;
+
+    final World world = location.isWorldLoaded() ? location.getWorld() : null;
+    return new SpawnPoint(
+      world != null ? world.getName() : fallbackWorldName,
+      location.getX(),
+      location.getY(),
+      location.getZ(),
+      location.getYaw(),
+      location.getPitch()
+    );
+  }
+
+  /**
+   * Resolves this spawn point to a new location, bound to its world if that world is loaded.
+   *
+   * @return the location, without a world if the world is not loaded.
+   */
+  public @NotNull Location toLocation() {
+    return new Location(Bukkit.getWorld(this.worldName), this.getX(), this.getY(), this.getZ(), this.getYaw(), this.getPitch());
+  }
+
+  public @NotNull String getWorldName() {
+    return this.worldName;
+  }
+
+  public double getX() {
+    return this.x == null ? 0.0 : this.x;
+  }
+
+  public double getY() {
+    return this.y == null ? 0.0 : this.y;
+  }
+
+  public double getZ() {
+    return this.z == null ? 0.0 : this.z;
+  }
+
+  public float getYaw() {
+    return this.yaw == null ? 0.0F : this.yaw;
+  }
+
+  public float getPitch() {
+    return this.pitch == null ? 0.0F : this.pitch;
+  }
+}
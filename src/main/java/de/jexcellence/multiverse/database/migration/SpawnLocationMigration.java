@@ -0,0 +1,136 @@
+package de.jexcellence.multiverse.database.migration;
+
+import de.jexcellence.jeplatform.utility.serializer.LocationSerializer;
+import de.jexcellence.multiverse.database.entity.SpawnPoint;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.PersistenceException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Converts the serialized {@code spawn_location} column of {@code mv_world} into the numeric columns of
+ * {@link SpawnPoint} and drops the old column afterwards.
+ * <p>
+ * The numeric columns are added by the schema update when the plugin starts; this migration fills them from the
+ * old strings once. Rows that already have a spawn point are left alone. Strings that cannot be parsed are copied to
+ * {@value #BACKUP_TABLE} before the old column is dropped, because the column is {@code NOT NULL} and would reject
+ * every new world otherwise. Once the old column is gone the migration has nothing to do, so it is safe to run on
+ * every start.
+ * </p>
+ */
+public class SpawnLocationMigration {
+
+  /**
+   * The table keeping the spawn locations that could not be parsed, by world name.
+   */
+  public static final String BACKUP_TABLE = "mv_world_spawn_location_backup";
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  /**
+   * Constructs a new SpawnLocationMigration.
+   *
+   * @param entityManagerFactory the entity manager factory of the plugin.
+   */
+  public SpawnLocationMigration(final @NotNull EntityManagerFactory entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  /**
+   * Migrates all rows that still have a serialized spawn location and no spawn point. Rows whose location cannot be
+   * parsed are left without a spawn point and fall back to the spawn of their world; their strings are kept in
+   * {@value #BACKUP_TABLE}.
+   *
+   * @return the {@link Result}, or {@code null} if the old column does not exist anymore.
+   */
+  public @Nullable Result migrate() {
+    final EntityManager entityManager = this.entityManagerFactory.createEntityManager();
+    final EntityTransaction transaction = entityManager.getTransaction();
+
+    try {
+      transaction.begin();
+
+      final List<?> rows;
+      try {
+        rows = entityManager
+          .createNativeQuery("SELECT world_name, spawn_location FROM mv_world WHERE spawn_world IS NULL")
+          .getResultList();
+      } catch (final PersistenceException exception) {
+        transaction.rollback();
+        return null;
+      }
+
+      final LocationSerializer locationSerializer = new LocationSerializer();
+      int migratedRows = 0;
+      int skippedRows = 0;
+      for (Object row : rows) {
+        final Object[] columns = (Object[]) row;
+        final String worldName = (String) columns[0];
+        final String serializedLocation = columns[1] == null ? null : columns[1].toString();
+        if (serializedLocation == null || serializedLocation.isEmpty())
+          continue;
+
+        SpawnPoint spawnPoint;
+        try {
+          spawnPoint = SpawnPoint.of(locationSerializer.getLocationFromString(serializedLocation), worldName);
+        } catch (final RuntimeException exception) {
+          spawnPoint = null;
+        }
+        if (spawnPoint == null) {
+          if (skippedRows++ == 0)
+            entityManager
+              .createNativeQuery(
+                "CREATE TABLE IF NOT EXISTS " + BACKUP_TABLE + " (world_name VARCHAR(255) NOT NULL, spawn_location LONGTEXT NOT NULL)"
+              )
+              .executeUpdate();
+          entityManager
+            .createNativeQuery("INSERT INTO " + BACKUP_TABLE + " (world_name, spawn_location) VALUES (?1, ?2)")
+            .setParameter(1, worldName)
+            .setParameter(2, serializedLocation)
+            .executeUpdate();
+          continue;
+        }
+
+        migratedRows += entityManager
+          .createNativeQuery(
+            "UPDATE mv_world SET spawn_world = ?1, spawn_x = ?2, spawn_y = ?3, spawn_z = ?4, spawn_yaw = ?5, spawn_pitch = ?6 " +
+              "WHERE world_name = ?7"
+          )
+          .setParameter(1, spawnPoint.getWorldName())
+          .setParameter(2, spawnPoint.getX())
+          .setParameter(3, spawnPoint.getY())
+          .setParameter(4, spawnPoint.getZ())
+          .setParameter(5, spawnPoint.getYaw())
+          .setParameter(6, spawnPoint.getPitch())
+          .setParameter(7, worldName)
+          .executeUpdate();
+      }
+
+      entityManager.createNativeQuery("ALTER TABLE mv_world DROP COLUMN spawn_location").executeUpdate();
+      transaction.commit();
+      return new Result(migratedRows, skippedRows);
+    } catch (final RuntimeException exception) {
+      if (transaction.isActive())
+        transaction.rollback();
+      throw exception;
+    } finally {
+      entityManager.close();
+    }
+  }
+
+  /**
+   * The outcome of a migration.
+   *
+   * @param migratedRows the number of rows whose spawn location was converted.
+   * @param skippedRows  the number of rows whose spawn location could not be parsed and was copied to
+   *                     {@value SpawnLocationMigration#BACKUP_TABLE}.
+   */
+  public record Result(
+    int migratedRows,
+    int skippedRows
+  ) {}
+}
@@ -1,42 +1,108 @@
 package de.jexcellence.multiverse.database.repository;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import de.jexcellence.hibernate.repository.AbstractCRUDRepository;
 import de.jexcellence.multiverse.database.entity.MVWorld;
+import de.jexcellence.multiverse.jfr.RepositoryCallEvent;
+import de.jexcellence.multiverse.metrics.LatencyHistogram;
+import de.jexcellence.multiverse.metrics.MetricsRegistry;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
+/**
+ * Repository for {@link MVWorld} entities backed by a complete in-memory read model.
+ * <p>
+ * All rows are loaded once on first access and kept in sync through {@link #create}, {@link #update} and
+ * {@link #delete}. Lookups by id and identifier are O(1) map reads and the global spawn is a maintained pointer,
+ * so no read ever reaches the database after the initial load. The worlds sorted by id, which {@link #findAll} pages
+ * through, are kept as a snapshot that every write discards and the next page request rebuilds.
+ * </p>
+ * <p>
+ * Every operation is timed in the {@link MetricsRegistry} under {@code repository.<operation>}, and the hit and miss
+ * counts of the read model are exposed as gauges. Each call is also recorded as a {@link RepositoryCallEvent} for
+ * Flight Recorder.
+ * </p>
+ */
 public class MVWorldRepository extends AbstractCRUDRepository<MVWorld, Long> {
 
+  private static final int LOAD_PAGE_SIZE = 256;
+
   private final ExecutorService executor;
-  private final Cache<String, MVWorld> cache;
+  private final EntityManagerFactory entityManagerFactory;
+  private final LatencyHistogram findAllTimer;
+  private final LatencyHistogram findByIdentifierTimer;
+  private final LatencyHistogram findByGlobalSpawnTimer;
+  private final LatencyHistogram createTimer;
+  private final LatencyHistogram updateTimer;
+  private final LatencyHistogram deleteTimer;
+  private final LatencyHistogram loadTimer;
+  private final Map<Long, MVWorld> worldsById = new ConcurrentHashMap<>();
+  private final Map<String, MVWorld> worldsByIdentifier = new ConcurrentHashMap<>();
+  private final Object writeLock = new Object();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder loadNanos = new LongAdder();
+
+  private volatile MVWorld globalSpawn;
+  private volatile List<MVWorld> sortedWorlds;
+  private volatile boolean loaded;
 
   public MVWorldRepository(
       final ExecutorService executor,
-      final EntityManagerFactory entityManagerFactory
+      final EntityManagerFactory entityManagerFactory,
+      final MetricsRegistry metrics
   ) {
     super(entityManagerFactory, MVWorld.class);
-    this.cache = Caffeine.newBuilder().maximumSize(64).expireAfterWrite(30, TimeUnit.MINUTES).build();
     this.executor = executor;
+    this.entityManagerFactory = entityManagerFactory;
+    this.findAllTimer = metrics.timer("repository.find_all");
+    this.findByIdentifierTimer = metrics.timer("repository.find_by_identifier");
+    this.findByGlobalSpawnTimer = metrics.timer("repository.find_by_global_spawn");
+    this.createTimer = metrics.timer("repository.create");
+    this.updateTimer = metrics.timer("repository.update");
+    this.deleteTimer = metrics.timer("repository.delete");
+    this.loadTimer = metrics.timer("repository.load");
+
+    metrics.gauge("repository.cache.hits", this.hits::sum);
+    metrics.gauge("repository.cache.misses", this.misses::sum);
+    metrics.gauge("repository.cache.size", this.worldsById::size);
   }
 
   public List<MVWorld> findAll(
       final int pageNumber,
       final int pageSize
   ) {
-    if (! this.cache.asMap().values().isEmpty())
-      return this.cache.asMap().values().stream().toList();
+    final long startNanos = System.nanoTime();
+    final RepositoryCallEvent event = new RepositoryCallEvent();
+    event.begin();
+    // A call that had to wait for the initial load counts as a miss
+    final boolean cached = this.loaded;
+    this.ensureLoaded();
+    if (cached)
+      this.hits.increment();
+    else
+      this.misses.increment();
 
-    List<MVWorld> foundWorlds = super.findAll(pageNumber, pageSize);
-    foundWorlds.forEach(mvWorld -> this.cache.put(mvWorld.getIdentifier(), mvWorld));
-    return foundWorlds;
+    final List<MVWorld> sortedWorlds = this.getSortedWorlds();
+    final int fromIndex = (int) Math.min((long) pageNumber * pageSize, sortedWorlds.size());
+    final int toIndex = (int) Math.min((long) fromIndex + pageSize, sortedWorlds.size());
+    this.findAllTimer.recordSince(startNanos);
+    event.end("find_all", null, cached, toIndex - fromIndex);
+    return sortedWorlds.subList(fromIndex, toIndex);
   }
 
   public CompletableFuture<List<MVWorld>> findAllAsync(
@@ -49,27 +115,35 @@ public class MVWorldRepository extends AbstractCRUDRepository<MVWorld, Long> {
   public MVWorld findByIdentifier(
       final @NotNull String identifier
   ) {
-    MVWorld cachedWorld = this.cache.getIfPresent(identifier);
-
-    if (cachedWorld == null) {
-      MVWorld foundWorld = super.findByAttributes(Map.of("identifier", identifier));
-      if (foundWorld != null)
-        this.cache.put(foundWorld.getIdentifier(), foundWorld);
-      return foundWorld;
-    }
+    final long startNanos = System.nanoTime();
+    final RepositoryCallEvent event = new RepositoryCallEvent();
+    event.begin();
+    this.ensureLoaded();
 
-    return cachedWorld;
+    final MVWorld mvWorld = this.worldsByIdentifier.get(identifier);
+    if (mvWorld == null)
+      this.misses.increment();
+    else
+      this.hits.increment();
+    this.findByIdentifierTimer.recordSince(startNanos);
+    event.end("find_by_identifier", identifier, mvWorld != null, mvWorld == null ? 0 : 1);
+    return mvWorld;
   }
 
   public MVWorld findByGlobalSpawn() {
-    for (MVWorld mvWorld : this.cache.asMap().values())
-      if (mvWorld.isGlobalizedSpawn())
-        return mvWorld;
+    final long startNanos = System.nanoTime();
+    final RepositoryCallEvent event = new RepositoryCallEvent();
+    event.begin();
+    this.ensureLoaded();
 
-    MVWorld foundWorld = super.findByAttributes(Map.of("isGlobalizedSpawn", true));
-    if (foundWorld != null)
-      this.cache.put(foundWorld.getIdentifier(), foundWorld);
-    return foundWorld;
+    final MVWorld mvWorld = this.globalSpawn;
+    if (mvWorld == null)
+      this.misses.increment();
+    else
+      this.hits.increment();
+    this.findByGlobalSpawnTimer.recordSince(startNanos);
+    event.end("find_by_global_spawn", mvWorld == null ? null : mvWorld.getIdentifier(), mvWorld != null, mvWorld == null ? 0 : 1);
+    return mvWorld;
   }
 
   public CompletableFuture<MVWorld> findByIdentifierAsync(
@@ -84,21 +158,234 @@ public class MVWorldRepository extends AbstractCRUDRepository<MVWorld, Long> {
 
   @Override
   public MVWorld create(MVWorld entity) {
+    final long startNanos = System.nanoTime();
+    final RepositoryCallEvent event = new RepositoryCallEvent();
+    event.begin();
     MVWorld mvWorld = super.create(entity);
-    this.cache.put(mvWorld.getIdentifier(), mvWorld);
+    this.index(mvWorld);
+    this.createTimer.recordSince(startNanos);
+    event.end("create", mvWorld.getIdentifier(), false, 1);
     return mvWorld;
   }
 
+  /**
+   * Persists many worlds at once, committing one transaction per batch so inserts can use JDBC batching.
+   * <p>
+   * Batches committed before a failing batch stay persisted and indexed; the failure is rethrown. Each committed
+   * batch is handed to {@code committedBatches}, so callers can tell which worlds were persisted when a later batch
+   * fails.
+   * </p>
+   *
+   * @param entities         the worlds to persist.
+   * @param batchSize        the number of rows per transaction.
+   * @param committedBatches receives every batch right after its transaction was committed.
+   * @return the persisted worlds.
+   */
+  public List<MVWorld> createAll(
+      final @NotNull List<MVWorld> entities,
+      final int batchSize,
+      final @NotNull Consumer<List<MVWorld>> committedBatches
+  ) {
+    final List<MVWorld> persistedWorlds = new ArrayList<>(entities.size());
+
+    for (int fromIndex = 0; fromIndex < entities.size(); fromIndex += batchSize) {
+      final long startNanos = System.nanoTime();
+      final RepositoryCallEvent event = new RepositoryCallEvent();
+      event.begin();
+      final List<MVWorld> batch = entities.subList(fromIndex, Math.min(fromIndex + batchSize, entities.size()));
+      final EntityManager entityManager = this.entityManagerFactory.createEntityManager();
+      final EntityTransaction transaction = entityManager.getTransaction();
+
+      try {
+        transaction.begin();
+        batch.forEach(entityManager::persist);
+        transaction.commit();
+      } catch (final RuntimeException exception) {
+        if (transaction.isActive())
+          transaction.rollback();
+        throw exception;
+      } finally {
+        entityManager.close();
+      }
+
+      batch.forEach(this::index);
+      persistedWorlds.addAll(batch);
+      committedBatches.accept(List.copyOf(batch));
+      this.createTimer.recordSince(startNanos);
+      event.end("create_all", null, false, batch.size());
+    }
+
+    return persistedWorlds;
+  }
+
   @Override
   public MVWorld update(MVWorld entity) {
+    final long startNanos = System.nanoTime();
+    final RepositoryCallEvent event = new RepositoryCallEvent();
+    event.begin();
     MVWorld mvWorld = super.update(entity);
-    this.cache.put(mvWorld.getIdentifier(), mvWorld);
+    this.index(mvWorld);
+    this.updateTimer.recordSince(startNanos);
+    event.end("update", mvWorld.getIdentifier(), false, 1);
     return mvWorld;
   }
 
+  /**
+   * Merges many changed worlds in a single transaction, so the updates can use JDBC batching.
+   * <p>
+   * Either all worlds are updated and re-indexed or, if the transaction fails, none are; the failure is rethrown.
+   * </p>
+   *
+   * @param entities the changed worlds.
+   * @return the updated worlds.
+   */
+  public List<MVWorld> updateAll(
+      final @NotNull List<MVWorld> entities
+  ) {
+    final long startNanos = System.nanoTime();
+    final RepositoryCallEvent event = new RepositoryCallEvent();
+    event.begin();
+    final List<MVWorld> updatedWorlds = new ArrayList<>(entities.size());
+    final EntityManager entityManager = this.entityManagerFactory.createEntityManager();
+    final EntityTransaction transaction = entityManager.getTransaction();
+
+    try {
+      transaction.begin();
+      for (MVWorld entity : entities)
+        updatedWorlds.add(entityManager.merge(entity));
+      transaction.commit();
+    } catch (final RuntimeException exception) {
+      if (transaction.isActive())
+        transaction.rollback();
+      throw exception;
+    } finally {
+      entityManager.close();
+    }
+
+    updatedWorlds.forEach(this::index);
+    this.updateTimer.recordSince(startNanos);
+    event.end("update_all", null, false, updatedWorlds.size());
+    return updatedWorlds;
+  }
+
   @Override
   public void delete(Long id) {
+    final long startNanos = System.nanoTime();
+    final RepositoryCallEvent event = new RepositoryCallEvent();
+    event.begin();
     super.delete(id);
-    this.cache.asMap().values().removeIf(world -> world.getId().equals(id));
+
+    final MVWorld removed;
+    synchronized (this.writeLock) {
+      removed = this.worldsById.remove(id);
+      if (removed != null) {
+        this.sortedWorlds = null;
+        this.worldsByIdentifier.remove(removed.getIdentifier(), removed);
+        if (this.globalSpawn != null && id.equals(this.globalSpawn.getId()))
+          this.globalSpawn = null;
+      }
+    }
+    this.deleteTimer.recordSince(startNanos);
+    event.end("delete", removed == null ? null : removed.getIdentifier(), false, 1);
+  }
+
+  /**
+   * Retrieves the statistics of the read model.
+   *
+   * @return a snapshot of the current {@link Statistics}.
+   */
+  public Statistics getStatistics() {
+    return new Statistics(
+        this.hits.sum(),
+        this.misses.sum(),
+        this.loads.sum(),
+        TimeUnit.NANOSECONDS.toMillis(this.loadNanos.sum()),
+        this.worldsById.size()
+    );
+  }
+
+  /**
+   * Loads all rows into the read model if that has not happened yet.
+   */
+  private void ensureLoaded() {
+    if (this.loaded)
+      return;
+
+    synchronized (this.writeLock) {
+      if (this.loaded)
+        return;
+
+      final long startNanos = System.nanoTime();
+      final RepositoryCallEvent event = new RepositoryCallEvent();
+      event.begin();
+      int pageNumber = 0;
+      List<MVWorld> page;
+      do {
+        page = super.findAll(pageNumber++, LOAD_PAGE_SIZE);
+        page.forEach(this::index);
+      } while (page.size() == LOAD_PAGE_SIZE);
+
+      this.loadNanos.add(System.nanoTime() - startNanos);
+      this.loadTimer.recordSince(startNanos);
+      event.end("load", null, false, this.worldsById.size());
+      this.loads.increment();
+      this.loaded = true;
+    }
   }
+
+  /**
+   * Retrieves all worlds sorted by id, rebuilding the snapshot if a write discarded it.
+   *
+   * @return the sorted, unmodifiable worlds.
+   */
+  private List<MVWorld> getSortedWorlds() {
+    final List<MVWorld> sortedWorlds = this.sortedWorlds;
+    if (sortedWorlds != null)
+      return sortedWorlds;
+
+    synchronized (this.writeLock) {
+      if (this.sortedWorlds == null)
+        this.sortedWorlds = this.worldsById.values().stream()
+            .sorted(Comparator.comparing(MVWorld::getId))
+            .toList();
+      return this.sortedWorlds;
+    }
+  }
+
+  /**
+   * Adds or replaces a world in all indexes and maintains the global spawn pointer.
+   *
+   * @param mvWorld the persisted world.
+   */
+  private void index(final @NotNull MVWorld mvWorld) {
+    synchronized (this.writeLock) {
+      final MVWorld previous = this.worldsById.put(mvWorld.getId(), mvWorld);
+      this.sortedWorlds = null;
+      if (previous != null && !previous.getIdentifier().equals(mvWorld.getIdentifier()))
+        this.worldsByIdentifier.remove(previous.getIdentifier(), previous);
+      this.worldsByIdentifier.put(mvWorld.getIdentifier(), mvWorld);
+
+      if (mvWorld.isGlobalizedSpawn())
+        this.globalSpawn = mvWorld;
+      else if (this.globalSpawn != null && mvWorld.getId().equals(this.globalSpawn.getId()))
+        this.globalSpawn = null;
+    }
+  }
+
+  /**
+   * Statistics of the read model.
+   *
+   * @param hits           the number of lookups answered with a world.
+   * @param misses         the number of lookups that found no world or had to wait for the initial load.
+   * @param loads          the number of full loads from the database.
+   * @param loadTimeMillis the total time spent loading from the database.
+   * @param size           the number of worlds in the read model.
+   */
+  public record Statistics(
+      long hits,
+      long misses,
+      long loads,
+      long loadTimeMillis,
+      int size
+  ) {}
 }
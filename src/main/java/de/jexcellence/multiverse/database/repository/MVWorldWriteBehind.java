@@ -0,0 +1,261 @@
+package de.jexcellence.multiverse.database.repository;
+
+import de.jexcellence.multiverse.database.entity.MVWorld;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Write-behind layer for changes to {@link MVWorld} entities.
+ * <p>
+ * Changed worlds are queued per id instead of being written immediately. The first change schedules a flush after a
+ * short window; further changes to the same world within that window replace the queued one, so repeated edits cost a
+ * single row update. A flush merges all queued worlds in one transaction through {@link MVWorldRepository#updateAll}.
+ * </p>
+ * <p>
+ * Worlds whose flush fails are queued again unless a newer change arrived meanwhile, and the next flush is delayed
+ * twice as long after every failed flush in a row, up to {@value #MAX_RETRY_DELAY_MILLIS} ms. A world that failed
+ * {@value #MAX_ATTEMPTS} flushes is dropped and handed to the drop handler, so a row the database keeps rejecting
+ * does not block the queue forever.
+ * </p>
+ */
+public class MVWorldWriteBehind {
+
+  /**
+   * The number of flushes a queued world may fail before it is dropped.
+   */
+  public static final int MAX_ATTEMPTS = 5;
+
+  /**
+   * The longest delay in milliseconds before a failed flush is retried.
+   */
+  public static final long MAX_RETRY_DELAY_MILLIS = 60_000L;
+
+  private final MVWorldRepository repository;
+  private final ExecutorService executor;
+  private final long windowMillis;
+  private final Consumer<Throwable> failureHandler;
+  private final BiConsumer<List<MVWorld>, Throwable> dropHandler;
+  private final Map<Long, MVWorld> pendingWorlds = new ConcurrentHashMap<>();
+  private final Map<Long, Integer> failedAttempts = new ConcurrentHashMap<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private final Object flushLock = new Object();
+
+  private final LongAdder requestedUpdates = new LongAdder();
+  private final LongAdder flushedRows = new LongAdder();
+  private final LongAdder flushes = new LongAdder();
+  private final LongAdder failedFlushes = new LongAdder();
+  private final LongAdder droppedWorlds = new LongAdder();
+  private final LongAdder flushNanos = new LongAdder();
+  private final LongAccumulator maxFlushNanos = new LongAccumulator(Math::max, 0L);
+
+  /**
+   * Constructs a new MVWorldWriteBehind.
+   *
+   * @param repository     the repository the queued worlds are written to.
+   * @param executor       the executor running the flushes.
+   * @param windowMillis   the time in milliseconds changes are collected before they are flushed.
+   * @param failureHandler receives the failure of a scheduled flush that is retried.
+   * @param dropHandler    receives the worlds dropped after {@value #MAX_ATTEMPTS} failed flushes and the last failure.
+   */
+  public MVWorldWriteBehind(
+    final @NotNull MVWorldRepository repository,
+    final @NotNull ExecutorService executor,
+    final long windowMillis,
+    final @NotNull Consumer<Throwable> failureHandler,
+    final @NotNull BiConsumer<List<MVWorld>, Throwable> dropHandler
+  ) {
+    this.repository = repository;
+    this.executor = executor;
+    this.windowMillis = windowMillis;
+    this.failureHandler = failureHandler;
+    this.dropHandler = dropHandler;
+  }
+
+  /**
+   * Queues a changed world to be written with the next flush.
+   *
+   * @param mvWorld the changed, persisted world.
+   */
+  public void update(
+    final @NotNull MVWorld mvWorld
+  ) {
+    this.requestedUpdates.increment();
+    this.pendingWorlds.put(mvWorld.getId(), mvWorld);
+    this.scheduleFlush();
+  }
+
+  /**
+   * Writes all queued worlds in one transaction on the calling thread.
+   * <p>
+   * If the transaction fails, the worlds are queued again, except for those that reached {@value #MAX_ATTEMPTS}
+   * failed flushes, which are dropped; the failure is rethrown.
+   * </p>
+   *
+   * @return the number of rows written.
+   */
+  public int flush() {
+    synchronized (this.flushLock) {
+      if (this.pendingWorlds.isEmpty())
+        return 0;
+
+      final List<MVWorld> batch = new ArrayList<>(this.pendingWorlds.size());
+      for (Long id : List.copyOf(this.pendingWorlds.keySet())) {
+        final MVWorld mvWorld = this.pendingWorlds.remove(id);
+        if (mvWorld != null)
+          batch.add(mvWorld);
+      }
+
+      final long startNanos = System.nanoTime();
+      try {
+        this.repository.updateAll(batch);
+      } catch (final RuntimeException exception) {
+        this.failedFlushes.increment();
+        this.consecutiveFailures.incrementAndGet();
+        this.requeue(batch, exception);
+        throw exception;
+      }
+
+      final long elapsedNanos = System.nanoTime() - startNanos;
+      batch.forEach(mvWorld -> this.failedAttempts.remove(mvWorld.getId()));
+      this.consecutiveFailures.set(0);
+      this.flushes.increment();
+      this.flushedRows.add(batch.size());
+      this.flushNanos.add(elapsedNanos);
+      this.maxFlushNanos.accumulate(elapsedNanos);
+      return batch.size();
+    }
+  }
+
+  /**
+   * Retrieves the statistics of the write-behind layer.
+   *
+   * @return a snapshot of the current {@link Statistics}.
+   */
+  public Statistics getStatistics() {
+    final long requestedUpdates = this.requestedUpdates.sum();
+    final long flushedRows = this.flushedRows.sum();
+    final long flushes = this.flushes.sum();
+    return new Statistics(
+      requestedUpdates,
+      flushedRows,
+      flushes,
+      this.failedFlushes.sum(),
+      this.droppedWorlds.sum(),
+      this.pendingWorlds.size(),
+      flushes == 0 ? 0.0 : TimeUnit.NANOSECONDS.toMicros(this.flushNanos.sum()) / 1000.0 / flushes,
+      TimeUnit.NANOSECONDS.toMillis(this.maxFlushNanos.get()),
+      flushedRows == 0 ? 0.0 : (double) requestedUpdates / flushedRows
+    );
+  }
+
+  /**
+   * Queues the worlds of a failed flush again, dropping those that failed too often. A world that was changed again
+   * meanwhile keeps its newer queued state.
+   *
+   * @param batch     the worlds of the failed flush.
+   * @param exception the failure.
+   */
+  private void requeue(
+    final List<MVWorld> batch,
+    final RuntimeException exception
+  ) {
+    final List<MVWorld> dropped = new ArrayList<>();
+    for (MVWorld mvWorld : batch) {
+      final int attempts = this.failedAttempts.merge(mvWorld.getId(), 1, Integer::sum);
+      if (attempts < MAX_ATTEMPTS) {
+        this.pendingWorlds.putIfAbsent(mvWorld.getId(), mvWorld);
+        continue;
+      }
+
+      this.failedAttempts.remove(mvWorld.getId());
+      if (!this.pendingWorlds.containsKey(mvWorld.getId()))
+        dropped.add(mvWorld);
+    }
+
+    if (dropped.isEmpty())
+      return;
+
+    this.droppedWorlds.add(dropped.size());
+    this.dropHandler.accept(dropped, exception);
+  }
+
+  /**
+   * Schedules a flush after the window, or after the retry delay following failed flushes, unless one is scheduled
+   * already.
+   */
+  private void scheduleFlush() {
+    if (!this.flushScheduled.compareAndSet(false, true))
+      return;
+
+    CompletableFuture.runAsync(
+      this::runScheduledFlush,
+      CompletableFuture.delayedExecutor(this.getFlushDelayMillis(), TimeUnit.MILLISECONDS, this.executor)
+    );
+  }
+
+  /**
+   * Calculates the delay of the next flush: the window, doubled for every failed flush in a row.
+   *
+   * @return the delay in milliseconds.
+   */
+  private long getFlushDelayMillis() {
+    final int failures = Math.min(this.consecutiveFailures.get(), MAX_ATTEMPTS);
+    if (failures == 0)
+      return this.windowMillis;
+    return Math.min(Math.max(this.windowMillis, 1L) << failures, Math.max(this.windowMillis, MAX_RETRY_DELAY_MILLIS));
+  }
+
+  /**
+   * Runs a scheduled flush and schedules another one if changes are still queued afterwards.
+   */
+  private void runScheduledFlush() {
+    this.flushScheduled.set(false);
+    try {
+      this.flush();
+    } catch (final RuntimeException exception) {
+      this.failureHandler.accept(exception);
+    }
+
+    if (!this.pendingWorlds.isEmpty())
+      this.scheduleFlush();
+  }
+
+  /**
+   * Statistics of the write-behind layer.
+   *
+   * @param requestedUpdates   the number of updates queued.
+   * @param flushedRows        the number of rows written.
+   * @param flushes            the number of successful flushes.
+   * @param failedFlushes      the number of flushes whose transaction failed.
+   * @param droppedWorlds      the number of queued worlds dropped after {@value MVWorldWriteBehind#MAX_ATTEMPTS} failed flushes.
+   * @param pendingWorlds      the number of worlds currently queued.
+   * @param averageFlushMillis the average duration of a successful flush.
+   * @param maxFlushMillis     the longest duration of a successful flush.
+   * @param coalescingRatio    the number of queued updates per written row.
+   */
+  public record Statistics(
+    long requestedUpdates,
+    long flushedRows,
+    long flushes,
+    long failedFlushes,
+    long droppedWorlds,
+    int pendingWorlds,
+    double averageFlushMillis,
+    long maxFlushMillis,
+    double coalescingRatio
+  ) {}
+}
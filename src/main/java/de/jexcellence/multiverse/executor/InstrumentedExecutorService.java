@@ -0,0 +1,148 @@
+package de.jexcellence.multiverse.executor;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link ExecutorService} that wraps another one and records queue depth, active tasks and latencies.
+ * <p>
+ * The queue depth counts tasks that were submitted but have not started yet, independent of the queue
+ * implementation of the delegate, so it also works for thread-per-task executors.
+ * </p>
+ */
+public class InstrumentedExecutorService extends AbstractExecutorService {
+
+  private final String name;
+  private final ExecutorService delegate;
+
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicInteger active = new AtomicInteger();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder queueNanos = new LongAdder();
+  private final LongAdder runNanos = new LongAdder();
+
+  /**
+   * Constructs a new InstrumentedExecutorService.
+   *
+   * @param name     the name used in statistics and logs.
+   * @param delegate the executor running the tasks.
+   */
+  public InstrumentedExecutorService(
+    final @NotNull String name,
+    final @NotNull ExecutorService delegate
+  ) {
+    this.name = name;
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void execute(final @NotNull Runnable command) {
+    final long submittedNanos = System.nanoTime();
+    this.queued.incrementAndGet();
+
+    try {
+      this.delegate.execute(() -> this.run(command, submittedNanos));
+    } catch (final RuntimeException exception) {
+      this.queued.decrementAndGet();
+      throw exception;
+    }
+  }
+
+  private void run(final Runnable command, final long submittedNanos) {
+    final long startNanos = System.nanoTime();
+    this.queued.decrementAndGet();
+    this.active.incrementAndGet();
+    this.queueNanos.add(startNanos - submittedNanos);
+
+    try {
+      command.run();
+    } catch (final RuntimeException | Error throwable) {
+      this.failed.increment();
+      throw throwable;
+    } finally {
+      this.runNanos.add(System.nanoTime() - startNanos);
+      this.active.decrementAndGet();
+      this.completed.increment();
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    this.delegate.shutdown();
+  }
+
+  @Override
+  public @NotNull List<Runnable> shutdownNow() {
+    return this.delegate.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return this.delegate.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return this.delegate.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(final long timeout, final @NotNull TimeUnit unit) throws InterruptedException {
+    return this.delegate.awaitTermination(timeout, unit);
+  }
+
+  /**
+   * Retrieves the name of this executor.
+   *
+   * @return the name.
+   */
+  public @NotNull String getName() {
+    return this.name;
+  }
+
+  /**
+   * Retrieves a snapshot of the statistics of this executor.
+   *
+   * @return the current {@link Statistics}.
+   */
+  public @NotNull Statistics getStatistics() {
+    final long completedTasks = this.completed.sum();
+    return new Statistics(
+      this.name,
+      this.queued.get(),
+      this.active.get(),
+      completedTasks,
+      this.failed.sum(),
+      completedTasks == 0 ? 0.0 : this.queueNanos.sum() / (double) completedTasks / 1_000_000.0,
+      completedTasks == 0 ? 0.0 : this.runNanos.sum() / (double) completedTasks / 1_000_000.0
+    );
+  }
+
+  /**
+   * Statistics of an executor.
+   *
+   * @param name                 the executor name.
+   * @param queueDepth           the number of submitted tasks that have not started yet.
+   * @param activeTasks          the number of running tasks.
+   * @param completedTasks       the number of finished tasks.
+   * @param failedTasks          the number of tasks that threw.
+   * @param averageQueueMillis   the average time tasks waited before running.
+   * @param averageRunMillis     the average time tasks ran.
+   */
+  public record Statistics(
+    String name,
+    int queueDepth,
+    int activeTasks,
+    long completedTasks,
+    long failedTasks,
+    double averageQueueMillis,
+    double averageRunMillis
+  ) {}
+}
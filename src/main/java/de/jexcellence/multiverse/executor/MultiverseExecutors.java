@@ -0,0 +1,111 @@
+package de.jexcellence.multiverse.executor;
+
+import de.jexcellence.multiverse.config.MultiverseConfig;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The execution model of the plugin.
+ * <p>
+ * Blocking work such as Hibernate/JDBC calls and file I/O runs on the I/O executor, which uses one virtual thread
+ * per task by default, so slow queries never starve each other. CPU-bound work such as preparing generators runs on
+ * a bounded platform thread pool; when its queue is full the submitting thread runs the task itself, which throttles
+ * producers instead of dropping work. Both executors are instrumented, see {@link InstrumentedExecutorService}.
+ * </p>
+ */
+public class MultiverseExecutors {
+
+  private final InstrumentedExecutorService ioExecutor;
+  private final InstrumentedExecutorService cpuExecutor;
+  private final long shutdownTimeoutMillis;
+
+  /**
+   * Creates the executors as configured.
+   *
+   * @param config the plugin configuration.
+   */
+  public MultiverseExecutors(final @NotNull MultiverseConfig config) {
+    this.ioExecutor = new InstrumentedExecutorService("io", config.isIoVirtualThreads()
+      ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("multiverse-io-", 0).factory())
+      : Executors.newFixedThreadPool(config.getIoPoolSize(), threadFactory("multiverse-io-"))
+    );
+    this.cpuExecutor = new InstrumentedExecutorService("cpu", new ThreadPoolExecutor(
+      config.getCpuPoolSize(),
+      config.getCpuPoolSize(),
+      0L,
+      TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(config.getCpuQueueCapacity()),
+      threadFactory("multiverse-cpu-"),
+      new ThreadPoolExecutor.CallerRunsPolicy()
+    ));
+    this.shutdownTimeoutMillis = config.getExecutorShutdownTimeoutMillis();
+  }
+
+  /**
+   * Retrieves the executor for blocking I/O such as database access and file operations.
+   *
+   * @return the I/O executor.
+   */
+  public @NotNull InstrumentedExecutorService getIoExecutor() {
+    return this.ioExecutor;
+  }
+
+  /**
+   * Retrieves the bounded executor for CPU-bound work.
+   *
+   * @return the CPU executor.
+   */
+  public @NotNull InstrumentedExecutorService getCpuExecutor() {
+    return this.cpuExecutor;
+  }
+
+  /**
+   * Retrieves the statistics of all executors.
+   *
+   * @return the statistics of the I/O and the CPU executor.
+   */
+  public @NotNull List<InstrumentedExecutorService.Statistics> getStatistics() {
+    return List.of(this.ioExecutor.getStatistics(), this.cpuExecutor.getStatistics());
+  }
+
+  /**
+   * Shuts the executors down gracefully. The CPU executor is drained first, because its stages may still hand
+   * writes to the I/O executor; the I/O executor is drained afterwards. Each executor gets the configured timeout
+   * before its remaining tasks are cancelled.
+   *
+   * @return {@code true} if all tasks finished within the timeout.
+   */
+  public boolean shutdown() {
+    return shutdown(this.cpuExecutor, this.shutdownTimeoutMillis) & shutdown(this.ioExecutor, this.shutdownTimeoutMillis);
+  }
+
+  private static boolean shutdown(final ExecutorService executor, final long timeoutMillis) {
+    executor.shutdown();
+    try {
+      if (executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS))
+        return true;
+    } catch (final InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+
+    executor.shutdownNow();
+    return false;
+  }
+
+  private static ThreadFactory threadFactory(final String prefix) {
+    final AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      final Thread thread = new Thread(runnable, prefix + counter.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
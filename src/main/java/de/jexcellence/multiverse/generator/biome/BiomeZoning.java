@@ -0,0 +1,69 @@
+package de.jexcellence.multiverse.generator.biome;
+
+import de.jexcellence.multiverse.type.BiomeZoneMode;
+import org.bukkit.block.Biome;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * The biome layout of a generated world, see {@link ZonedBiomeProvider}.
+ *
+ * @param mode     how the zones are laid out.
+ * @param biomes   the biomes assigned to the zones, in order; the same biome may appear more than once.
+ * @param zoneSize the edge length of a {@link BiomeZoneMode#PLOT} or {@link BiomeZoneMode#REGION} zone, or the width
+ *                 of a {@link BiomeZoneMode#RING}, in blocks.
+ */
+public record BiomeZoning(
+  @NotNull BiomeZoneMode mode,
+  @NotNull List<Biome> biomes,
+  int zoneSize
+) {
+
+  /**
+   * The largest number of zone biomes, limited by the byte sized entries of the lookup grid.
+   */
+  public static final int MAX_BIOMES = 256;
+
+  public BiomeZoning {
+    if (biomes.isEmpty() || biomes.size() > MAX_BIOMES)
+      throw new IllegalArgumentException("Biome zoning needs between 1 and " + MAX_BIOMES + " biomes");
+    if (zoneSize < 1)
+      throw new IllegalArgumentException("Zone size must be positive");
+    biomes = List.copyOf(biomes);
+  }
+
+  /**
+   * Creates a zoning that uses one biome everywhere.
+   *
+   * @param biome the biome.
+   * @return the zoning.
+   */
+  public static @NotNull BiomeZoning single(final @NotNull Biome biome) {
+    return new BiomeZoning(BiomeZoneMode.SINGLE, List.of(biome), 1);
+  }
+
+  /**
+   * Aligns a {@link BiomeZoneMode#PLOT} zoning to the plot grid of the given period. Other zonings are returned as is.
+   *
+   * @param period the plot size plus the road width.
+   * @return the aligned zoning.
+   */
+  public @NotNull BiomeZoning withPlotPeriod(final int period) {
+    return this.mode == BiomeZoneMode.PLOT && this.zoneSize != period
+      ? new BiomeZoning(this.mode, this.biomes, period)
+      : this;
+  }
+
+  /**
+   * Describes this zoning independent of the server's biome instances, e.g. for generator signatures.
+   *
+   * @return the description, e.g. {@code region-256-minecraft:plains,minecraft:desert}.
+   */
+  public @NotNull String signature() {
+    return this.mode.name().toLowerCase(Locale.ROOT) + "-" + this.zoneSize + "-" +
+      this.biomes.stream().map(biome -> biome.getKey().asString()).collect(Collectors.joining(","));
+  }
+}
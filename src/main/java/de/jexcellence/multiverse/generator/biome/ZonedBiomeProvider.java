@@ -0,0 +1,139 @@
+package de.jexcellence.multiverse.generator.biome;
+
+import de.jexcellence.multiverse.type.BiomeZoneMode;
+import org.bukkit.block.Biome;
+import org.bukkit.generator.BiomeProvider;
+import org.bukkit.generator.WorldInfo;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link BiomeProvider} that lays out biomes in zones, see {@link BiomeZoning}.
+ * <p>
+ * Plot and region zones are looked up in a precomputed grid of {@value #GRID_SIZE}x{@value #GRID_SIZE} zones that
+ * repeats across the world, each entry being the index of a zone biome. Rings are looked up by comparing the squared
+ * distance from the origin against the precomputed squared ring radii. {@link #getBiome} therefore never allocates,
+ * and the biome of a column never depends on its height. Providers are immutable and shared by all worlds with an
+ * equal zoning, see {@link #of(BiomeZoning)}.
+ * </p>
+ */
+public final class ZonedBiomeProvider extends BiomeProvider {
+
+  private static final int GRID_SHIFT = 6;
+  private static final int GRID_SIZE = 1 << GRID_SHIFT;
+  private static final int GRID_MASK = GRID_SIZE - 1;
+  private static final long GRID_SEED = 0x4A454D56L;
+
+  private static final Map<BiomeZoning, ZonedBiomeProvider> SHARED_PROVIDERS = new ConcurrentHashMap<>();
+
+  private final BiomeZoning zoning;
+  private final BiomeZoneMode mode;
+  private final int zoneSize;
+  private final Biome[] zoneBiomes;
+  private final List<Biome> distinctBiomes;
+  private final byte[] grid;
+  private final long[] ringLimits;
+
+  private ZonedBiomeProvider(final @NotNull BiomeZoning zoning) {
+    this.zoning = zoning;
+    this.mode = zoning.mode();
+    this.zoneSize = zoning.zoneSize();
+    this.zoneBiomes = zoning.biomes().toArray(Biome[]::new);
+    this.distinctBiomes = zoning.biomes().stream().distinct().toList();
+    this.grid = this.mode == BiomeZoneMode.PLOT || this.mode == BiomeZoneMode.REGION
+      ? compileGrid(this.zoneBiomes.length)
+      : new byte[0];
+    this.ringLimits = this.mode == BiomeZoneMode.RING
+      ? compileRingLimits(this.zoneBiomes.length, this.zoneSize)
+      : new long[0];
+  }
+
+  /**
+   * Retrieves the shared provider for the given zoning.
+   *
+   * @param zoning the biome zoning.
+   * @return the provider.
+   */
+  public static @NotNull ZonedBiomeProvider of(final @NotNull BiomeZoning zoning) {
+    return SHARED_PROVIDERS.computeIfAbsent(zoning, ZonedBiomeProvider::new);
+  }
+
+  @Override
+  public @NotNull Biome getBiome(
+    final @NotNull WorldInfo worldInfo,
+    final int x,
+    final int y,
+    final int z
+  ) {
+    return switch (this.mode) {
+      case SINGLE -> this.zoneBiomes[0];
+      case PLOT, REGION -> {
+        final int zoneX = Math.floorDiv(x, this.zoneSize) & GRID_MASK;
+        final int zoneZ = Math.floorDiv(z, this.zoneSize) & GRID_MASK;
+        yield this.zoneBiomes[this.grid[(zoneX << GRID_SHIFT) | zoneZ] & 0xFF];
+      }
+      case RING -> {
+        final long distanceSquared = (long) x * x + (long) z * z;
+        int ring = 0;
+        while (ring < this.ringLimits.length && distanceSquared >= this.ringLimits[ring])
+          ring++;
+        yield this.zoneBiomes[ring];
+      }
+    };
+  }
+
+  /**
+   * Retrieves the distinct biomes of the zoning. The list is shared and unmodifiable.
+   *
+   * @param worldInfo the world information.
+   * @return the biomes this provider may return.
+   */
+  @Override
+  public @NotNull List<Biome> getBiomes(final @NotNull WorldInfo worldInfo) {
+    return this.distinctBiomes;
+  }
+
+  /**
+   * Retrieves the zoning of this provider.
+   *
+   * @return the biome zoning.
+   */
+  public @NotNull BiomeZoning getZoning() {
+    return this.zoning;
+  }
+
+  /**
+   * Assigns a biome index to every zone of the grid. The assignment is seeded with a constant, so a world keeps its
+   * biome layout across restarts; each biome is used about equally often.
+   */
+  private static byte[] compileGrid(final int biomeCount) {
+    final byte[] grid = new byte[GRID_SIZE * GRID_SIZE];
+    for (int index = 0; index < grid.length; index++)
+      grid[index] = (byte) (index % biomeCount);
+
+    final SplittableRandom random = new SplittableRandom(GRID_SEED);
+    for (int index = grid.length - 1; index > 0; index--) {
+      final int other = random.nextInt(index + 1);
+      final byte swapped = grid[index];
+      grid[index] = grid[other];
+      grid[other] = swapped;
+    }
+    return grid;
+  }
+
+  /**
+   * Computes the squared outer radius of every ring but the last, which continues outwards.
+   */
+  private static long[] compileRingLimits(final int biomeCount, final int ringWidth) {
+    final long[] ringLimits = new long[biomeCount - 1];
+    for (int ring = 0; ring < ringLimits.length; ring++) {
+      final long radius = (long) (ring + 1) * ringWidth;
+      ringLimits[ring] = radius * radius;
+    }
+    return ringLimits;
+  }
+}
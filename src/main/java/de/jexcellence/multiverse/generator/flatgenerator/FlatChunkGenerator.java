@@ -0,0 +1,200 @@
+package de.jexcellence.multiverse.generator.flatgenerator;
+
+import de.jexcellence.multiverse.generator.plotgenerator.PlotBiomeProvider;
+import de.jexcellence.multiverse.generator.plotgenerator.PlotLayer;
+import de.jexcellence.multiverse.metrics.LatencyHistogram;
+import org.bukkit.HeightMap;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.generator.BiomeProvider;
+import org.bukkit.generator.BlockPopulator;
+import org.bukkit.generator.ChunkGenerator;
+import org.bukkit.generator.WorldInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A {@link ChunkGenerator} for flat worlds built from a {@link FlatLayerPreset}.
+ * <p>
+ * Every layer is written with a single region fill over the whole chunk, so a chunk costs one fill per layer
+ * regardless of its position, and all vanilla generation stages are skipped. The time spent per chunk is recorded in
+ * an optional {@link LatencyHistogram}.
+ * </p>
+ */
+public class FlatChunkGenerator extends ChunkGenerator {
+
+  private static final BiomeProvider DEFAULT_BIOME_PROVIDER = new PlotBiomeProvider();
+
+  private final FlatLayerPreset preset;
+  private final @Nullable LatencyHistogram generationTimer;
+
+  /**
+   * Constructs a new FlatChunkGenerator.
+   *
+   * @param preset          the layers of the world.
+   * @param generationTimer the timer recording the generation of every chunk, or {@code null}.
+   */
+  public FlatChunkGenerator(
+    final @NotNull FlatLayerPreset preset,
+    final @Nullable LatencyHistogram generationTimer
+  ) {
+    this.preset = preset;
+    this.generationTimer = generationTimer;
+  }
+
+  /**
+   * Constructs a new FlatChunkGenerator without timing.
+   *
+   * @param preset the layers of the world.
+   */
+  public FlatChunkGenerator(final @NotNull FlatLayerPreset preset) {
+    this(preset, null);
+  }
+
+  /**
+   * Fills the layers of the preset into the chunk, cutting off layers above the world.
+   */
+  @Override
+  public void generateNoise(
+    final @NotNull WorldInfo worldInfo,
+    final @NotNull Random random,
+    final int chunkX,
+    final int chunkZ,
+    final @NotNull ChunkData chunkData
+  ) {
+    final long startNanos = System.nanoTime();
+    final int maxY = worldInfo.getMaxHeight();
+
+    for (PlotLayer segment : this.preset.getSegments(worldInfo.getMinHeight())) {
+      if (segment.getStartY() >= maxY)
+        break;
+      chunkData.setRegion(0, segment.getStartY(), 0, 16, Math.min(segment.getEndY(), maxY), 16, segment.getMaterial());
+    }
+
+    if (this.generationTimer != null)
+      this.generationTimer.recordSince(startNanos);
+  }
+
+  @Override
+  public void generateSurface(
+    final @NotNull WorldInfo worldInfo,
+    final @NotNull Random random,
+    final int chunkX,
+    final int chunkZ,
+    final @NotNull ChunkData chunkData
+  ) {
+    // All terrain is written in generateNoise
+  }
+
+  @Override
+  public void generateBedrock(
+    final @NotNull WorldInfo worldInfo,
+    final @NotNull Random random,
+    final int chunkX,
+    final int chunkZ,
+    final @NotNull ChunkData chunkData
+  ) {
+    // Bedrock is part of the preset if wanted
+  }
+
+  @Override
+  public void generateCaves(
+    final @NotNull WorldInfo worldInfo,
+    final @NotNull Random random,
+    final int chunkX,
+    final int chunkZ,
+    final @NotNull ChunkData chunkData
+  ) {
+    // No caves in a flat world
+  }
+
+  /**
+   * Retrieves the height of the first block above the preset, which is the same for every column.
+   *
+   * @return the base height.
+   */
+  @Override
+  public int getBaseHeight(
+    final @NotNull WorldInfo worldInfo,
+    final @NotNull Random random,
+    final int x,
+    final int z,
+    final @NotNull HeightMap heightMap
+  ) {
+    return this.getSurfaceY(worldInfo.getMinHeight(), worldInfo.getMaxHeight());
+  }
+
+  @Override
+  public @Nullable BiomeProvider getDefaultBiomeProvider(
+    final @NotNull WorldInfo worldInfo
+  ) {
+    return DEFAULT_BIOME_PROVIDER;
+  }
+
+  @Override
+  public @NotNull List<BlockPopulator> getDefaultPopulators(
+    final @NotNull World world
+  ) {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public @Nullable Location getFixedSpawnLocation(
+    final @NotNull World world,
+    final @NotNull Random random
+  ) {
+    return new Location(world, 0.0, this.getSurfaceY(world.getMinHeight(), world.getMaxHeight()), 0.0);
+  }
+
+  /**
+   * Retrieves the preset this generator writes.
+   *
+   * @return the preset.
+   */
+  public @NotNull FlatLayerPreset getPreset() {
+    return this.preset;
+  }
+
+  private int getSurfaceY(final int minY, final int maxY) {
+    return Math.min(minY + this.preset.getHeight(), maxY);
+  }
+
+  @Override
+  public boolean shouldGenerateNoise(@NotNull WorldInfo worldInfo, @NotNull Random random, int chunkX, int chunkZ) {
+    return false;
+  }
+
+  @Override
+  public boolean shouldGenerateSurface(@NotNull WorldInfo worldInfo, @NotNull Random random, int chunkX, int chunkZ) {
+    return false;
+  }
+
+  @Override
+  public boolean shouldGenerateCaves(@NotNull WorldInfo worldInfo, @NotNull Random random, int chunkX, int chunkZ) {
+    return false;
+  }
+
+  @Override
+  public boolean shouldGenerateDecorations(@NotNull WorldInfo worldInfo, @NotNull Random random, int chunkX, int chunkZ) {
+    return false;
+  }
+
+  @Override
+  public boolean shouldGenerateMobs() {
+    return false;
+  }
+
+  @Override
+  public boolean shouldGenerateMobs(@NotNull WorldInfo worldInfo, @NotNull Random random, int chunkX, int chunkZ) {
+    return false;
+  }
+
+  @Override
+  public boolean shouldGenerateStructures(@NotNull WorldInfo worldInfo, @NotNull Random random, int chunkX, int chunkZ) {
+    return false;
+  }
+}
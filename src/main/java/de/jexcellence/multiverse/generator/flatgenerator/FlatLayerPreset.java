@@ -0,0 +1,168 @@
+package de.jexcellence.multiverse.generator.flatgenerator;
+
+import de.jexcellence.multiverse.generator.plotgenerator.PlotLayer;
+import org.bukkit.Material;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The material stack of a flat world, from the bottom of the world upwards.
+ * <p>
+ * A preset is written as a comma separated list of layers in the style of the vanilla superflat presets, where each
+ * layer is a block material optionally prefixed by its thickness, e.g. {@code bedrock,2*dirt,grass_block}. Presets are
+ * stored with their world in this normalized form, see {@link #serialize()}, so a world is always regenerated with the
+ * layers it was created with.
+ * </p>
+ */
+public final class FlatLayerPreset {
+
+  /**
+   * The preset used when neither the command nor the configuration provide one.
+   */
+  public static final String DEFAULT_PRESET = "bedrock,2*dirt,grass_block";
+
+  /**
+   * The largest total thickness of a preset, the height of the tallest possible world.
+   */
+  private static final int MAX_HEIGHT = 4064;
+
+  private final List<FlatLayer> layers;
+  private final int height;
+  private final Map<Integer, PlotLayer[]> segmentsByMinY = new ConcurrentHashMap<>();
+
+  private FlatLayerPreset(final List<FlatLayer> layers) {
+    this.layers = List.copyOf(layers);
+    this.height = layers.stream().mapToInt(FlatLayer::thickness).sum();
+  }
+
+  /**
+   * Parses a preset such as {@code bedrock,2*dirt,grass_block}. Materials may be namespaced.
+   *
+   * @param preset the preset.
+   * @return the parsed preset.
+   * @throws IllegalArgumentException if a layer is malformed, names no block or the preset is too high.
+   */
+  public static @NotNull FlatLayerPreset parse(final @NotNull String preset) {
+    final List<FlatLayer> layers = new ArrayList<>();
+    int height = 0;
+
+    for (String layer : preset.split(",")) {
+      final String trimmedLayer = layer.trim();
+      if (trimmedLayer.isEmpty())
+        continue;
+
+      final int separator = trimmedLayer.indexOf('*');
+      final int thickness;
+      try {
+        thickness = separator < 0 ? 1 : Integer.parseInt(trimmedLayer.substring(0, separator).trim());
+      } catch (final NumberFormatException exception) {
+        throw new IllegalArgumentException("Invalid layer thickness in '" + trimmedLayer + "'", exception);
+      }
+
+      final String materialName = trimmedLayer.substring(separator + 1).trim();
+      final Material material = Material.matchMaterial(materialName);
+      if (material == null || !material.isBlock())
+        throw new IllegalArgumentException("Unknown block '" + materialName + "'");
+      if (thickness < 1)
+        throw new IllegalArgumentException("Layer thickness must be positive in '" + trimmedLayer + "'");
+
+      height += thickness;
+      if (height > MAX_HEIGHT)
+        throw new IllegalArgumentException("Preset exceeds the maximum height of " + MAX_HEIGHT + " blocks");
+      layers.add(new FlatLayer(thickness, material));
+    }
+
+    if (layers.isEmpty())
+      throw new IllegalArgumentException("Preset contains no layers");
+    return new FlatLayerPreset(layers);
+  }
+
+  /**
+   * Converts this preset back into its normalized textual form, which is stored with the world.
+   *
+   * @return the normalized preset, e.g. {@code bedrock,2*dirt,grass_block}.
+   */
+  public @NotNull String serialize() {
+    final StringBuilder builder = new StringBuilder();
+    for (FlatLayer layer : this.layers) {
+      if (!builder.isEmpty())
+        builder.append(',');
+      if (layer.thickness() > 1)
+        builder.append(layer.thickness()).append('*');
+      builder.append(layer.material().name().toLowerCase(Locale.ROOT));
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Retrieves the layers from the bottom upwards.
+   *
+   * @return the unmodifiable list of layers.
+   */
+  public @NotNull List<FlatLayer> getLayers() {
+    return this.layers;
+  }
+
+  /**
+   * Retrieves the total thickness of all layers.
+   *
+   * @return the height in blocks.
+   */
+  public int getHeight() {
+    return this.height;
+  }
+
+  /**
+   * Retrieves the layers as absolute height ranges for a world starting at the given height. The result is computed
+   * once per minimum height and shared, it must not be modified.
+   *
+   * @param minY the minimum height of the world.
+   * @return the segments from the bottom upwards.
+   */
+  public @NotNull PlotLayer[] getSegments(final int minY) {
+    return this.segmentsByMinY.computeIfAbsent(minY, this::computeSegments);
+  }
+
+  private PlotLayer[] computeSegments(final int minY) {
+    final PlotLayer[] segments = new PlotLayer[this.layers.size()];
+    int startY = minY;
+    for (int index = 0; index < segments.length; index++) {
+      final FlatLayer layer = this.layers.get(index);
+      segments[index] = new PlotLayer(startY, startY + layer.thickness(), layer.material());
+      startY += layer.thickness();
+    }
+    return segments;
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (this == object)
+      return true;
+    if (!(object instanceof FlatLayerPreset flatLayerPreset))
+      return false;
+    return this.layers.equals(flatLayerPreset.layers);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.layers.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return this.serialize();
+  }
+
+  /**
+   * One layer of a preset.
+   *
+   * @param thickness the number of blocks the layer is high.
+   * @param material  the block material of the layer.
+   */
+  public record FlatLayer(int thickness, @NotNull Material material) {}
+}
@@ -0,0 +1,219 @@
+package de.jexcellence.multiverse.generator.islandgenerator;
+
+import de.jexcellence.multiverse.generator.voidgenerator.VoidBiomeProvider;
+import de.jexcellence.multiverse.metrics.LatencyHistogram;
+import org.bukkit.HeightMap;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.generator.BiomeProvider;
+import org.bukkit.generator.BlockPopulator;
+import org.bukkit.generator.ChunkGenerator;
+import org.bukkit.generator.WorldInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A {@link ChunkGenerator} for void worlds with one island on every point of a square grid.
+ * <p>
+ * The island at grid cell {@code (cellX, cellZ)} is centered on the block {@code (cellX * spacing, cellZ * spacing)}.
+ * While a chunk is generated, only the grid cells whose island overlaps the chunk are visited, and the overlapping
+ * slice of the compiled {@link IslandTemplate} is written into the chunk data. Islands therefore appear as their
+ * chunks are generated, and chunks between islands cost nothing but the overlap check. The time spent per chunk is
+ * recorded in an optional {@link LatencyHistogram}.
+ * </p>
+ */
+public class IslandGridChunkGenerator extends ChunkGenerator {
+
+  private static final BiomeProvider DEFAULT_BIOME_PROVIDER = new VoidBiomeProvider();
+
+  private final IslandTemplate template;
+  private final int spacing;
+  private final int islandY;
+  private final int centerOffsetX;
+  private final int centerOffsetZ;
+  private final @Nullable LatencyHistogram generationTimer;
+
+  /**
+   * Constructs a new IslandGridChunkGenerator.
+   *
+   * @param template        the island to place.
+   * @param spacing         the distance in blocks between the centers of two neighbouring islands.
+   * @param islandY         the height of the lowest layer of every island.
+   * @param generationTimer the timer recording the generation of every chunk, or {@code null}.
+   * @throws IllegalArgumentException if the island is wider than the spacing, so islands would overlap.
+   */
+  public IslandGridChunkGenerator(
+    final @NotNull IslandTemplate template,
+    final int spacing,
+    final int islandY,
+    final @Nullable LatencyHistogram generationTimer
+  ) {
+    if (template.getSizeX() > spacing || template.getSizeZ() > spacing)
+      throw new IllegalArgumentException("Island of " + template.getSizeX() + "x" + template.getSizeZ() + " blocks exceeds the spacing of " + spacing);
+
+    this.template = template;
+    this.spacing = spacing;
+    this.islandY = islandY;
+    this.centerOffsetX = template.getSizeX() / 2;
+    this.centerOffsetZ = template.getSizeZ() / 2;
+    this.generationTimer = generationTimer;
+  }
+
+  /**
+   * Constructs a new IslandGridChunkGenerator without timing.
+   *
+   * @param template the island to place.
+   * @param spacing  the distance in blocks between the centers of two neighbouring islands.
+   * @param islandY  the height of the lowest layer of every island.
+   */
+  public IslandGridChunkGenerator(
+    final @NotNull IslandTemplate template,
+    final int spacing,
+    final int islandY
+  ) {
+    this(template, spacing, islandY, null);
+  }
+
+  /**
+   * Writes the slices of all islands overlapping the chunk.
+   */
+  @Override
+  public void generateNoise(
+    final @NotNull WorldInfo worldInfo,
+    final @NotNull Random random,
+    final int chunkX,
+    final int chunkZ,
+    final @NotNull ChunkData chunkData
+  ) {
+    final long startNanos = System.nanoTime();
+    final int chunkMinX = chunkX << 4;
+    final int chunkMinZ = chunkZ << 4;
+
+    final int lastCellX = Math.floorDiv(chunkMinX + 15 + this.centerOffsetX, this.spacing);
+    final int lastCellZ = Math.floorDiv(chunkMinZ + 15 + this.centerOffsetZ, this.spacing);
+    for (int cellX = Math.floorDiv(chunkMinX + this.centerOffsetX - this.template.getSizeX(), this.spacing) + 1; cellX <= lastCellX; cellX++)
+      for (int cellZ = Math.floorDiv(chunkMinZ + this.centerOffsetZ - this.template.getSizeZ(), this.spacing) + 1; cellZ <= lastCellZ; cellZ++)
+        this.template.copyTo(
+          chunkData,
+          cellX * this.spacing - this.centerOffsetX - chunkMinX,
+          this.islandY,
+          cellZ * this.spacing - this.centerOffsetZ - chunkMinZ
+        );
+
+    if (this.generationTimer != null)
+      this.generationTimer.recordSince(startNanos);
+  }
+
+  @Override
+  public void generateSurface(
+    final @NotNull WorldInfo worldInfo,
+    final @NotNull Random random,
+    final int chunkX,
+    final int chunkZ,
+    final @NotNull ChunkData chunkData
+  ) {
+    // All islands are written in generateNoise
+  }
+
+  @Override
+  public void generateBedrock(
+    final @NotNull WorldInfo worldInfo,
+    final @NotNull Random random,
+    final int chunkX,
+    final int chunkZ,
+    final @NotNull ChunkData chunkData
+  ) {
+    // No bedrock floor between islands
+  }
+
+  @Override
+  public void generateCaves(
+    final @NotNull WorldInfo worldInfo,
+    final @NotNull Random random,
+    final int chunkX,
+    final int chunkZ,
+    final @NotNull ChunkData chunkData
+  ) {
+    // No caves in an island world
+  }
+
+  /**
+   * Retrieves the height above the islands.
+   *
+   * @return the base height.
+   */
+  @Override
+  public int getBaseHeight(
+    final @NotNull WorldInfo worldInfo,
+    final @NotNull Random random,
+    final int x,
+    final int z,
+    final @NotNull HeightMap heightMap
+  ) {
+    return this.islandY + this.template.getSizeY();
+  }
+
+  @Override
+  public @Nullable BiomeProvider getDefaultBiomeProvider(
+    final @NotNull WorldInfo worldInfo
+  ) {
+    return DEFAULT_BIOME_PROVIDER;
+  }
+
+  @Override
+  public @NotNull List<BlockPopulator> getDefaultPopulators(
+    final @NotNull World world
+  ) {
+    return Collections.emptyList();
+  }
+
+  /**
+   * Returns the spawn location on top of the island at the world origin.
+   */
+  @Override
+  public @Nullable Location getFixedSpawnLocation(
+    final @NotNull World world,
+    final @NotNull Random random
+  ) {
+    return new Location(world, 0.5, this.islandY + this.template.getSizeY(), 0.5);
+  }
+
+  @Override
+  public boolean shouldGenerateNoise(@NotNull WorldInfo worldInfo, @NotNull Random random, int chunkX, int chunkZ) {
+    return false;
+  }
+
+  @Override
+  public boolean shouldGenerateSurface(@NotNull WorldInfo worldInfo, @NotNull Random random, int chunkX, int chunkZ) {
+    return false;
+  }
+
+  @Override
+  public boolean shouldGenerateCaves(@NotNull WorldInfo worldInfo, @NotNull Random random, int chunkX, int chunkZ) {
+    return false;
+  }
+
+  @Override
+  public boolean shouldGenerateDecorations(@NotNull WorldInfo worldInfo, @NotNull Random random, int chunkX, int chunkZ) {
+    return false;
+  }
+
+  @Override
+  public boolean shouldGenerateMobs() {
+    return true;
+  }
+
+  @Override
+  public boolean shouldGenerateMobs(@NotNull WorldInfo worldInfo, @NotNull Random random, int chunkX, int chunkZ) {
+    return true;
+  }
+
+  @Override
+  public boolean shouldGenerateStructures(@NotNull WorldInfo worldInfo, @NotNull Random random, int chunkX, int chunkZ) {
+    return false;
+  }
+}
@@ -0,0 +1,109 @@
+package de.jexcellence.multiverse.generator.islandgenerator;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.regex.Pattern;
+
+/**
+ * The generator settings of an island grid world, stored with the world in the form
+ * {@code schematic=<name>,spacing=<blocks>,y=<height>}.
+ *
+ * @param schematic the name of the island schematic, see {@link #isValidSchematicName(String)}.
+ * @param spacing   the distance in blocks between the centers of two neighbouring islands.
+ * @param islandY   the height of the lowest layer of every island.
+ */
+public record IslandGridSettings(
+  @NotNull String schematic,
+  int spacing,
+  int islandY
+) {
+
+  /**
+   * The name of the built-in island, used if no schematic file of that name exists.
+   */
+  public static final String DEFAULT_SCHEMATIC = "default";
+
+  private static final Pattern SCHEMATIC_NAME_PATTERN = Pattern.compile("^[a-zA-Z0-9_-]+$");
+
+  public IslandGridSettings {
+    if (!isValidSchematicName(schematic))
+      throw new IllegalArgumentException("Invalid schematic name '" + schematic + "'");
+    if (spacing < 16)
+      throw new IllegalArgumentException("Island spacing must be at least 16 blocks");
+  }
+
+  /**
+   * Checks whether a schematic name only consists of letters, digits, dashes and underscores, so it can never point
+   * outside the schematics folder.
+   *
+   * @param schematic the schematic name.
+   * @return whether the name is valid.
+   */
+  public static boolean isValidSchematicName(final @NotNull String schematic) {
+    return SCHEMATIC_NAME_PATTERN.matcher(schematic).matches();
+  }
+
+  /**
+   * Parses settings written by {@link #serialize()}.
+   *
+   * @param settings the stored settings.
+   * @return the parsed settings.
+   * @throws IllegalArgumentException if the settings are malformed.
+   */
+  public static @NotNull IslandGridSettings parse(final @NotNull String settings) {
+    return parse(settings, DEFAULT_SCHEMATIC, 0, 0);
+  }
+
+  /**
+   * Parses settings entered by a player, either a bare schematic name or any of the entries of the stored form such
+   * as {@code schematic=classic,spacing=512}. Entries that are left out are taken from the defaults.
+   *
+   * @param settings the entered settings.
+   * @param defaults the settings used for entries that are left out.
+   * @return the parsed settings.
+   * @throws IllegalArgumentException if the settings are malformed.
+   */
+  public static @NotNull IslandGridSettings parse(
+    final @NotNull String settings,
+    final @NotNull IslandGridSettings defaults
+  ) {
+    if (settings.indexOf('=') < 0)
+      return new IslandGridSettings(settings.trim(), defaults.spacing(), defaults.islandY());
+    return parse(settings, defaults.schematic(), defaults.spacing(), defaults.islandY());
+  }
+
+  private static IslandGridSettings parse(
+    final String settings,
+    String schematic,
+    int spacing,
+    int islandY
+  ) {
+    for (String entry : settings.split(",")) {
+      final int separator = entry.indexOf('=');
+      if (separator < 0)
+        throw new IllegalArgumentException("Malformed island grid setting '" + entry + "'");
+
+      final String value = entry.substring(separator + 1).trim();
+      try {
+        switch (entry.substring(0, separator).trim()) {
+          case "schematic" -> schematic = value;
+          case "spacing" -> spacing = Integer.parseInt(value);
+          case "y" -> islandY = Integer.parseInt(value);
+          default -> throw new IllegalArgumentException("Unknown island grid setting '" + entry + "'");
+        }
+      } catch (final NumberFormatException exception) {
+        throw new IllegalArgumentException("Malformed island grid setting '" + entry + "'", exception);
+      }
+    }
+    return new IslandGridSettings(schematic, spacing, islandY);
+  }
+
+  /**
+   * Converts these settings into the form stored with the world.
+   *
+   * @return the settings, e.g. {@code schematic=default,spacing=256,y=64}.
+   */
+  public @NotNull String serialize() {
+    return "schematic=" + this.schematic + ",spacing=" + this.spacing + ",y=" + this.islandY;
+  }
+}
@@ -0,0 +1,239 @@
+package de.jexcellence.multiverse.generator.islandgenerator;
+
+import org.bukkit.Material;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.generator.ChunkGenerator;
+import org.bukkit.structure.Structure;
+import org.bukkit.util.BlockVector;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An island schematic compiled for generation.
+ * <p>
+ * The blocks are stored as a palette of distinct {@link BlockData} and, per block column, a list of vertical runs of
+ * the same palette entry. Air is left out, so a column costs one write per run and empty columns cost nothing.
+ * A template is immutable and may be shared by any number of generators.
+ * </p>
+ */
+public final class IslandTemplate {
+
+  private final int sizeX;
+  private final int sizeY;
+  private final int sizeZ;
+  private final BlockData[] palette;
+  private final int[] runOffsets;
+  private final short[] runStartY;
+  private final short[] runLength;
+  private final int[] runPalette;
+
+  private IslandTemplate(
+    final int sizeX,
+    final int sizeY,
+    final int sizeZ,
+    final BlockData[] palette,
+    final int[] runOffsets,
+    final short[] runStartY,
+    final short[] runLength,
+    final int[] runPalette
+  ) {
+    this.sizeX = sizeX;
+    this.sizeY = sizeY;
+    this.sizeZ = sizeZ;
+    this.palette = palette;
+    this.runOffsets = runOffsets;
+    this.runStartY = runStartY;
+    this.runLength = runLength;
+    this.runPalette = runPalette;
+  }
+
+  /**
+   * Compiles a dense block array into a template.
+   *
+   * @param sizeX  the size of the template along the X axis.
+   * @param sizeY  the size of the template along the Y axis, at most {@value Short#MAX_VALUE}.
+   * @param sizeZ  the size of the template along the Z axis.
+   * @param blocks the blocks at index {@code (x * sizeZ + z) * sizeY + y}, {@code null} for air.
+   * @return the compiled template.
+   * @throws IllegalArgumentException if the sizes do not match the array.
+   */
+  public static @NotNull IslandTemplate compile(
+    final int sizeX,
+    final int sizeY,
+    final int sizeZ,
+    final @Nullable BlockData @NotNull [] blocks
+  ) {
+    if (sizeX < 1 || sizeY < 1 || sizeZ < 1 || sizeY > Short.MAX_VALUE || (long) sizeX * sizeY * sizeZ != blocks.length)
+      throw new IllegalArgumentException("Invalid template size " + sizeX + "x" + sizeY + "x" + sizeZ);
+
+    final Map<BlockData, Integer> paletteIndices = new HashMap<>();
+    final List<BlockData> palette = new ArrayList<>();
+    final int[] runOffsets = new int[sizeX * sizeZ + 1];
+    final List<int[]> runs = new ArrayList<>();
+
+    for (int column = 0; column < sizeX * sizeZ; column++) {
+      runOffsets[column] = runs.size();
+      final int base = column * sizeY;
+
+      int y = 0;
+      while (y < sizeY) {
+        final BlockData block = blocks[base + y];
+        if (block == null) {
+          y++;
+          continue;
+        }
+
+        final int startY = y;
+        while (y < sizeY && block.equals(blocks[base + y]))
+          y++;
+
+        final int paletteIndex = paletteIndices.computeIfAbsent(block, ignored -> {
+          palette.add(block);
+          return palette.size() - 1;
+        });
+        runs.add(new int[]{startY, y - startY, paletteIndex});
+      }
+    }
+    runOffsets[sizeX * sizeZ] = runs.size();
+
+    final short[] runStartY = new short[runs.size()];
+    final short[] runLength = new short[runs.size()];
+    final int[] runPalette = new int[runs.size()];
+    for (int index = 0; index < runs.size(); index++) {
+      final int[] run = runs.get(index);
+      runStartY[index] = (short) run[0];
+      runLength[index] = (short) run[1];
+      runPalette[index] = run[2];
+    }
+
+    return new IslandTemplate(
+      sizeX, sizeY, sizeZ, palette.toArray(BlockData[]::new), runOffsets, runStartY, runLength, runPalette
+    );
+  }
+
+  /**
+   * Compiles the first palette of a structure, such as one saved with a structure block. Air and structure voids are
+   * left out. Block entity contents, e.g. chest inventories, and entities are not part of the template.
+   *
+   * @param structure the structure.
+   * @return the compiled template.
+   * @throws IllegalArgumentException if the structure is empty.
+   */
+  public static @NotNull IslandTemplate fromStructure(final @NotNull Structure structure) {
+    final BlockVector size = structure.getSize();
+    final int sizeX = size.getBlockX();
+    final int sizeY = size.getBlockY();
+    final int sizeZ = size.getBlockZ();
+    if (structure.getPalettes().isEmpty() || sizeX < 1 || sizeY < 1 || sizeZ < 1)
+      throw new IllegalArgumentException("Structure contains no blocks");
+
+    final BlockData[] blocks = new BlockData[sizeX * sizeY * sizeZ];
+    for (BlockState blockState : structure.getPalettes().getFirst().getBlocks()) {
+      final BlockData blockData = blockState.getBlockData();
+      if (blockData.getMaterial().isAir() || blockData.getMaterial() == Material.STRUCTURE_VOID)
+        continue;
+      blocks[(blockState.getX() * sizeZ + blockState.getZ()) * sizeY + blockState.getY()] = blockData;
+    }
+    return compile(sizeX, sizeY, sizeZ, blocks);
+  }
+
+  /**
+   * Builds the built-in island: a 7x3x7 block of dirt with a grass top and bedrock at the bottom center.
+   *
+   * @return the compiled template.
+   */
+  public static @NotNull IslandTemplate defaultIsland() {
+    final int size = 7;
+    final int height = 3;
+    final BlockData dirt = Material.DIRT.createBlockData();
+    final BlockData grass = Material.GRASS_BLOCK.createBlockData();
+    final BlockData bedrock = Material.BEDROCK.createBlockData();
+
+    final BlockData[] blocks = new BlockData[size * height * size];
+    for (int x = 0; x < size; x++)
+      for (int z = 0; z < size; z++)
+        for (int y = 0; y < height; y++)
+          blocks[(x * size + z) * height + y] = y == height - 1 ? grass : dirt;
+    blocks[((size / 2) * size + size / 2) * height] = bedrock;
+    return compile(size, height, size, blocks);
+  }
+
+  /**
+   * Writes the part of the template that falls into the given chunk.
+   *
+   * @param chunkData the chunk to write into.
+   * @param originX   the chunk-relative X coordinate of the template origin, may lie outside the chunk.
+   * @param originY   the absolute Y coordinate of the template origin.
+   * @param originZ   the chunk-relative Z coordinate of the template origin, may lie outside the chunk.
+   */
+  public void copyTo(
+    final @NotNull ChunkGenerator.ChunkData chunkData,
+    final int originX,
+    final int originY,
+    final int originZ
+  ) {
+    final int minY = chunkData.getMinHeight();
+    final int maxY = chunkData.getMaxHeight();
+    final int fromX = Math.max(0, -originX);
+    final int toX = Math.min(this.sizeX, 16 - originX);
+    final int fromZ = Math.max(0, -originZ);
+    final int toZ = Math.min(this.sizeZ, 16 - originZ);
+
+    for (int x = fromX; x < toX; x++) {
+      final int chunkX = originX + x;
+      for (int z = fromZ; z < toZ; z++) {
+        final int chunkZ = originZ + z;
+        final int column = x * this.sizeZ + z;
+
+        for (int run = this.runOffsets[column]; run < this.runOffsets[column + 1]; run++) {
+          final int startY = Math.max(originY + this.runStartY[run], minY);
+          final int endY = Math.min(originY + this.runStartY[run] + this.runLength[run], maxY);
+          if (startY >= endY)
+            continue;
+
+          final BlockData block = this.palette[this.runPalette[run]];
+          if (endY - startY == 1)
+            chunkData.setBlock(chunkX, startY, chunkZ, block);
+          else
+            chunkData.setRegion(chunkX, startY, chunkZ, chunkX + 1, endY, chunkZ + 1, block);
+        }
+      }
+    }
+  }
+
+  public int getSizeX() {
+    return this.sizeX;
+  }
+
+  public int getSizeY() {
+    return this.sizeY;
+  }
+
+  public int getSizeZ() {
+    return this.sizeZ;
+  }
+
+  /**
+   * Retrieves the number of distinct blocks of the template.
+   *
+   * @return the palette size.
+   */
+  public int getPaletteSize() {
+    return this.palette.length;
+  }
+
+  /**
+   * Retrieves the number of writes needed to place the whole template.
+   *
+   * @return the number of runs.
+   */
+  public int getRunCount() {
+    return this.runStartY.length;
+  }
+}
@@ -5,7 +5,6 @@ import org.bukkit.generator.BiomeProvider;
 import org.bukkit.generator.WorldInfo;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class PlotBiomeProvider extends BiomeProvider {
@@ -39,6 +38,15 @@ public class PlotBiomeProvider extends BiomeProvider {
 	public @NotNull List<Biome> getBiomes(
 		@NotNull final WorldInfo info
 	) {
-		return new ArrayList<>(List.of(Biome.PLAINS));
+		return Biomes.BIOMES;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Holds the biome list, so {@link Biome} is only resolved against the server registry on the first call of
+	 * {@link #getBiomes(WorldInfo)} and not whenever a generator referencing this provider is loaded.
+	 */
+	private static final class Biomes {
+
+		private static final List<Biome> BIOMES = List.of(Biome.PLAINS);
+	}
+}
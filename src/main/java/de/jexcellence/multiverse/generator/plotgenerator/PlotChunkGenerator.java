@@ -16,13 +16,35 @@ import java.util.Random;
 
 public class PlotChunkGenerator extends ChunkGenerator {
 
-  private final int plotSize;
-  private final int plotRoadWidth;
-  private final int plotHeight;
-  private final Material plotWallMaterial;
-  private final Material plotRandMaterial;
-  private final Material plotFloorMaterial;
-  private final List<PlotLayer> plotLayers;
+  private static final BiomeProvider DEFAULT_BIOME_PROVIDER = new PlotBiomeProvider();
+
+  private final PlotGenerationMode generationMode;
+  private final PlotLayout plotLayout;
+
+  private volatile PlotChunkTemplateCache templateCache;
+
+  public PlotChunkGenerator(
+    final int plotSize,
+    final int plotRoadWidth,
+    final int plotHeight,
+    final @NotNull Material plotWallMaterial,
+    final @NotNull Material plotRandMaterial,
+    final @NotNull Material plotFloorMaterial,
+    final @NotNull List<PlotLayer> plotLayers,
+    final @NotNull PlotGenerationMode generationMode
+  ) {
+    this.generationMode = generationMode;
+    this.plotLayout = new PlotLayout(
+      plotSize,
+      plotRoadWidth,
+      plotHeight,
+      plotWallMaterial,
+      plotRandMaterial,
+      plotFloorMaterial,
+      plotLayers,
+      true
+    );
+  }
 
   public PlotChunkGenerator(
     final int plotSize,
@@ -33,13 +55,16 @@ public class PlotChunkGenerator extends ChunkGenerator {
     final @NotNull Material plotFloorMaterial,
     final @NotNull List<PlotLayer> plotLayers
   ) {
-    this.plotSize = plotSize;
-    this.plotRoadWidth = plotRoadWidth;
-    this.plotHeight = plotHeight;
-    this.plotWallMaterial = plotWallMaterial;
-    this.plotRandMaterial = plotRandMaterial;
-    this.plotFloorMaterial = plotFloorMaterial;
-    this.plotLayers = plotLayers;
+    this(
+      plotSize,
+      plotRoadWidth,
+      plotHeight,
+      plotWallMaterial,
+      plotRandMaterial,
+      plotFloorMaterial,
+      plotLayers,
+      PlotGenerationMode.CHUNK_DATA
+    );
   }
 
   public PlotChunkGenerator(
@@ -64,6 +89,13 @@ public class PlotChunkGenerator extends ChunkGenerator {
     );
   }
 
+  /**
+   * Writes the plot terrain of the chunk when running in {@link PlotGenerationMode#CHUNK_DATA}.
+   * <p>
+   * The chunk's layout is copied from a precompiled {@link PlotChunkTemplate}, selected by the chunk origin
+   * modulo the layout period, through bulk region fills.
+   * </p>
+   */
   @Override
   public void generateNoise(
     final @NotNull WorldInfo worldInfo,
@@ -72,7 +104,10 @@ public class PlotChunkGenerator extends ChunkGenerator {
     final int chunkZ,
     final @NotNull ChunkData chunkData
   ) {
-    // NOT NEEDED DUE TO VOID WORLD
+    if (this.generationMode != PlotGenerationMode.CHUNK_DATA)
+      return;
+
+    this.getTemplateCache(worldInfo.getMinHeight()).getTemplate(chunkX, chunkZ).copyTo(chunkData);
   }
 
   @Override
@@ -108,11 +143,20 @@ public class PlotChunkGenerator extends ChunkGenerator {
     // NOT NEEDED DUE TO VOID WORLD
   }
 
+  private PlotChunkTemplateCache getTemplateCache(final int minY) {
+    PlotChunkTemplateCache cache = this.templateCache;
+    if (cache == null || cache.getMinY() != minY) {
+      cache = PlotChunkTemplateCache.of(this.plotLayout, minY);
+      this.templateCache = cache;
+    }
+    return cache;
+  }
+
   @Override
   public @Nullable BiomeProvider getDefaultBiomeProvider(
     final @NotNull WorldInfo worldInfo
   ) {
-    return new PlotBiomeProvider();
+    return DEFAULT_BIOME_PROVIDER;
   }
 
   @Override
@@ -120,18 +164,10 @@ public class PlotChunkGenerator extends ChunkGenerator {
   final @NotNull List<BlockPopulator> getDefaultPopulators(
     final @NotNull World world
   ) {
-    return Collections.singletonList(
-      new PlotBlockPopulator(
-        this.plotSize,
-        this.plotRoadWidth,
-        this.plotHeight,
-        this.plotWallMaterial,
-        this.plotRandMaterial,
-        this.plotFloorMaterial,
-        this.plotLayers,
-        true
-      )
-    );
+    if (this.generationMode != PlotGenerationMode.POPULATOR)
+      return Collections.emptyList();
+
+    return Collections.singletonList(new PlotBlockPopulator(this.plotLayout));
   }
 
   @Override
@@ -139,7 +175,16 @@ public class PlotChunkGenerator extends ChunkGenerator {
     final @NotNull World world,
     final @NotNull Random random
   ) {
-    return new Location(world, 0.0, this.plotHeight + 1, 0.0);
+    return new Location(world, 0.0, this.plotLayout.getPlotHeight() + 1, 0.0);
+  }
+
+  /**
+   * Retrieves the layout this generator writes.
+   *
+   * @return the plot layout.
+   */
+  public @NotNull PlotLayout getPlotLayout() {
+    return this.plotLayout;
   }
 
   @Override
@@ -0,0 +1,138 @@
+package de.jexcellence.multiverse.generator.plotgenerator;
+
+import org.bukkit.Material;
+import org.bukkit.generator.ChunkGenerator;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An immutable, precompiled block layout of one plot world chunk.
+ * <p>
+ * The layout is stored as a palette of materials and a flat list of cuboid regions referencing that palette.
+ * Columns of the same {@link PlotColumn} class are merged into rectangles before compiling, so copying a template
+ * into a chunk costs one bulk region fill per rectangle and segment, independent of the plot height.
+ * </p>
+ */
+public final class PlotChunkTemplate {
+
+  private static final int REGION_STRIDE = 7;
+
+  private final Material[] palette;
+  private final int[] regions;
+
+  private PlotChunkTemplate(
+    final @NotNull Material[] palette,
+    final @NotNull int[] regions
+  ) {
+    this.palette = palette;
+    this.regions = regions;
+  }
+
+  /**
+   * Compiles the template of a chunk whose origin lies at the given offsets within the layout period.
+   *
+   * @param plotLayout the plot layout.
+   * @param minY       the minimum height of the world.
+   * @param offsetX    the X offset of the chunk origin within the layout period.
+   * @param offsetZ    the Z offset of the chunk origin within the layout period.
+   * @return the compiled template.
+   */
+  static @NotNull PlotChunkTemplate compile(
+    final @NotNull PlotLayout plotLayout,
+    final int minY,
+    final int offsetX,
+    final int offsetZ
+  ) {
+    final int period = plotLayout.getPeriod();
+    final PlotColumn[] columns = new PlotColumn[256];
+    for (int x = 0; x < 16; x++)
+      for (int z = 0; z < 16; z++)
+        columns[x << 4 | z] = plotLayout.getColumnAtOffset((offsetX + x) % period, (offsetZ + z) % period);
+
+    final PlotLayer[][] segments = plotLayout.getSegments(minY);
+    final Map<Material, Integer> paletteIndices = new LinkedHashMap<>();
+    final boolean[] covered = new boolean[256];
+    int[] regions = new int[REGION_STRIDE * 16];
+    int length = 0;
+
+    for (int x = 0; x < 16; x++) {
+      for (int z = 0; z < 16; z++) {
+        if (covered[x << 4 | z])
+          continue;
+
+        final PlotColumn column = columns[x << 4 | z];
+
+        int endZ = z + 1;
+        while (endZ < 16 && !covered[x << 4 | endZ] && columns[x << 4 | endZ] == column)
+          endZ++;
+
+        int endX = x + 1;
+        while (endX < 16 && isUniformRow(columns, covered, endX, z, endZ, column))
+          endX++;
+
+        for (int coveredX = x; coveredX < endX; coveredX++)
+          for (int coveredZ = z; coveredZ < endZ; coveredZ++)
+            covered[coveredX << 4 | coveredZ] = true;
+
+        for (PlotLayer segment : segments[column.ordinal()]) {
+          if (length + REGION_STRIDE > regions.length)
+            regions = Arrays.copyOf(regions, regions.length * 2);
+
+          regions[length++] = x;
+          regions[length++] = segment.getStartY();
+          regions[length++] = z;
+          regions[length++] = endX;
+          regions[length++] = segment.getEndY();
+          regions[length++] = endZ;
+          regions[length++] = paletteIndices.computeIfAbsent(segment.getMaterial(), material -> paletteIndices.size());
+        }
+      }
+    }
+
+    return new PlotChunkTemplate(
+      paletteIndices.keySet().toArray(Material[]::new),
+      Arrays.copyOf(regions, length)
+    );
+  }
+
+  /**
+   * Copies this template into the given chunk.
+   *
+   * @param chunkData the chunk to write to.
+   */
+  public void copyTo(final @NotNull ChunkGenerator.ChunkData chunkData) {
+    final int[] regions = this.regions;
+    for (int i = 0; i < regions.length; i += REGION_STRIDE)
+      chunkData.setRegion(
+        regions[i], regions[i + 1], regions[i + 2],
+        regions[i + 3], regions[i + 4], regions[i + 5],
+        this.palette[regions[i + 6]]
+      );
+  }
+
+  /**
+   * Retrieves the number of bulk region fills needed to copy this template.
+   *
+   * @return the number of regions.
+   */
+  public int getRegionCount() {
+    return this.regions.length / REGION_STRIDE;
+  }
+
+  private static boolean isUniformRow(
+    final PlotColumn[] columns,
+    final boolean[] covered,
+    final int x,
+    final int startZ,
+    final int endZ,
+    final PlotColumn column
+  ) {
+    for (int z = startZ; z < endZ; z++)
+      if (covered[x << 4 | z] || columns[x << 4 | z] != column)
+        return false;
+    return true;
+  }
+}
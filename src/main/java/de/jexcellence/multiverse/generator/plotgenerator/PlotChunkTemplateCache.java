@@ -0,0 +1,104 @@
+package de.jexcellence.multiverse.generator.plotgenerator;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Holds the distinct {@link PlotChunkTemplate}s of one plot layout.
+ * <p>
+ * Because plot terrain repeats every {@code plotSize + plotRoadWidth} blocks, a chunk's layout is fully determined by
+ * its origin modulo that period. Chunk origins are multiples of 16, so only {@code (period / gcd(16, period))²}
+ * distinct layouts exist. Each is compiled once on first use and shared by all generators with an equal
+ * layout and world height.
+ * </p>
+ */
+public final class PlotChunkTemplateCache {
+
+  private static final Map<CacheKey, PlotChunkTemplateCache> SHARED_CACHES = new ConcurrentHashMap<>();
+
+  private final PlotLayout plotLayout;
+  private final int minY;
+  private final int period;
+  private final int step;
+  private final int templatesPerAxis;
+  private final AtomicReferenceArray<PlotChunkTemplate> templates;
+
+  private PlotChunkTemplateCache(
+    final @NotNull PlotLayout plotLayout,
+    final int minY
+  ) {
+    this.plotLayout = plotLayout;
+    this.minY = minY;
+    this.period = plotLayout.getPeriod();
+    this.step = gcd(16, this.period);
+    this.templatesPerAxis = this.period / this.step;
+    this.templates = new AtomicReferenceArray<>(this.templatesPerAxis * this.templatesPerAxis);
+  }
+
+  /**
+   * Retrieves the shared template cache for the given layout and world height.
+   *
+   * @param plotLayout the plot layout.
+   * @param minY       the minimum height of the world.
+   * @return the template cache.
+   */
+  public static @NotNull PlotChunkTemplateCache of(
+    final @NotNull PlotLayout plotLayout,
+    final int minY
+  ) {
+    return SHARED_CACHES.computeIfAbsent(
+      new CacheKey(plotLayout, minY),
+      key -> new PlotChunkTemplateCache(key.plotLayout(), key.minY())
+    );
+  }
+
+  /**
+   * Retrieves the template of the given chunk, compiling it on first use.
+   *
+   * @param chunkX the chunk X coordinate.
+   * @param chunkZ the chunk Z coordinate.
+   * @return the chunk template.
+   */
+  public @NotNull PlotChunkTemplate getTemplate(final int chunkX, final int chunkZ) {
+    final int offsetX = Math.floorMod(chunkX << 4, this.period);
+    final int offsetZ = Math.floorMod(chunkZ << 4, this.period);
+    final int index = (offsetX / this.step) * this.templatesPerAxis + offsetZ / this.step;
+
+    final PlotChunkTemplate template = this.templates.get(index);
+    if (template != null)
+      return template;
+
+    final PlotChunkTemplate compiled = PlotChunkTemplate.compile(this.plotLayout, this.minY, offsetX, offsetZ);
+    return this.templates.compareAndSet(index, null, compiled) ? compiled : this.templates.get(index);
+  }
+
+  /**
+   * Retrieves the minimum world height the templates were compiled for.
+   *
+   * @return the minimum height.
+   */
+  public int getMinY() {
+    return this.minY;
+  }
+
+  /**
+   * Retrieves the number of distinct chunk layouts of the plot layout.
+   *
+   * @return the number of templates.
+   */
+  public int getTemplateCount() {
+    return this.templates.length();
+  }
+
+  private static int gcd(final int a, final int b) {
+    return b == 0 ? a : gcd(b, a % b);
+  }
+
+  private record CacheKey(
+    @NotNull PlotLayout plotLayout,
+    int minY
+  ) {}
+}
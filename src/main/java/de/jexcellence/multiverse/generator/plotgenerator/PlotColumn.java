@@ -0,0 +1,21 @@
+package de.jexcellence.multiverse.generator.plotgenerator;
+
+/**
+ * Enumerates the classes of block columns a plot world consists of.
+ */
+public enum PlotColumn {
+  /**
+   * A column of the wall surrounding a plot.
+   */
+  BORDER,
+
+  /**
+   * A column of the road between plots.
+   */
+  ROAD,
+
+  /**
+   * A column inside a plot.
+   */
+  PLOT
+}
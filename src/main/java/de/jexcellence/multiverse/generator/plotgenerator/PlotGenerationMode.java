@@ -0,0 +1,16 @@
+package de.jexcellence.multiverse.generator.plotgenerator;
+
+/**
+ * Enumerates the strategies a {@link PlotChunkGenerator} can use to build the plot terrain.
+ */
+public enum PlotGenerationMode {
+  /**
+   * Writes the terrain during noise generation through bulk {@code ChunkData} region fills.
+   */
+  CHUNK_DATA,
+
+  /**
+   * Writes the terrain block by block in the populator stage through a {@link PlotBlockPopulator}.
+   */
+  POPULATOR
+}
@@ -3,6 +3,8 @@ package de.jexcellence.multiverse.generator.plotgenerator;
 import org.bukkit.Material;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Objects;
+
 public class PlotLayer {
 
   private final int startY;
@@ -30,4 +32,18 @@ public class PlotLayer {
   public Material getMaterial() {
     return this.material;
   }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (this == object)
+      return true;
+    if (!(object instanceof PlotLayer plotLayer))
+      return false;
+    return this.startY == plotLayer.startY && this.endY == plotLayer.endY && this.material == plotLayer.material;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.startY, this.endY, this.material);
+  }
 }
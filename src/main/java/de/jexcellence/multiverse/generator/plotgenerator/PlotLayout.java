@@ -0,0 +1,196 @@
+package de.jexcellence.multiverse.generator.plotgenerator;
+
+import org.bukkit.Material;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Describes the block layout of a plot world.
+ * <p>
+ * The layout is periodic with a period of {@code plotSize + plotRoadWidth} on both horizontal axes. Every block column
+ * belongs to one {@link PlotColumn} class, and all columns of a class share the same vertical segments, which are
+ * expressed as {@link PlotLayer}s.
+ * </p>
+ */
+public final class PlotLayout {
+
+  private final int plotSize;
+  private final int plotRoadWidth;
+  private final int plotHeight;
+  private final Material plotWallMaterial;
+  private final Material plotRandMaterial;
+  private final Material plotFloorMaterial;
+  private final List<PlotLayer> plotLayers;
+  private final boolean fillEntirePlot;
+  private final int period;
+
+  private final Map<Integer, PlotLayer[][]> segmentsByMinY = new ConcurrentHashMap<>();
+
+  public PlotLayout(
+    final int plotSize,
+    final int plotRoadWidth,
+    final int plotHeight,
+    final @NotNull Material plotWallMaterial,
+    final @NotNull Material plotRandMaterial,
+    final @NotNull Material plotFloorMaterial,
+    final @NotNull List<PlotLayer> plotLayers,
+    final boolean fillEntirePlot
+  ) {
+    this.plotSize = plotSize;
+    this.plotRoadWidth = plotRoadWidth;
+    this.plotHeight = plotHeight;
+    this.plotWallMaterial = plotWallMaterial;
+    this.plotRandMaterial = plotRandMaterial;
+    this.plotFloorMaterial = plotFloorMaterial;
+    this.plotLayers = List.copyOf(plotLayers);
+    this.fillEntirePlot = fillEntirePlot;
+    this.period = plotSize + plotRoadWidth;
+  }
+
+  /**
+   * Determines the column class at the given absolute block coordinates.
+   *
+   * @param absX the absolute X coordinate.
+   * @param absZ the absolute Z coordinate.
+   * @return the {@link PlotColumn} of the column.
+   */
+  public @NotNull PlotColumn getColumn(final int absX, final int absZ) {
+    return this.getColumnAtOffset(Math.floorMod(absX, this.period), Math.floorMod(absZ, this.period));
+  }
+
+  /**
+   * Determines the column class at the given offsets within one layout period.
+   *
+   * @param moduloX the X offset, between {@code 0} and {@link #getPeriod()} exclusive.
+   * @param moduloZ the Z offset, between {@code 0} and {@link #getPeriod()} exclusive.
+   * @return the {@link PlotColumn} of the column.
+   */
+  public @NotNull PlotColumn getColumnAtOffset(final int moduloX, final int moduloZ) {
+    if (this.isPlotBorder(moduloX) || this.isPlotBorder(moduloZ))
+      return PlotColumn.BORDER;
+
+    if (moduloX < this.plotRoadWidth || moduloZ < this.plotRoadWidth)
+      return PlotColumn.ROAD;
+
+    return PlotColumn.PLOT;
+  }
+
+  /**
+   * Retrieves the vertical segments of every column class, indexed by {@link PlotColumn#ordinal()}.
+   * <p>
+   * Segments are listed in write order; a later segment overrides an earlier one where they overlap.
+   * The result is computed once per minimum world height and shared afterwards, so it must not be modified.
+   * </p>
+   *
+   * @param minY the minimum height of the world.
+   * @return the segments per column class.
+   */
+  public @NotNull PlotLayer[][] getSegments(final int minY) {
+    return this.segmentsByMinY.computeIfAbsent(minY, this::computeSegments);
+  }
+
+  /**
+   * Determines the index of the plot whose layout period contains the given absolute coordinate. The same index
+   * applies to both horizontal axes.
+   *
+   * @param absolute the absolute X or Z coordinate.
+   * @return the plot index.
+   */
+  public int getPlotIndex(final int absolute) {
+    return Math.floorDiv(absolute, this.period);
+  }
+
+  /**
+   * Retrieves the lowest absolute coordinate of a plot including its wall, on either horizontal axis. The plot and
+   * its wall span {@link #getPlotSize()} columns from there; the road lies in front of it.
+   *
+   * @param plotIndex the plot index.
+   * @return the first coordinate of the plot.
+   */
+  public int getPlotOrigin(final int plotIndex) {
+    return plotIndex * this.period + this.plotRoadWidth;
+  }
+
+  public int getPlotSize() {
+    return this.plotSize;
+  }
+
+  public int getPlotRoadWidth() {
+    return this.plotRoadWidth;
+  }
+
+  public int getPlotHeight() {
+    return this.plotHeight;
+  }
+
+  public int getPeriod() {
+    return this.period;
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (this == object)
+      return true;
+    if (!(object instanceof PlotLayout plotLayout))
+      return false;
+    return this.plotSize == plotLayout.plotSize &&
+           this.plotRoadWidth == plotLayout.plotRoadWidth &&
+           this.plotHeight == plotLayout.plotHeight &&
+           this.plotWallMaterial == plotLayout.plotWallMaterial &&
+           this.plotRandMaterial == plotLayout.plotRandMaterial &&
+           this.plotFloorMaterial == plotLayout.plotFloorMaterial &&
+           this.fillEntirePlot == plotLayout.fillEntirePlot &&
+           this.plotLayers.equals(plotLayout.plotLayers);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+      this.plotSize,
+      this.plotRoadWidth,
+      this.plotHeight,
+      this.plotWallMaterial,
+      this.plotRandMaterial,
+      this.plotFloorMaterial,
+      this.fillEntirePlot,
+      this.plotLayers
+    );
+  }
+
+  private boolean isPlotBorder(final int modulo) {
+    return modulo == this.plotRoadWidth || modulo == this.period - 1;
+  }
+
+  private PlotLayer[][] computeSegments(final int minY) {
+    final PlotLayer[][] segments = new PlotLayer[PlotColumn.values().length][];
+    final PlotLayer bedrock = new PlotLayer(minY, minY + 1, Material.BEDROCK);
+
+    segments[PlotColumn.BORDER.ordinal()] = new PlotLayer[]{
+      bedrock,
+      new PlotLayer(minY + 1, this.plotHeight, this.plotWallMaterial),
+      new PlotLayer(this.plotHeight, this.plotHeight + 1, this.plotRandMaterial)
+    };
+
+    segments[PlotColumn.ROAD.ordinal()] = new PlotLayer[]{
+      bedrock,
+      new PlotLayer(this.plotHeight - 1, this.plotHeight, Material.GRASS_BLOCK)
+    };
+
+    final List<PlotLayer> plotSegments = new ArrayList<>();
+    plotSegments.add(bedrock);
+    if (this.fillEntirePlot) {
+      plotSegments.add(new PlotLayer(minY + 1, this.plotHeight, this.plotFloorMaterial));
+    } else {
+      for (PlotLayer plotLayer : this.plotLayers)
+        plotSegments.add(new PlotLayer(plotLayer.getStartY(), plotLayer.getEndY(), this.plotFloorMaterial));
+    }
+    segments[PlotColumn.PLOT.ordinal()] = plotSegments.toArray(PlotLayer[]::new);
+
+    return segments;
+  }
+}
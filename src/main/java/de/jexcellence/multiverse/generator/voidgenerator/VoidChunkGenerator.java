@@ -20,6 +20,8 @@ import java.util.Random;
  */
 public class VoidChunkGenerator extends ChunkGenerator {
 
+  private static final BiomeProvider DEFAULT_BIOME_PROVIDER = new VoidBiomeProvider();
+
   /**
    * Generates noise for the chunk, but in a void world, no terrain is created.
    *
@@ -86,13 +88,13 @@ public class VoidChunkGenerator extends ChunkGenerator {
    * Provides a default {@link BiomeProvider} for the void world.
    *
    * @param worldInfo The world information.
-   * @return A {@link VoidBiomeProvider} instance that always returns THE_VOID biome.
+   * @return A shared {@link VoidBiomeProvider} instance that always returns THE_VOID biome.
    */
   @Override
   public @Nullable BiomeProvider getDefaultBiomeProvider(
     @NotNull final WorldInfo worldInfo
   ) {
-    return new VoidBiomeProvider();
+    return DEFAULT_BIOME_PROVIDER;
   }
 
   /**
@@ -0,0 +1,61 @@
+package de.jexcellence.multiverse.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A Flight Recorder event for a call of the world repository, including whether a read was answered by the
+ * in-memory read model.
+ */
+@Name("jemultiverse.RepositoryCall")
+@Label("Repository Call")
+@Category({"JEMultiverse", "Database"})
+@Description("A query or write of the world repository")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+  @Label("Operation")
+  String operation;
+
+  @Label("World")
+  @Description("The world identifier the call refers to, if any")
+  String world;
+
+  @Label("Cache Hit")
+  @Description("Whether a read found its world in the read model, always false for writes")
+  boolean cacheHit;
+
+  @Label("Rows")
+  @Description("The number of rows read or written")
+  int rows;
+
+  /**
+   * Ends the call and commits the event if it is recorded.
+   *
+   * @param operation the repository operation, e.g. {@code find_by_identifier}.
+   * @param world     the world identifier, or {@code null} if the call does not refer to a single world.
+   * @param cacheHit  whether a read found its world in the read model.
+   * @param rows      the number of rows read or written.
+   */
+  public void end(
+    final @NotNull String operation,
+    final @Nullable String world,
+    final boolean cacheHit,
+    final int rows
+  ) {
+    if (!this.shouldCommit())
+      return;
+
+    this.operation = operation;
+    this.world = world;
+    this.cacheHit = cacheHit;
+    this.rows = rows;
+    this.commit();
+  }
+}
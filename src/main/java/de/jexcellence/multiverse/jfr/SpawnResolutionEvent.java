@@ -0,0 +1,53 @@
+package de.jexcellence.multiverse.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A Flight Recorder event for resolving the spawn or respawn location of a player on the main thread.
+ */
+@Name("jemultiverse.SpawnResolution")
+@Label("Spawn Resolution")
+@Category({"JEMultiverse", "Spawns"})
+@Description("Resolution of the location a player spawns or respawns at")
+@StackTrace(false)
+public class SpawnResolutionEvent extends Event {
+
+  @Label("Player")
+  String player;
+
+  @Label("World")
+  @Description("The world of the resolved location")
+  String world;
+
+  @Label("Respawn")
+  boolean respawn;
+
+  /**
+   * Ends the resolution and commits the event if it is recorded.
+   *
+   * @param player   the spawning player.
+   * @param location the resolved location.
+   * @param respawn  {@code true} for a respawn, {@code false} for the spawn on join.
+   */
+  public void end(
+    final @NotNull Player player,
+    final @NotNull Location location,
+    final boolean respawn
+  ) {
+    if (!this.shouldCommit())
+      return;
+
+    this.player = player.getName();
+    this.world = location.isWorldLoaded() ? location.getWorld().getName() : null;
+    this.respawn = respawn;
+    this.commit();
+  }
+}
@@ -0,0 +1,67 @@
+package de.jexcellence.multiverse.jfr;
+
+import de.jexcellence.multiverse.type.MVWorldType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A Flight Recorder event for one phase of creating, loading or deleting a world.
+ * <p>
+ * Call {@link #begin()} when the phase starts and {@link #end} when it finishes, on any thread. The attributes are
+ * only filled in if the event is recorded, so an instance costs nothing while no recording is running.
+ * </p>
+ */
+@Name("jemultiverse.WorldPhase")
+@Label("World Phase")
+@Category({"JEMultiverse", "Worlds"})
+@Description("A phase of creating, loading or deleting a world")
+@StackTrace(false)
+public class WorldPhaseEvent extends Event {
+
+  public static final String CREATE = "create";
+  public static final String LOAD = "load";
+  public static final String DELETE = "delete";
+
+  @Label("World")
+  String world;
+
+  @Label("World Type")
+  String worldType;
+
+  @Label("Operation")
+  @Description("create, load or delete")
+  String operation;
+
+  @Label("Phase")
+  String phase;
+
+  /**
+   * Ends the phase and commits the event if it is recorded.
+   *
+   * @param world     the world identifier.
+   * @param worldType the world type, or {@code null} if unknown.
+   * @param operation the operation, one of {@link #CREATE}, {@link #LOAD} and {@link #DELETE}.
+   * @param phase     the phase within the operation, e.g. {@code createBukkitWorld}.
+   */
+  public void end(
+    final @NotNull String world,
+    final @Nullable MVWorldType worldType,
+    final @NotNull String operation,
+    final @NotNull String phase
+  ) {
+    if (!this.shouldCommit())
+      return;
+
+    this.world = world;
+    this.worldType = worldType == null ? null : worldType.name();
+    this.operation = operation;
+    this.phase = phase;
+    this.commit();
+  }
+}
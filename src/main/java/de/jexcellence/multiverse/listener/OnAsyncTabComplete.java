@@ -0,0 +1,67 @@
+package de.jexcellence.multiverse.listener;
+
+import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
+import de.jexcellence.multiverse.Multiverse;
+import de.jexcellence.multiverse.command.multiverse.PMultiversePermission;
+import de.jexcellence.multiverse.command.multiverse.PMultiverseTabCompleter;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Listener class answering the tab completion of the multiverse command off the main thread.
+ * <p>
+ * Paper fires the {@link AsyncTabCompleteEvent} on the network thread before it would ask the command on the main
+ * thread. The completions come from the {@link PMultiverseTabCompleter}, which only reads immutable lists and the
+ * {@link de.jexcellence.multiverse.utility.WorldNameIndex}, so handling the event here removes the completion from the
+ * main thread entirely.
+ * </p>
+ */
+public class OnAsyncTabComplete implements Listener {
+
+  /**
+   * The name and the aliases of the command as declared in {@code commands/pmultiverse.yml}.
+   */
+  private static final Set<String> COMMAND_LABELS = Set.of("pmultiverse", "mv", "aomv", "multiverse");
+
+  private final PMultiverseTabCompleter tabCompleter;
+
+  /**
+   * Constructs an OnAsyncTabComplete listener with the specified Multiverse instance.
+   *
+   * @param multiverse the Multiverse instance providing the world name index
+   */
+  public OnAsyncTabComplete(final @NotNull Multiverse multiverse) {
+    this.tabCompleter = new PMultiverseTabCompleter(multiverse.getWorldNameIndex());
+  }
+
+  /**
+   * Completes the arguments of the multiverse command.
+   *
+   * @param event the AsyncTabCompleteEvent triggered while a player types a command
+   */
+  @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
+  public void onAsyncTabComplete(final AsyncTabCompleteEvent event) {
+    if (event.isHandled() || !event.isCommand() || !(event.getSender() instanceof Player player))
+      return;
+
+    final String buffer = event.getBuffer();
+    final int labelStart = buffer.startsWith("/") ? 1 : 0;
+    final int labelEnd = buffer.indexOf(' ', labelStart);
+    if (labelEnd < 0)
+      return;
+
+    String label = buffer.substring(labelStart, labelEnd).toLowerCase(Locale.ROOT);
+    label = label.substring(label.indexOf(':') + 1);
+    if (!COMMAND_LABELS.contains(label) || !player.hasPermission(PMultiversePermission.MULTIVERSE.getFallbackNode()))
+      return;
+
+    event.setCompletions(this.tabCompleter.complete(buffer.substring(labelEnd + 1).split(" ", -1)));
+    event.setHandled(true);
+  }
+}
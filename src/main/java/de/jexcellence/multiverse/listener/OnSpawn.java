@@ -1,8 +1,9 @@
 package de.jexcellence.multiverse.listener;
 
 import de.jexcellence.multiverse.Multiverse;
+import de.jexcellence.multiverse.jfr.SpawnResolutionEvent;
+import de.jexcellence.multiverse.metrics.LatencyHistogram;
 import org.bukkit.Location;
-import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -10,15 +11,19 @@ import org.bukkit.event.player.PlayerRespawnEvent;
 import org.jetbrains.annotations.NotNull;
 import org.spigotmc.event.player.PlayerSpawnLocationEvent;
 
-import java.util.concurrent.CompletableFuture;
-
 /**
  * Listener class for handling player spawn and respawn events.
  * It determines the spawn location for players based on the multiverse configuration.
+ * <p>
+ * Spawn locations are resolved synchronously through the in-memory {@link de.jexcellence.multiverse.utility.SpawnIndex},
+ * so neither event ever waits on the database. The resolution is timed as {@code spawn.resolve} and recorded as a
+ * {@link SpawnResolutionEvent} for Flight Recorder.
+ * </p>
  */
 public class OnSpawn implements Listener {
 
   private final Multiverse multiverse;
+  private final LatencyHistogram resolveTimer;
 
   /**
    * Constructs an OnSpawn listener with the specified Multiverse instance.
@@ -27,6 +32,7 @@ public class OnSpawn implements Listener {
    */
   public OnSpawn(final @NotNull Multiverse multiverse) {
     this.multiverse = multiverse;
+    this.resolveTimer = multiverse.getMetrics().timer("spawn.resolve");
   }
 
   /**
@@ -36,7 +42,13 @@ public class OnSpawn implements Listener {
    */
   @EventHandler(priority = EventPriority.HIGHEST)
   public void onPlayerSpawn(final PlayerSpawnLocationEvent event) {
-    this.handleSpawn(event.getPlayer()).thenAcceptAsync(event::setSpawnLocation).join();
+    final long startNanos = System.nanoTime();
+    final SpawnResolutionEvent resolutionEvent = new SpawnResolutionEvent();
+    resolutionEvent.begin();
+    final Location spawnLocation = this.multiverse.getSpawnIndex().resolve(event.getPlayer());
+    event.setSpawnLocation(spawnLocation);
+    resolutionEvent.end(event.getPlayer(), spawnLocation, false);
+    this.resolveTimer.recordSince(startNanos);
   }
 
   /**
@@ -46,31 +58,12 @@ public class OnSpawn implements Listener {
    */
   @EventHandler(priority = EventPriority.HIGHEST)
   public void onPlayerRespawn(final PlayerRespawnEvent event) {
-    this.handleSpawn(event.getPlayer()).thenAcceptAsync(event::setRespawnLocation).join();
-  }
-
-  /**
-   * Determines the spawn location for a player asynchronously.
-   * It first checks for a global spawn location, and if not found, uses the player's current world spawn location.
-   *
-   * @param player the player whose spawn location is being determined
-   * @return a CompletableFuture containing the determined spawn location
-   */
-  private CompletableFuture<Location> handleSpawn(final @NotNull Player player) {
-    return this.multiverse.getMvWorldRepository().findByGlobalSpawnAsync().thenComposeAsync(
-      mvWorld -> {
-        if (mvWorld != null)
-          return CompletableFuture.completedFuture(mvWorld.getSpawnLocation());
-
-        return this.multiverse.getMvWorldRepository().findByIdentifierAsync(player.getWorld().getName()).thenApplyAsync(
-          alternateWorld -> {
-            if (alternateWorld == null)
-              return player.getWorld().getSpawnLocation();
-
-            return alternateWorld.getSpawnLocation();
-          }, this.multiverse.getExecutor()
-        );
-      }, this.multiverse.getExecutor()
-    );
+    final long startNanos = System.nanoTime();
+    final SpawnResolutionEvent resolutionEvent = new SpawnResolutionEvent();
+    resolutionEvent.begin();
+    final Location respawnLocation = this.multiverse.getSpawnIndex().resolve(event.getPlayer());
+    event.setRespawnLocation(respawnLocation);
+    resolutionEvent.end(event.getPlayer(), respawnLocation, true);
+    this.resolveTimer.recordSince(startNanos);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package de.jexcellence.multiverse.listener;
+
+import de.jexcellence.multiverse.Multiverse;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listener class keeping the loaded state in the {@link de.jexcellence.multiverse.utility.WorldRegistry} and the
+ * {@link de.jexcellence.multiverse.utility.WorldNameIndex} in sync with the server, including worlds loaded or
+ * unloaded by other plugins.
+ */
+public class OnWorldLifecycle implements Listener {
+
+  private final Multiverse multiverse;
+
+  /**
+   * Constructs an OnWorldLifecycle listener with the specified Multiverse instance.
+   *
+   * @param multiverse the Multiverse instance used to access the world registry
+   */
+  public OnWorldLifecycle(final @NotNull Multiverse multiverse) {
+    this.multiverse = multiverse;
+  }
+
+  /**
+   * Marks a world as loaded.
+   *
+   * @param event the WorldLoadEvent triggered after a world was loaded
+   */
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onWorldLoad(final WorldLoadEvent event) {
+    this.multiverse.getWorldRegistry().setLoaded(event.getWorld().getName(), true);
+    this.multiverse.getWorldNameIndex().setLoaded(event.getWorld().getName(), true);
+  }
+
+  /**
+   * Marks a world as unloaded.
+   *
+   * @param event the WorldUnloadEvent triggered before a world is unloaded
+   */
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onWorldUnload(final WorldUnloadEvent event) {
+    this.multiverse.getWorldRegistry().setLoaded(event.getWorld().getName(), false);
+    this.multiverse.getWorldNameIndex().setLoaded(event.getWorld().getName(), false);
+  }
+}
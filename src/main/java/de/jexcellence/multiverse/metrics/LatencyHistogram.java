@@ -0,0 +1,126 @@
+package de.jexcellence.multiverse.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with log-linear buckets.
+ * <p>
+ * Each power of two of nanoseconds is split into eight linear sub-buckets, so recording is a few bit operations and
+ * one atomic increment, and every reported percentile is at most 12.5% above the true value. The histogram covers
+ * the full range of {@code long} nanoseconds in a fixed array of 488 buckets and never allocates after construction.
+ * </p>
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+  /**
+   * Records one duration.
+   *
+   * @param nanos the duration in nanoseconds, negative values are recorded as zero.
+   */
+  public void record(final long nanos) {
+    final long value = Math.max(0L, nanos);
+    this.buckets.incrementAndGet(bucketIndex(value));
+    this.totalNanos.add(value);
+    this.maxNanos.accumulate(value);
+  }
+
+  /**
+   * Records the time elapsed since the given start.
+   *
+   * @param startNanos the start as returned by {@link System#nanoTime()}.
+   */
+  public void recordSince(final long startNanos) {
+    this.record(System.nanoTime() - startNanos);
+  }
+
+  /**
+   * Takes a snapshot of the recorded durations. Concurrent recordings may or may not be included.
+   *
+   * @return the current {@link Snapshot}.
+   */
+  public @NotNull Snapshot snapshot() {
+    final long[] counts = new long[BUCKET_COUNT];
+    long total = 0L;
+    for (int index = 0; index < BUCKET_COUNT; index++) {
+      counts[index] = this.buckets.get(index);
+      total += counts[index];
+    }
+
+    return new Snapshot(
+      total,
+      total == 0 ? 0.0 : toMillis(this.totalNanos.sum()) / total,
+      toMillis(percentile(counts, total, 0.50)),
+      toMillis(percentile(counts, total, 0.95)),
+      toMillis(percentile(counts, total, 0.99)),
+      toMillis(this.maxNanos.get())
+    );
+  }
+
+  static int bucketIndex(final long value) {
+    if (value < SUB_BUCKET_COUNT)
+      return (int) value;
+
+    final int exponent = 63 - Long.numberOfLeadingZeros(value);
+    final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long bucketUpperBound(final int index) {
+    if (index < SUB_BUCKET_COUNT)
+      return index;
+
+    final int shift = index / SUB_BUCKET_COUNT - 1;
+    final long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+    return lowerBound + (1L << shift) - 1L;
+  }
+
+  private static long percentile(final long[] counts, final long total, final double quantile) {
+    if (total == 0)
+      return 0L;
+
+    final long rank = (long) Math.ceil(quantile * total);
+    long seen = 0L;
+    for (int index = 0; index < counts.length; index++) {
+      seen += counts[index];
+      if (seen >= rank)
+        return bucketUpperBound(index);
+    }
+    return bucketUpperBound(counts.length - 1);
+  }
+
+  private static double toMillis(final long nanos) {
+    return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1L);
+  }
+
+  /**
+   * A snapshot of a histogram.
+   *
+   * @param count      the number of recorded durations.
+   * @param meanMillis the mean duration.
+   * @param p50Millis  the median duration.
+   * @param p95Millis  the 95th percentile.
+   * @param p99Millis  the 99th percentile.
+   * @param maxMillis  the longest duration.
+   */
+  public record Snapshot(
+    long count,
+    double meanMillis,
+    double p50Millis,
+    double p95Millis,
+    double p99Millis,
+    double maxMillis
+  ) {}
+}
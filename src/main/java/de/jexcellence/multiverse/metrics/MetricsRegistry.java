@@ -0,0 +1,118 @@
+package de.jexcellence.multiverse.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The central registry of the plugin's timers, counters and gauges.
+ * <p>
+ * Timers and counters are created on first use and live as long as the registry, so hot paths look them up once per
+ * call through a concurrent map and then record without locking. Gauges sample values that other components already
+ * track, such as executor queues or the read model size, only when a {@link Snapshot} is taken.
+ * Metric names are dot separated and lower case, e.g. {@code world.create}.
+ * </p>
+ */
+public class MetricsRegistry {
+
+  private final Map<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+  private final Map<String, Supplier<? extends Number>> gauges = new ConcurrentHashMap<>();
+
+  /**
+   * Retrieves the timer of the given name, creating it if necessary.
+   *
+   * @param name the metric name.
+   * @return the timer.
+   */
+  public @NotNull LatencyHistogram timer(final @NotNull String name) {
+    return this.timers.computeIfAbsent(name, ignored -> new LatencyHistogram());
+  }
+
+  /**
+   * Retrieves the counter of the given name, creating it if necessary.
+   *
+   * @param name the metric name.
+   * @return the counter.
+   */
+  public @NotNull LongAdder counter(final @NotNull String name) {
+    return this.counters.computeIfAbsent(name, ignored -> new LongAdder());
+  }
+
+  /**
+   * Registers a gauge, replacing a gauge of the same name.
+   *
+   * @param name  the metric name.
+   * @param value samples the current value, called from any thread.
+   */
+  public void gauge(final @NotNull String name, final @NotNull Supplier<? extends Number> value) {
+    this.gauges.put(name, value);
+  }
+
+  /**
+   * Records the time until the given future completes in the timer of the given name. Futures completing
+   * exceptionally are recorded as well and additionally counted in the counter {@code <name>.errors}.
+   *
+   * @param name   the metric name.
+   * @param future the future to time, started just before this call.
+   * @param <T>    the result type.
+   * @return the given future.
+   */
+  public <T> @NotNull CompletableFuture<T> time(final @NotNull String name, final @NotNull CompletableFuture<T> future) {
+    final long startNanos = System.nanoTime();
+    final LatencyHistogram timer = this.timer(name);
+    future.whenComplete((result, throwable) -> {
+      timer.recordSince(startNanos);
+      if (throwable != null)
+        this.counter(name + ".errors").increment();
+    });
+    return future;
+  }
+
+  /**
+   * Takes a snapshot of all metrics, sorted by name. Gauges that throw are left out.
+   *
+   * @return the current {@link Snapshot}.
+   */
+  public @NotNull Snapshot snapshot() {
+    final SortedMap<String, LatencyHistogram.Snapshot> timerSnapshots = new TreeMap<>();
+    this.timers.forEach((name, timer) -> timerSnapshots.put(name, timer.snapshot()));
+
+    final SortedMap<String, Long> counterValues = new TreeMap<>();
+    this.counters.forEach((name, counter) -> counterValues.put(name, counter.sum()));
+
+    final SortedMap<String, Number> gaugeValues = new TreeMap<>();
+    this.gauges.forEach((name, gauge) -> {
+      try {
+        final Number value = gauge.get();
+        if (value != null)
+          gaugeValues.put(name, value);
+      } catch (final RuntimeException ignored) {
+        // a component that is not ready yet, e.g. during startup
+      }
+    });
+
+    return new Snapshot(System.currentTimeMillis(), timerSnapshots, counterValues, gaugeValues);
+  }
+
+  /**
+   * A snapshot of all metrics.
+   *
+   * @param timestampMillis the time the snapshot was taken in epoch milliseconds.
+   * @param timers          the timer snapshots by name.
+   * @param counters        the counter values by name.
+   * @param gauges          the gauge values by name.
+   */
+  public record Snapshot(
+    long timestampMillis,
+    SortedMap<String, LatencyHistogram.Snapshot> timers,
+    SortedMap<String, Long> counters,
+    SortedMap<String, Number> gauges
+  ) {}
+}
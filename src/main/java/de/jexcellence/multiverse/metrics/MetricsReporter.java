@@ -0,0 +1,143 @@
+package de.jexcellence.multiverse.metrics;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import de.jexcellence.multiverse.Multiverse;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Periodically writes a {@link MetricsRegistry.Snapshot} as JSON into the plugin folder for external monitoring.
+ * <p>
+ * The file is written to a temporary file on the I/O executor and then moved over the previous one, so a scraper
+ * never reads a partially written file. If a write is still running when the next one is due, the next one is
+ * skipped.
+ * </p>
+ */
+public class MetricsReporter {
+
+  private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+  private final Multiverse multiverse;
+  private final MetricsRegistry metrics;
+  private final Path file;
+  private final AtomicBoolean writing = new AtomicBoolean();
+  private final long startMillis = System.currentTimeMillis();
+
+  private BukkitTask task;
+
+  /**
+   * Constructs a new MetricsReporter.
+   *
+   * @param multiverse the Multiverse plugin instance.
+   * @param metrics    the registry to report.
+   * @param file       the file the snapshots are written to.
+   */
+  public MetricsReporter(
+    final @NotNull Multiverse multiverse,
+    final @NotNull MetricsRegistry metrics,
+    final @NotNull Path file
+  ) {
+    this.multiverse = multiverse;
+    this.metrics = metrics;
+    this.file = file;
+  }
+
+  /**
+   * Starts writing the metrics periodically.
+   *
+   * @param intervalSeconds the number of seconds between two writes.
+   */
+  public void start(final long intervalSeconds) {
+    final long intervalTicks = intervalSeconds * 20L;
+    this.task = Bukkit.getScheduler().runTaskTimer(
+      this.multiverse,
+      () -> {
+        if (this.writing.compareAndSet(false, true))
+          this.multiverse.getExecutor().execute(this::writeSafely);
+      },
+      intervalTicks,
+      intervalTicks
+    );
+  }
+
+  /**
+   * Stops the periodic writes and writes a final snapshot on the calling thread.
+   */
+  public void stop() {
+    if (this.task == null)
+      return;
+
+    this.task.cancel();
+    this.task = null;
+    this.writeSafely();
+  }
+
+  /**
+   * Converts a snapshot into the JSON document written by this reporter.
+   *
+   * @param snapshot     the snapshot.
+   * @param uptimeMillis the time since the plugin was enabled.
+   * @return the JSON document.
+   */
+  public static @NotNull JsonObject toJson(final @NotNull MetricsRegistry.Snapshot snapshot, final long uptimeMillis) {
+    final JsonObject root = new JsonObject();
+    root.addProperty("timestamp", snapshot.timestampMillis());
+    root.addProperty("uptime_millis", uptimeMillis);
+
+    final JsonObject timers = new JsonObject();
+    snapshot.timers().forEach((name, timer) -> {
+      final JsonObject timerObject = new JsonObject();
+      timerObject.addProperty("count", timer.count());
+      timerObject.addProperty("mean_millis", timer.meanMillis());
+      timerObject.addProperty("p50_millis", timer.p50Millis());
+      timerObject.addProperty("p95_millis", timer.p95Millis());
+      timerObject.addProperty("p99_millis", timer.p99Millis());
+      timerObject.addProperty("max_millis", timer.maxMillis());
+      timers.add(name, timerObject);
+    });
+    root.add("timers", timers);
+
+    final JsonObject counters = new JsonObject();
+    snapshot.counters().forEach(counters::addProperty);
+    root.add("counters", counters);
+
+    final JsonObject gauges = new JsonObject();
+    snapshot.gauges().forEach(gauges::addProperty);
+    root.add("gauges", gauges);
+    return root;
+  }
+
+  private void writeSafely() {
+    try {
+      this.write();
+    } catch (final IOException | RuntimeException exception) {
+      this.multiverse.getPlatformLogger().logDebug("Failed to write metrics to " + this.file, exception);
+    } finally {
+      this.writing.set(false);
+    }
+  }
+
+  private synchronized void write() throws IOException {
+    final String json = GSON.toJson(toJson(this.metrics.snapshot(), System.currentTimeMillis() - this.startMillis));
+    final Path temporaryFile = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+
+    Files.createDirectories(this.file.toAbsolutePath().getParent());
+    Files.writeString(temporaryFile, json, StandardCharsets.UTF_8);
+    try {
+      Files.move(temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final AtomicMoveNotSupportedException exception) {
+      Files.move(temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package de.jexcellence.multiverse.type;
+
+/**
+ * Enumerates how the biomes of a generated world are laid out.
+ */
+public enum BiomeZoneMode {
+  /**
+   * The first configured biome everywhere.
+   */
+  SINGLE,
+
+  /**
+   * One biome per plot of the plot grid, including the road on its low side.
+   */
+  PLOT,
+
+  /**
+   * One biome per square region of the configured zone size.
+   */
+  REGION,
+
+  /**
+   * One biome per ring of the configured width around the world origin, the last biome continuing outwards.
+   */
+  RING
+}
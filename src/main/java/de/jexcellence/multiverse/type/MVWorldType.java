@@ -17,5 +17,15 @@ public enum MVWorldType {
   /**
    * A world designed for plot-based structures.
    */
-  PLOT
+  PLOT,
+
+  /**
+   * A flat world built from a persisted layer preset.
+   */
+  FLAT,
+
+  /**
+   * A void world with one island, compiled from a schematic, on every point of a square grid.
+   */
+  ISLAND_GRID
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package de.jexcellence.multiverse.type;
+
+/**
+ * Enumerates when registered worlds are loaded and unloaded.
+ */
+public enum WorldLifecycleMode {
+  /**
+   * All registered worlds are loaded on startup and stay loaded, keeping their spawn chunks in memory.
+   */
+  EAGER,
+
+  /**
+   * Registered worlds are loaded on first use and unloaded again after being empty for a while.
+   */
+  LAZY
+}
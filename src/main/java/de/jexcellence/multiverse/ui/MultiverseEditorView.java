@@ -81,8 +81,8 @@ public class MultiverseEditorView extends View {
 				.build()
 		).onClick(() -> {
 			mvWorld.setSpawnLocation(render.getPlayer().getLocation().toCenterLocation());
-			this.multiverse.getMvWorldRepository().updateAsync(mvWorld);
-			this.multiverse.getWorlds().put(mvWorld.getIdentifier(), mvWorld);
+			this.multiverse.getMvWorldWriteBehind().update(mvWorld);
+			this.multiverse.getWorldRegistry().register(mvWorld);
 			new I18n.Builder("multiverse_editor_ui.spawn_location_set", render.getPlayer()).includingPrefix().build().send();
 		}).closeOnClick();
 
@@ -113,8 +113,8 @@ public class MultiverseEditorView extends View {
 					}
 
 					mvWorld.setGlobalizedSpawn(!mvWorld.isGlobalizedSpawn());
-					this.multiverse.getMvWorldRepository().updateAsync(mvWorld);
-					this.multiverse.getWorlds().put(mvWorld.getIdentifier(), mvWorld);
+					this.multiverse.getMvWorldWriteBehind().update(mvWorld);
+					this.multiverse.getWorldRegistry().register(mvWorld);
 					new I18n.Builder("multiverse_editor_ui.global_spawn_set", render.getPlayer()).includingPrefix().withPlaceholder("is_global_spawn", mvWorld.isGlobalizedSpawn() ? "✓" : "✗").build().send();
 				}
 				, this.multiverse.getExecutor());
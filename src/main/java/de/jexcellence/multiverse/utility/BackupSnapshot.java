@@ -0,0 +1,222 @@
+package de.jexcellence.multiverse.utility;
+
+import de.jexcellence.multiverse.type.MVWorldType;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The manifest of one world backup: the world settings needed to recreate it and the content hash of every file.
+ * <p>
+ * The file contents live in the content-addressed object store of {@link WorldBackups}, so a snapshot only costs the
+ * objects that no earlier snapshot contained. The size and modification time of every file are kept as well, which
+ * lets the next backup skip hashing files that have not changed.
+ * </p>
+ */
+public class BackupSnapshot {
+
+  private final String identifier;
+  private final String id;
+  private final MVWorldType type;
+  private final World.Environment environment;
+  private final @Nullable String generatorSettings;
+  private final @Nullable Location spawnLocation;
+  private final long createdMillis;
+  private final List<Entry> entries;
+
+  /**
+   * Constructs a new BackupSnapshot.
+   *
+   * @param identifier        the identifier of the backed up world.
+   * @param id                the snapshot id, unique per world.
+   * @param type              the world type.
+   * @param environment       the world environment.
+   * @param generatorSettings the generator settings of the world, or {@code null}.
+   * @param spawnLocation     the spawn location of the world, without a world reference, or {@code null}.
+   * @param createdMillis     the creation time in epoch milliseconds.
+   * @param entries           the files of the snapshot.
+   */
+  public BackupSnapshot(
+    final @NotNull String identifier,
+    final @NotNull String id,
+    final @NotNull MVWorldType type,
+    final @NotNull World.Environment environment,
+    final @Nullable String generatorSettings,
+    final @Nullable Location spawnLocation,
+    final long createdMillis,
+    final @NotNull List<Entry> entries
+  ) {
+    this.identifier = identifier;
+    this.id = id;
+    this.type = type;
+    this.environment = environment;
+    this.generatorSettings = generatorSettings;
+    this.spawnLocation = spawnLocation;
+    this.createdMillis = createdMillis;
+    this.entries = List.copyOf(entries);
+  }
+
+  /**
+   * Restores a snapshot from its persisted form.
+   *
+   * @param serialized the persisted snapshot, see {@link #serialize()}.
+   * @return the restored snapshot.
+   * @throws InvalidConfigurationException if the data is malformed.
+   */
+  public static @NotNull BackupSnapshot deserialize(final @NotNull String serialized) throws InvalidConfigurationException {
+    final YamlConfiguration configuration = new YamlConfiguration();
+    configuration.loadFromString(serialized);
+
+    final String identifier = configuration.getString("world");
+    final String id = configuration.getString("id");
+    if (identifier == null || id == null)
+      throw new InvalidConfigurationException("Missing world or id");
+
+    final MVWorldType type;
+    final World.Environment environment;
+    try {
+      type = MVWorldType.valueOf(configuration.getString("type", "").toUpperCase(Locale.ROOT));
+      environment = World.Environment.valueOf(configuration.getString("environment", "").toUpperCase(Locale.ROOT));
+    } catch (final IllegalArgumentException exception) {
+      throw new InvalidConfigurationException("Invalid type or environment", exception);
+    }
+
+    final ConfigurationSection spawn = configuration.getConfigurationSection("spawn");
+    final Location spawnLocation = spawn == null ? null : new Location(
+      null,
+      spawn.getDouble("x"),
+      spawn.getDouble("y"),
+      spawn.getDouble("z"),
+      (float) spawn.getDouble("yaw"),
+      (float) spawn.getDouble("pitch")
+    );
+
+    final List<Entry> entries = new ArrayList<>();
+    for (String line : configuration.getStringList("files")) {
+      final String[] parts = line.split(" ", 4);
+      if (parts.length != 4)
+        throw new InvalidConfigurationException("Malformed file entry: " + line);
+
+      try {
+        entries.add(new Entry(parts[3], parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+      } catch (final NumberFormatException exception) {
+        throw new InvalidConfigurationException("Malformed file entry: " + line, exception);
+      }
+    }
+
+    return new BackupSnapshot(
+      identifier, id, type, environment, configuration.getString("generator-settings"), spawnLocation,
+      configuration.getLong("created"), entries
+    );
+  }
+
+  /**
+   * Serializes this snapshot. File entries are stored as {@code <hash> <size> <modified> <path>} lines, since paths
+   * contain the dots YAML would treat as separators.
+   *
+   * @return the snapshot as YAML.
+   */
+  public @NotNull String serialize() {
+    final YamlConfiguration configuration = new YamlConfiguration();
+    configuration.set("world", this.identifier);
+    configuration.set("id", this.id);
+    configuration.set("type", this.type.name());
+    configuration.set("environment", this.environment.name());
+    configuration.set("generator-settings", this.generatorSettings);
+    configuration.set("created", this.createdMillis);
+
+    if (this.spawnLocation != null) {
+      configuration.set("spawn.x", this.spawnLocation.getX());
+      configuration.set("spawn.y", this.spawnLocation.getY());
+      configuration.set("spawn.z", this.spawnLocation.getZ());
+      configuration.set("spawn.yaw", this.spawnLocation.getYaw());
+      configuration.set("spawn.pitch", this.spawnLocation.getPitch());
+    }
+
+    configuration.set("files", this.entries.stream()
+      .map(entry -> entry.hash() + " " + entry.size() + " " + entry.modified() + " " + entry.path())
+      .toList());
+    return configuration.saveToString();
+  }
+
+  /**
+   * Indexes the entries by their path.
+   *
+   * @return the entries keyed by their relative path.
+   */
+  public @NotNull Map<String, Entry> getEntriesByPath() {
+    final Map<String, Entry> entriesByPath = new HashMap<>(this.entries.size() * 2);
+    for (Entry entry : this.entries)
+      entriesByPath.put(entry.path(), entry);
+    return entriesByPath;
+  }
+
+  /**
+   * Sums the uncompressed size of all files.
+   *
+   * @return the size of the backed up world in bytes.
+   */
+  public long getTotalSize() {
+    long totalSize = 0L;
+    for (Entry entry : this.entries)
+      totalSize += entry.size();
+    return totalSize;
+  }
+
+  public @NotNull String getIdentifier() {
+    return this.identifier;
+  }
+
+  public @NotNull String getId() {
+    return this.id;
+  }
+
+  public @NotNull MVWorldType getType() {
+    return this.type;
+  }
+
+  public @NotNull World.Environment getEnvironment() {
+    return this.environment;
+  }
+
+  public @Nullable String getGeneratorSettings() {
+    return this.generatorSettings;
+  }
+
+  public @Nullable Location getSpawnLocation() {
+    return this.spawnLocation;
+  }
+
+  public long getCreatedMillis() {
+    return this.createdMillis;
+  }
+
+  public @NotNull List<Entry> getEntries() {
+    return this.entries;
+  }
+
+  /**
+   * A file of a snapshot.
+   *
+   * @param path     the path relative to the world folder, with {@code /} as separator.
+   * @param hash     the SHA-256 hash of the file content, naming its object.
+   * @param size     the file size in bytes.
+   * @param modified the modification time in epoch milliseconds.
+   */
+  public record Entry(
+    String path,
+    String hash,
+    long size,
+    long modified
+  ) {}
+}
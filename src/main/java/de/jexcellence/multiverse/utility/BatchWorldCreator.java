@@ -0,0 +1,296 @@
+package de.jexcellence.multiverse.utility;
+
+import de.jexcellence.je18n.i18n.I18n;
+import de.jexcellence.multiverse.Multiverse;
+import de.jexcellence.multiverse.database.entity.MVWorld;
+import de.jexcellence.multiverse.type.MVWorldType;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.WorldCreator;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Creates many worlds of the same type and environment in one go.
+ * <p>
+ * The {@link WorldCreator}s are prepared in parallel on the CPU executor and the world folders are seeded from
+ * templates where available, the worlds are created on the main thread at the
+ * configured rate per tick, and all {@link MVWorld} rows are persisted afterwards in batched transactions.
+ * The initiating player receives a summary with the total and average timings, per-world timings are logged.
+ * </p>
+ */
+public class BatchWorldCreator {
+
+  /**
+   * The maximum number of worlds a single batch may create.
+   */
+  public static final int MAX_BATCH_SIZE = 512;
+
+  private static final Pattern RANGE_PATTERN = Pattern.compile("\\{(\\d+)\\.\\.(\\d+)}");
+
+  private final Multiverse multiverse;
+  private final WorldManager worldManager;
+  private final List<String> identifiers;
+  private final World.Environment environment;
+  private final MVWorldType type;
+  private final @Nullable String generatorSettings;
+  private final Player player;
+
+  private final Queue<WorldCreator> pendingCreators = new ArrayDeque<>();
+  private final List<MVWorld> createdWorlds = new ArrayList<>();
+  private final List<String> failedIdentifiers = new ArrayList<>();
+  private int skipped;
+  private long creationNanos;
+  private long startNanos;
+  private BukkitTask task;
+
+  /**
+   * Constructs a new BatchWorldCreator.
+   *
+   * @param multiverse        the Multiverse plugin instance.
+   * @param worldManager      the world manager providing the world creators.
+   * @param identifiers       the identifiers of the worlds to create.
+   * @param environment       the environment of all worlds.
+   * @param type              the type of all worlds.
+   * @param generatorSettings the generator settings of all worlds, see {@link MVWorld#getGeneratorSettings()}.
+   * @param player            the player initiating the batch.
+   */
+  public BatchWorldCreator(
+    final @NotNull Multiverse multiverse,
+    final @NotNull WorldManager worldManager,
+    final @NotNull List<String> identifiers,
+    final @NotNull World.Environment environment,
+    final @NotNull MVWorldType type,
+    final @Nullable String generatorSettings,
+    final @NotNull Player player
+  ) {
+    this.multiverse = multiverse;
+    this.worldManager = worldManager;
+    this.identifiers = List.copyOf(identifiers);
+    this.environment = environment;
+    this.type = type;
+    this.generatorSettings = generatorSettings;
+    this.player = player;
+  }
+
+  /**
+   * Expands a list or pattern of world identifiers.
+   * <p>
+   * Identifiers are separated by commas, and each may contain one numeric range such as {@code event_{1..50}}.
+   * </p>
+   *
+   * @param pattern the identifier list or pattern.
+   * @return the distinct identifiers in order, or {@code null} if the pattern is invalid or exceeds {@link #MAX_BATCH_SIZE}.
+   */
+  public static @Nullable List<String> expandIdentifiers(final @NotNull String pattern) {
+    final Set<String> identifiers = new LinkedHashSet<>();
+
+    for (String part : pattern.split(",")) {
+      if (part.isBlank())
+        continue;
+
+      final Matcher matcher = RANGE_PATTERN.matcher(part);
+      if (!matcher.find()) {
+        identifiers.add(part.trim());
+        continue;
+      }
+
+      final long from;
+      final long to;
+      try {
+        from = Long.parseLong(matcher.group(1));
+        to = Long.parseLong(matcher.group(2));
+      } catch (final NumberFormatException exception) {
+        return null;
+      }
+      if (to < from || to - from >= MAX_BATCH_SIZE)
+        return null;
+
+      for (long index = from; index <= to; index++)
+        identifiers.add((part.substring(0, matcher.start()) + index + part.substring(matcher.end())).trim());
+    }
+
+    if (identifiers.isEmpty() || identifiers.size() > MAX_BATCH_SIZE)
+      return null;
+
+    for (String identifier : identifiers)
+      if (!WorldManager.WORLD_IDENTIFIER_PATTERN.matcher(identifier).matches())
+        return null;
+
+    return List.copyOf(identifiers);
+  }
+
+  /**
+   * Starts the batch: prepares all world creators in parallel and then creates the worlds on the main thread.
+   */
+  public void start() {
+    this.startNanos = System.nanoTime();
+
+    final List<String> accepted = new ArrayList<>();
+    for (String identifier : this.identifiers) {
+      if (Bukkit.getWorld(identifier) != null || this.multiverse.getWorldRegistry().get(identifier) != null)
+        this.skipped++;
+      else
+        accepted.add(identifier);
+    }
+
+    this.sendMessage("multiverse.batch_creation_started", Map.of(
+      "world_count", accepted.size(),
+      "skipped_count", this.skipped
+    ));
+
+    final List<CompletableFuture<WorldCreator>> preparations = accepted.stream()
+      .map(identifier -> this.worldManager.prepareWorld(identifier, this.environment, this.type, this.generatorSettings))
+      .toList();
+
+    CompletableFuture.allOf(preparations.toArray(CompletableFuture[]::new))
+      .thenRunAsync(() -> {
+        preparations.forEach(preparation -> this.pendingCreators.add(preparation.join()));
+        this.task = Bukkit.getScheduler().runTaskTimer(this.multiverse, this::tick, 1L, 1L);
+      }, runnable -> Bukkit.getScheduler().runTask(this.multiverse, runnable))
+      .exceptionally(throwable -> {
+        this.multiverse.getPlatformLogger().logDebug("Failed to prepare batch world creation", throwable);
+        this.sendMessage("multiverse.batch_creation_failed", Map.of("exception", String.valueOf(throwable.getMessage())));
+        return null;
+      });
+  }
+
+  /**
+   * Creates up to the configured number of worlds and persists the batch once all worlds are created.
+   */
+  private void tick() {
+    final int worldsPerTick = this.multiverse.getMultiverseConfig().getBatchCreationWorldsPerTick();
+
+    for (int created = 0; created < worldsPerTick && !this.pendingCreators.isEmpty(); created++) {
+      final WorldCreator worldCreator = this.pendingCreators.poll();
+      final long worldStartNanos = System.nanoTime();
+
+      try {
+        final World world = worldCreator.createWorld();
+        if (world == null)
+          throw new IllegalStateException("World creation returned null");
+
+        WorldManager.placeSpawnPlatform(world);
+        final MVWorld.Builder builder = new MVWorld.Builder(world, this.type, this.environment);
+        builder.setGeneratorSettings(this.generatorSettings);
+        this.createdWorlds.add(builder.build());
+      } catch (final Exception exception) {
+        this.multiverse.getPlatformLogger().logDebug("Failed to create world " + worldCreator.name() + " in batch", exception);
+        this.failedIdentifiers.add(worldCreator.name());
+      }
+
+      final long worldNanos = System.nanoTime() - worldStartNanos;
+      this.creationNanos += worldNanos;
+      this.multiverse.getPlatformLogger().logDebug(
+        "Batch created world " + worldCreator.name() + " in " + TimeUnit.NANOSECONDS.toMillis(worldNanos) + " ms"
+      );
+    }
+
+    if (!this.pendingCreators.isEmpty())
+      return;
+
+    this.task.cancel();
+    this.persist();
+  }
+
+  /**
+   * Persists all created worlds in batched transactions and registers them afterwards.
+   * <p>
+   * If a batch fails, the worlds of the batches committed before it are still registered, and the worlds that were
+   * not persisted are deleted again, like a single world whose row could not be inserted.
+   * </p>
+   */
+  private void persist() {
+    final List<MVWorld> worlds = List.copyOf(this.createdWorlds);
+    final List<MVWorld> committedWorlds = Collections.synchronizedList(new ArrayList<>());
+    final long persistStartNanos = System.nanoTime();
+
+    CompletableFuture.supplyAsync(() -> this.multiverse.getMvWorldRepository().createAll(
+        worlds,
+        this.multiverse.getMultiverseConfig().getBatchCreationPersistBatchSize(),
+        committedWorlds::addAll
+      ), this.multiverse.getExecutor())
+      .whenComplete((persistedWorlds, throwable) -> Bukkit.getScheduler().runTask(this.multiverse, () -> {
+        if (throwable != null) {
+          final List<MVWorld> registeredWorlds = List.copyOf(committedWorlds);
+          this.multiverse.getWorldRegistry().registerAll(registeredWorlds, true);
+          final Set<String> committedIdentifiers = new HashSet<>();
+          registeredWorlds.forEach(mvWorld -> committedIdentifiers.add(mvWorld.getIdentifier()));
+
+          int discarded = 0;
+          for (MVWorld mvWorld : worlds) {
+            if (committedIdentifiers.contains(mvWorld.getIdentifier()))
+              continue;
+            this.worldManager.deleteWorld(mvWorld.getIdentifier(), this.player);
+            discarded++;
+          }
+
+          this.multiverse.getPlatformLogger().logInfo(
+            "Failed to persist batch of " + worlds.size() + " worlds, registered " + committedIdentifiers.size() +
+              " persisted worlds and deleted " + discarded + " worlds"
+          );
+          this.multiverse.getPlatformLogger().logDebug("Failed to persist batch of " + worlds.size() + " worlds", throwable);
+          this.sendMessage("multiverse.batch_creation_failed", Map.of("exception", String.valueOf(throwable.getMessage())));
+          return;
+        }
+
+        this.multiverse.getWorldRegistry().registerAll(persistedWorlds, true);
+        this.report(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - persistStartNanos));
+      }));
+  }
+
+  /**
+   * Sends the summary of the batch to the initiating player and the log.
+   *
+   * @param persistMillis the time spent persisting the world rows.
+   */
+  private void report(final long persistMillis) {
+    final long totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startNanos);
+    final int attempted = this.createdWorlds.size() + this.failedIdentifiers.size();
+    final long averageMillis = attempted == 0 ? 0L : TimeUnit.NANOSECONDS.toMillis(this.creationNanos / attempted);
+
+    this.multiverse.getPlatformLogger().logInfo(
+      "Batch created " + this.createdWorlds.size() + " worlds in " + totalMillis + " ms (" +
+        averageMillis + " ms per world, " + persistMillis + " ms persisting, " +
+        this.failedIdentifiers.size() + " failed, " + this.skipped + " skipped)"
+    );
+    if (!this.failedIdentifiers.isEmpty())
+      this.multiverse.getPlatformLogger().logDebug("Batch creation failed for: " + String.join(", ", this.failedIdentifiers));
+
+    this.sendMessage("multiverse.batch_creation_finished", Map.of(
+      "created_count", this.createdWorlds.size(),
+      "failed_count", this.failedIdentifiers.size(),
+      "skipped_count", this.skipped,
+      "total_time", totalMillis,
+      "average_time", averageMillis,
+      "persist_time", persistMillis
+    ));
+  }
+
+  private void sendMessage(final @NotNull String key, final @NotNull Map<String, Object> placeholders) {
+    if (!this.player.isOnline())
+      return;
+
+    new I18n.Builder(key, this.player)
+      .includingPrefix()
+      .withPlaceholders(placeholders)
+      .build()
+      .send();
+  }
+}
@@ -0,0 +1,327 @@
+package de.jexcellence.multiverse.utility;
+
+import de.jexcellence.je18n.i18n.I18n;
+import de.jexcellence.multiverse.Multiverse;
+import de.jexcellence.multiverse.config.MultiverseConfig;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Pre-generates the chunks of worlds around their spawn through Paper's async chunk API.
+ * <p>
+ * Every running {@link PregenerationJob} keeps a window of chunk requests in flight. The window adapts to the server
+ * load once per second: it grows while the average tick time stays below the configured target and is halved as soon
+ * as it exceeds it, so generation backs off before players notice. Progress is persisted to the plugin's data folder
+ * and jobs are resumed on the next start; chunks per second and an ETA are reported periodically.
+ * </p>
+ */
+public class ChunkPregenerator {
+
+  private static final String JOB_DIRECTORY = "pregeneration";
+  private static final int WINDOW_ADJUST_INTERVAL_TICKS = 20;
+
+  private final Multiverse multiverse;
+  private final Map<String, PregenerationJob> jobs = new ConcurrentHashMap<>();
+
+  private BukkitTask task;
+  private long ticks;
+
+  /**
+   * Constructs a new ChunkPregenerator.
+   *
+   * @param multiverse the Multiverse plugin instance.
+   */
+  public ChunkPregenerator(final @NotNull Multiverse multiverse) {
+    this.multiverse = multiverse;
+  }
+
+  /**
+   * Starts pre-generating the given world around its spawn.
+   *
+   * @param world  the world to pre-generate.
+   * @param radius the radius in chunks.
+   * @param player the initiating player.
+   */
+  public void start(final @NotNull World world, final int radius, final @NotNull Player player) {
+    if (this.jobs.containsKey(world.getName())) {
+      this.sendMessage(player.getUniqueId(), "multiverse.pregeneration_already_running", Map.of("world_name", world.getName()));
+      return;
+    }
+
+    final Location spawnLocation = world.getSpawnLocation();
+    final PregenerationJob job = new PregenerationJob(world.getName(), spawnLocation.getBlockX() >> 4, spawnLocation.getBlockZ() >> 4, radius, 0L);
+    job.setInitiator(player.getUniqueId());
+    this.add(job);
+    this.save(job);
+
+    this.sendMessage(player.getUniqueId(), "multiverse.pregeneration_started", Map.of(
+      "world_name", world.getName(),
+      "radius", radius,
+      "chunk_count", job.getChunkCount()
+    ));
+  }
+
+  /**
+   * Cancels the pre-generation of the given world and discards its progress.
+   *
+   * @param identifier the world identifier.
+   * @return {@code true} if a job was running.
+   */
+  public boolean cancel(final @NotNull String identifier) {
+    final PregenerationJob job = this.jobs.remove(identifier);
+    if (job == null)
+      return false;
+
+    this.delete(job);
+    this.stopIfIdle();
+    return true;
+  }
+
+  /**
+   * Checks whether the given world is being pre-generated.
+   *
+   * @param identifier the world identifier.
+   * @return {@code true} if a job is running.
+   */
+  public boolean isRunning(final @NotNull String identifier) {
+    return this.jobs.containsKey(identifier);
+  }
+
+  /**
+   * Resumes all jobs persisted by a previous run, loading their worlds if necessary.
+   */
+  public void resumeAll() {
+    final Path jobDirectory = this.getJobDirectory();
+    if (!Files.isDirectory(jobDirectory))
+      return;
+
+    final List<Path> jobFiles;
+    try (Stream<Path> files = Files.list(jobDirectory)) {
+      jobFiles = files.filter(file -> file.getFileName().toString().endsWith(".yml")).toList();
+    } catch (final IOException exception) {
+      this.multiverse.getPlatformLogger().logDebug("Failed to list pre-generation jobs", exception);
+      return;
+    }
+
+    for (Path jobFile : jobFiles) {
+      final PregenerationJob job;
+      try {
+        job = PregenerationJob.deserialize(Files.readString(jobFile, StandardCharsets.UTF_8));
+      } catch (final IOException | InvalidConfigurationException exception) {
+        this.multiverse.getPlatformLogger().logDebug("Failed to read pre-generation job " + jobFile, exception);
+        continue;
+      }
+
+      this.multiverse.getMvWorldRepository().findByIdentifierAsync(job.getIdentifier())
+        .thenCompose(mvWorld -> {
+          if (mvWorld == null)
+            throw new IllegalStateException("World " + job.getIdentifier() + " is no longer registered");
+          return this.multiverse.getWorldLifecycleManager().ensureLoaded(mvWorld);
+        })
+        .whenComplete((world, throwable) -> Bukkit.getScheduler().runTask(this.multiverse, () -> {
+          if (throwable != null) {
+            this.multiverse.getPlatformLogger().logDebug("Discarding pre-generation job of " + job.getIdentifier(), throwable);
+            this.delete(job);
+            return;
+          }
+
+          this.add(job);
+          this.multiverse.getPlatformLogger().logInfo(
+            "Resumed pre-generation of " + job.getIdentifier() + " at " + job.getCompletedCount() + "/" + job.getChunkCount() + " chunks"
+          );
+        }));
+    }
+  }
+
+  /**
+   * Stops all jobs and persists their progress synchronously. Called when the plugin is disabled.
+   */
+  public void shutdown() {
+    if (this.task != null)
+      this.task.cancel();
+
+    for (PregenerationJob job : this.jobs.values()) {
+      try {
+        this.writeJob(job.getIdentifier(), job.serialize());
+      } catch (final IOException exception) {
+        this.multiverse.getPlatformLogger().logDebug("Failed to save pre-generation job of " + job.getIdentifier(), exception);
+      }
+    }
+    this.jobs.clear();
+  }
+
+  private void add(final PregenerationJob job) {
+    if (this.jobs.putIfAbsent(job.getIdentifier(), job) != null)
+      return;
+
+    if (this.task == null || this.task.isCancelled())
+      this.task = Bukkit.getScheduler().runTaskTimer(this.multiverse, this::tick, 1L, 1L);
+  }
+
+  private void stopIfIdle() {
+    if (this.jobs.isEmpty() && this.task != null) {
+      this.task.cancel();
+      this.task = null;
+    }
+  }
+
+  /**
+   * Adapts the windows to the server load and keeps every job's window filled with chunk requests.
+   */
+  private void tick() {
+    final MultiverseConfig config = this.multiverse.getMultiverseConfig();
+    final boolean adjustWindow = this.ticks++ % WINDOW_ADJUST_INTERVAL_TICKS == 0;
+    final boolean overloaded = Bukkit.getAverageTickTime() > config.getPregenerationTargetMspt();
+
+    for (PregenerationJob job : new ArrayList<>(this.jobs.values())) {
+      final World world = Bukkit.getWorld(job.getIdentifier());
+      if (world == null)
+        continue;
+
+      if (adjustWindow)
+        job.setWindow(overloaded
+          ? Math.max(1, job.getWindow() / 2)
+          : Math.min(config.getPregenerationMaxConcurrentChunks(), job.getWindow() + Math.max(1, job.getWindow() / 4))
+        );
+
+      while (job.getInFlight() < job.getWindow() && job.hasNext()) {
+        final long index = job.claimNext();
+        world.getChunkAtAsync(job.getChunkX(index), job.getChunkZ(index), true)
+          .whenComplete((chunk, throwable) -> {
+            if (throwable != null)
+              this.multiverse.getPlatformLogger().logDebug("Failed to pre-generate a chunk of " + job.getIdentifier(), throwable);
+            job.complete(index);
+          });
+      }
+
+      this.maintain(job, config);
+    }
+  }
+
+  private void maintain(final PregenerationJob job, final MultiverseConfig config) {
+    if (job.isFinished()) {
+      this.jobs.remove(job.getIdentifier());
+      this.delete(job);
+      this.stopIfIdle();
+
+      final long totalSeconds = TimeUnit.NANOSECONDS.toSeconds(job.getElapsedNanos());
+      this.multiverse.getPlatformLogger().logInfo(
+        "Finished pre-generation of " + job.getIdentifier() + " (" + job.getChunkCount() + " chunks) in " + PregenerationJob.formatDuration(totalSeconds)
+      );
+      this.sendMessage(job.getInitiator(), "multiverse.pregeneration_finished", Map.of(
+        "world_name", job.getIdentifier(),
+        "chunk_count", job.getChunkCount(),
+        "total_time", PregenerationJob.formatDuration(totalSeconds)
+      ));
+      return;
+    }
+
+    final long now = System.nanoTime();
+    if (now - job.getLastSaveNanos() >= config.getPregenerationSaveIntervalNanos()) {
+      job.setLastSaveNanos(now);
+      this.save(job);
+    }
+
+    if (now - job.getLastReportNanos() >= config.getPregenerationReportIntervalNanos()) {
+      job.setLastReportNanos(now);
+      this.report(job);
+    }
+  }
+
+  private void report(final PregenerationJob job) {
+    final String percent = String.format(Locale.ROOT, "%.1f%%", job.getCompletedCount() * 100.0 / job.getChunkCount());
+    final String chunksPerSecond = String.format(Locale.ROOT, "%.1f", job.getChunksPerSecond());
+    final String eta = PregenerationJob.formatDuration(job.getEtaSeconds());
+
+    this.multiverse.getPlatformLogger().logInfo(
+      "Pre-generating " + job.getIdentifier() + ": " + job.getCompletedCount() + "/" + job.getChunkCount() + " chunks (" +
+        percent + "), " + chunksPerSecond + " chunks/s, window " + job.getWindow() + ", ETA " + eta
+    );
+    this.sendMessage(job.getInitiator(), "multiverse.pregeneration_progress", Map.of(
+      "world_name", job.getIdentifier(),
+      "percent", percent,
+      "completed_count", job.getCompletedCount(),
+      "chunk_count", job.getChunkCount(),
+      "chunks_per_second", chunksPerSecond,
+      "eta", eta
+    ));
+  }
+
+  /**
+   * Persists the job progress on the I/O executor. The state is captured on the main thread; writes of jobs that
+   * were finished or cancelled in the meantime are dropped, so they cannot resurrect a deleted file.
+   */
+  private void save(final PregenerationJob job) {
+    final String serialized = job.serialize();
+    this.multiverse.getExecutor().execute(() -> {
+      try {
+        if (this.jobs.get(job.getIdentifier()) == job)
+          this.writeJob(job.getIdentifier(), serialized);
+      } catch (final IOException exception) {
+        this.multiverse.getPlatformLogger().logDebug("Failed to save pre-generation job of " + job.getIdentifier(), exception);
+      }
+    });
+  }
+
+  private void delete(final PregenerationJob job) {
+    final Path jobFile = this.getJobFile(job.getIdentifier());
+    this.multiverse.getExecutor().execute(() -> {
+      try {
+        this.deleteJob(jobFile);
+      } catch (final IOException exception) {
+        this.multiverse.getPlatformLogger().logDebug("Failed to delete pre-generation job " + jobFile, exception);
+      }
+    });
+  }
+
+  private synchronized void writeJob(final String identifier, final String serialized) throws IOException {
+    Files.createDirectories(this.getJobDirectory());
+    Files.writeString(this.getJobFile(identifier), serialized, StandardCharsets.UTF_8);
+  }
+
+  private synchronized void deleteJob(final Path jobFile) throws IOException {
+    Files.deleteIfExists(jobFile);
+  }
+
+  private Path getJobDirectory() {
+    return this.multiverse.getDataFolder().toPath().resolve(JOB_DIRECTORY);
+  }
+
+  private Path getJobFile(final String identifier) {
+    return this.getJobDirectory().resolve(identifier.replace('/', '_') + ".yml");
+  }
+
+  private void sendMessage(final @Nullable UUID playerId, final @NotNull String key, final @NotNull Map<String, Object> placeholders) {
+    if (playerId == null)
+      return;
+
+    final Player player = Bukkit.getPlayer(playerId);
+    if (player == null)
+      return;
+
+    new I18n.Builder(key, player)
+      .includingPrefix()
+      .withPlaceholders(placeholders)
+      .build()
+      .send();
+  }
+}
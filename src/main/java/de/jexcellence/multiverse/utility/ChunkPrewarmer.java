@@ -0,0 +1,137 @@
+package de.jexcellence.multiverse.utility;
+
+import de.jexcellence.multiverse.Multiverse;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Loads the chunks around a teleport destination through Paper's async chunk API before the player arrives.
+ * <p>
+ * Without pre-warming, an arriving player makes the main thread load or generate the destination chunks
+ * synchronously. The returned future completes once all chunks in the configured radius are ready, or after the
+ * configured timeout, in which case the teleport proceeds anyway and the remaining chunks load as usual. The timeout
+ * fires on the delayer thread of {@link CompletableFuture}, so the future always completes on the main thread,
+ * where the caller can use the Bukkit teleport API right away.
+ * </p>
+ */
+public class ChunkPrewarmer {
+
+  private final Multiverse multiverse;
+
+  private final LongAdder prewarms = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder chunks = new LongAdder();
+  private final LongAdder latencyNanos = new LongAdder();
+  private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+  /**
+   * Constructs a new ChunkPrewarmer.
+   *
+   * @param multiverse the Multiverse plugin instance.
+   */
+  public ChunkPrewarmer(final @NotNull Multiverse multiverse) {
+    this.multiverse = multiverse;
+  }
+
+  /**
+   * Loads the chunks around the given location asynchronously. May be called from any thread.
+   *
+   * @param location the teleport destination, bound to a loaded world.
+   * @return a future completing on the main thread with the same location once the chunks are ready or the timeout
+   * has passed.
+   */
+  public @NotNull CompletableFuture<Location> prewarm(final @NotNull Location location) {
+    final int radius = this.multiverse.getMultiverseConfig().getTeleportPrewarmRadius();
+    final World world = location.getWorld();
+    if (radius < 0 || world == null)
+      return CompletableFuture.supplyAsync(() -> location, this::runOnMainThread);
+
+    final long startNanos = System.nanoTime();
+    final int centerX = location.getBlockX() >> 4;
+    final int centerZ = location.getBlockZ() >> 4;
+    final int diameter = radius * 2 + 1;
+    final CompletableFuture<?>[] chunkLoads = new CompletableFuture<?>[diameter * diameter];
+
+    int index = 0;
+    for (int chunkX = centerX - radius; chunkX <= centerX + radius; chunkX++)
+      for (int chunkZ = centerZ - radius; chunkZ <= centerZ + radius; chunkZ++)
+        chunkLoads[index++] = world.getChunkAtAsync(chunkX, chunkZ, true);
+
+    return CompletableFuture.allOf(chunkLoads)
+      .thenApply(ignored -> Boolean.TRUE)
+      .completeOnTimeout(Boolean.FALSE, this.multiverse.getMultiverseConfig().getTeleportPrewarmTimeoutMillis(), TimeUnit.MILLISECONDS)
+      .handleAsync((completed, throwable) -> {
+        this.record(System.nanoTime() - startNanos, chunkLoads.length);
+        if (throwable != null) {
+          this.failures.increment();
+          this.multiverse.getPlatformLogger().logDebug("Failed to pre-warm chunks around " + location, throwable);
+        } else if (!Boolean.TRUE.equals(completed)) {
+          this.timeouts.increment();
+        }
+        return location;
+      }, this::runOnMainThread);
+  }
+
+  /**
+   * Retrieves the pre-warm statistics.
+   *
+   * @return a snapshot of the current {@link Statistics}.
+   */
+  public @NotNull Statistics getStatistics() {
+    final long count = this.prewarms.sum();
+    return new Statistics(
+      count,
+      this.timeouts.sum(),
+      this.failures.sum(),
+      this.chunks.sum(),
+      count == 0 ? 0.0 : this.latencyNanos.sum() / (double) count / 1_000_000.0,
+      TimeUnit.NANOSECONDS.toMillis(this.maxLatencyNanos.get())
+    );
+  }
+
+  /**
+   * Runs the task right away on the main thread, or schedules it for the next tick from any other thread.
+   *
+   * @param task the task to run.
+   */
+  private void runOnMainThread(final @NotNull Runnable task) {
+    if (Bukkit.isPrimaryThread())
+      task.run();
+    else
+      Bukkit.getScheduler().runTask(this.multiverse, task);
+  }
+
+  private void record(final long nanos, final int chunkCount) {
+    this.prewarms.increment();
+    this.chunks.add(chunkCount);
+    this.latencyNanos.add(nanos);
+    this.maxLatencyNanos.accumulateAndGet(nanos, Math::max);
+  }
+
+  /**
+   * Statistics of the chunk pre-warming.
+   *
+   * @param prewarms          the number of pre-warmed teleports.
+   * @param timeouts          the number of pre-warms that hit the timeout.
+   * @param failures          the number of pre-warms whose chunk loads failed.
+   * @param chunks            the number of requested chunks.
+   * @param averageMillis     the average time until the teleport could proceed.
+   * @param maxMillis         the longest time until the teleport could proceed.
+   */
+  public record Statistics(
+    long prewarms,
+    long timeouts,
+    long failures,
+    long chunks,
+    double averageMillis,
+    long maxMillis
+  ) {}
+}
@@ -0,0 +1,79 @@
+package de.jexcellence.multiverse.utility;
+
+import de.jexcellence.multiverse.Multiverse;
+import de.jexcellence.multiverse.generator.islandgenerator.IslandGridSettings;
+import de.jexcellence.multiverse.generator.islandgenerator.IslandTemplate;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the island schematics of island grid worlds and compiles each of them once.
+ * <p>
+ * Schematics are vanilla structure files, as saved by a structure block, in the plugin's {@code schematics} folder,
+ * e.g. {@code schematics/classic.nbt} for the schematic {@code classic}. The compiled {@link IslandTemplate}s are kept
+ * for the lifetime of the plugin and shared by all worlds using the same schematic. The schematic
+ * {@value IslandGridSettings#DEFAULT_SCHEMATIC} falls back to the built-in island if no such file exists.
+ * </p>
+ */
+public class IslandSchematics {
+
+  private static final String SCHEMATIC_DIRECTORY = "schematics";
+  private static final String SCHEMATIC_EXTENSION = ".nbt";
+
+  private final Multiverse multiverse;
+  private final Map<String, IslandTemplate> templates = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new IslandSchematics.
+   *
+   * @param multiverse the Multiverse plugin instance.
+   */
+  public IslandSchematics(final @NotNull Multiverse multiverse) {
+    this.multiverse = multiverse;
+  }
+
+  /**
+   * Retrieves the compiled template of a schematic, loading and compiling it on first use.
+   *
+   * @param schematic the schematic name.
+   * @return the compiled template.
+   * @throws IllegalArgumentException if the name is invalid or the schematic cannot be loaded.
+   */
+  public @NotNull IslandTemplate get(final @NotNull String schematic) {
+    if (!IslandGridSettings.isValidSchematicName(schematic))
+      throw new IllegalArgumentException("Invalid schematic name '" + schematic + "'");
+
+    return this.templates.computeIfAbsent(schematic, this::load);
+  }
+
+  private IslandTemplate load(final String schematic) {
+    final Path file = this.multiverse.getDataFolder().toPath().resolve(SCHEMATIC_DIRECTORY).resolve(schematic + SCHEMATIC_EXTENSION);
+    if (!Files.isRegularFile(file)) {
+      if (schematic.equals(IslandGridSettings.DEFAULT_SCHEMATIC))
+        return IslandTemplate.defaultIsland();
+      throw new IllegalArgumentException("Schematic " + SCHEMATIC_DIRECTORY + "/" + schematic + SCHEMATIC_EXTENSION + " does not exist");
+    }
+
+    final long startNanos = System.nanoTime();
+    final IslandTemplate template;
+    try {
+      template = IslandTemplate.fromStructure(Bukkit.getStructureManager().loadStructure(file.toFile()));
+    } catch (final IOException exception) {
+      throw new IllegalArgumentException("Failed to read schematic " + file.getFileName() + ": " + exception.getMessage(), exception);
+    }
+
+    this.multiverse.getPlatformLogger().logDebug(
+      "Compiled schematic " + schematic + " (" + template.getSizeX() + "x" + template.getSizeY() + "x" + template.getSizeZ() +
+        ", " + template.getPaletteSize() + " blocks, " + template.getRunCount() + " runs) in " +
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms"
+    );
+    return template;
+  }
+}
@@ -0,0 +1,452 @@
+package de.jexcellence.multiverse.utility;
+
+import de.jexcellence.je18n.i18n.I18n;
+import de.jexcellence.multiverse.Multiverse;
+import de.jexcellence.multiverse.generator.plotgenerator.PlotColumn;
+import de.jexcellence.multiverse.generator.plotgenerator.PlotLayer;
+import de.jexcellence.multiverse.generator.plotgenerator.PlotLayout;
+import de.jexcellence.multiverse.metrics.LatencyHistogram;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Container;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resets plots of plot worlds to the state their generator wrote.
+ * <p>
+ * The target state of every block column is taken from the world's {@link PlotLayout}, the same layout the plot
+ * generator writes, so a reset plot is indistinguishable from a freshly generated one. A reset covers the plot and its
+ * wall, never the road. The chunks of a plot are loaded asynchronously and held by a plugin chunk ticket while
+ * queued. On the main thread, queued chunks are rebuilt in order within the configured per-tick time budget: entities
+ * other than players inside the plot are removed and containers emptied first, then every column is compared against
+ * a snapshot of the chunk and only differing blocks are rewritten, without physics. A chunk that does not fit into one
+ * tick is continued at the next column in the following tick.
+ * </p>
+ * <p>
+ * The number of queued chunks and the blocks rewritten in the last tick are reported as gauges, the time spent per
+ * tick and the total number of rewritten blocks as the {@code plot_reset.tick} timer and the
+ * {@code plot_reset.blocks} counter.
+ * </p>
+ */
+public class PlotResetEngine {
+
+  private final Multiverse multiverse;
+  private final Map<String, PlotResetJob> jobs = new LinkedHashMap<>();
+  private final LatencyHistogram tickTimer;
+  private final LongAdder blockCounter;
+
+  private volatile int queuedChunks;
+  private volatile int blocksPerTick;
+
+  private BukkitTask task;
+
+  /**
+   * Constructs a new PlotResetEngine.
+   *
+   * @param multiverse the Multiverse plugin instance.
+   */
+  public PlotResetEngine(final @NotNull Multiverse multiverse) {
+    this.multiverse = multiverse;
+    this.tickTimer = multiverse.getMetrics().timer("plot_reset.tick");
+    this.blockCounter = multiverse.getMetrics().counter("plot_reset.blocks");
+  }
+
+  /**
+   * Queues the reset of a plot. Must be called on the main thread.
+   *
+   * @param world      the plot world.
+   * @param plotLayout the layout of the world's generator.
+   * @param plotX      the plot index along the X axis, see {@link PlotLayout#getPlotIndex(int)}.
+   * @param plotZ      the plot index along the Z axis.
+   * @param player     the initiating player.
+   */
+  public void reset(
+    final @NotNull World world,
+    final @NotNull PlotLayout plotLayout,
+    final int plotX,
+    final int plotZ,
+    final @NotNull Player player
+  ) {
+    final String key = world.getName() + ":" + plotX + ":" + plotZ;
+    final Map<String, Object> placeholders = Map.of("world_name", world.getName(), "plot_x", plotX, "plot_z", plotZ);
+    if (this.jobs.containsKey(key)) {
+      this.sendMessage(player.getUniqueId(), "multiverse.plot_reset_already_running", placeholders);
+      return;
+    }
+
+    final PlotResetJob job = new PlotResetJob(world, plotLayout, plotX, plotZ, player.getUniqueId());
+    for (int chunkX = job.minX >> 4; chunkX <= (job.maxX - 1) >> 4; chunkX++)
+      for (int chunkZ = job.minZ >> 4; chunkZ <= (job.maxZ - 1) >> 4; chunkZ++)
+        job.chunks.add(new ChunkReset(job, chunkX, chunkZ, world.getChunkAtAsync(chunkX, chunkZ, true).thenApply(chunk -> {
+          chunk.addPluginChunkTicket(this.multiverse);
+          return chunk;
+        })));
+
+    this.jobs.put(key, job);
+    this.queuedChunks += job.chunks.size();
+    if (this.task == null || this.task.isCancelled())
+      this.task = Bukkit.getScheduler().runTaskTimer(this.multiverse, this::tick, 1L, 1L);
+
+    this.sendMessage(player.getUniqueId(), "multiverse.plot_reset_started", Map.of(
+      "world_name", world.getName(),
+      "plot_x", plotX,
+      "plot_z", plotZ,
+      "chunk_count", job.chunks.size()
+    ));
+  }
+
+  /**
+   * Checks whether a plot of the given world is being reset. Must be called on the main thread.
+   *
+   * @param identifier the world identifier.
+   * @return {@code true} if a reset is queued.
+   */
+  public boolean isRunning(final @NotNull String identifier) {
+    for (PlotResetJob job : this.jobs.values())
+      if (job.worldName.equals(identifier))
+        return true;
+    return false;
+  }
+
+  /**
+   * Retrieves the number of chunks of all plots still to be reset, as of the last tick.
+   *
+   * @return the number of queued chunks.
+   */
+  public int getQueuedChunks() {
+    return this.queuedChunks;
+  }
+
+  /**
+   * Retrieves the number of blocks rewritten in the last tick.
+   *
+   * @return the blocks per tick.
+   */
+  public int getBlocksPerTick() {
+    return this.blocksPerTick;
+  }
+
+  /**
+   * Stops all resets and releases their chunks. Unfinished plots stay partially reset. Called when the plugin is
+   * disabled.
+   */
+  public void shutdown() {
+    if (this.task != null)
+      this.task.cancel();
+
+    for (PlotResetJob job : this.jobs.values()) {
+      this.multiverse.getPlatformLogger().logInfo(
+        "Stopped the reset of plot " + job.plotX + ", " + job.plotZ + " in " + job.worldName + " with " + job.chunks.size() + " chunks left"
+      );
+      this.release(job);
+    }
+    this.jobs.clear();
+    this.queuedChunks = 0;
+  }
+
+  /**
+   * Rebuilds queued chunks until the tick budget is spent.
+   */
+  private void tick() {
+    final long startNanos = System.nanoTime();
+    final long deadline = startNanos + this.multiverse.getMultiverseConfig().getPlotResetTickBudgetNanos();
+    int blocks = 0;
+
+    final Iterator<PlotResetJob> iterator = this.jobs.values().iterator();
+    while (iterator.hasNext() && System.nanoTime() < deadline) {
+      final PlotResetJob job = iterator.next();
+      final World world = Bukkit.getWorld(job.worldId);
+      if (world == null) {
+        iterator.remove();
+        this.release(job);
+        this.sendMessage(job.initiator, "multiverse.plot_reset_failed", Map.of(
+          "world_name", job.worldName,
+          "plot_x", job.plotX,
+          "plot_z", job.plotZ
+        ));
+        continue;
+      }
+
+      blocks += this.process(job, deadline);
+      if (job.chunks.isEmpty()) {
+        iterator.remove();
+        this.finish(job);
+      }
+    }
+
+    int queued = 0;
+    for (PlotResetJob job : this.jobs.values())
+      queued += job.chunks.size();
+    this.queuedChunks = queued;
+    this.blocksPerTick = blocks;
+    this.blockCounter.add(blocks);
+    this.tickTimer.recordSince(startNanos);
+
+    if (this.jobs.isEmpty()) {
+      this.task.cancel();
+      this.task = null;
+    }
+  }
+
+  /**
+   * Rebuilds the loaded chunks of a job in order until the deadline passes or the next chunk is still loading.
+   *
+   * @return the number of rewritten blocks.
+   */
+  private int process(final PlotResetJob job, final long deadline) {
+    int blocks = 0;
+    while (!job.chunks.isEmpty() && System.nanoTime() < deadline) {
+      final ChunkReset chunkReset = job.chunks.peek();
+      if (!chunkReset.chunk.isDone())
+        break;
+
+      final Chunk chunk;
+      try {
+        chunk = chunkReset.chunk.join();
+      } catch (final RuntimeException exception) {
+        this.multiverse.getPlatformLogger().logDebug(
+          "Failed to load chunk " + chunkReset.chunkX + ", " + chunkReset.chunkZ + " of " + job.worldName + " for a plot reset", exception
+        );
+        job.chunks.poll();
+        continue;
+      }
+
+      if (!chunkReset.cleared) {
+        this.clear(job, chunk);
+        chunkReset.cleared = true;
+      }
+
+      blocks += this.rebuild(job, chunkReset, chunk, deadline);
+      if (chunkReset.isFinished()) {
+        job.chunks.poll();
+        chunk.removePluginChunkTicket(this.multiverse);
+      }
+    }
+    job.blocks += blocks;
+    job.ticks++;
+    return blocks;
+  }
+
+  /**
+   * Removes all entities but players inside the plot and empties its containers, so their contents are not dropped
+   * when the blocks are replaced.
+   */
+  private void clear(final PlotResetJob job, final Chunk chunk) {
+    for (Entity entity : chunk.getEntities()) {
+      if (entity instanceof Player || !job.contains(entity.getLocation().getBlockX(), entity.getLocation().getBlockZ()))
+        continue;
+
+      entity.remove();
+      job.entities++;
+    }
+
+    for (BlockState blockState : chunk.getTileEntities(false)) {
+      if (!job.contains(blockState.getX(), blockState.getZ()))
+        continue;
+
+      if (blockState instanceof Container container)
+        container.getInventory().clear();
+      job.tileEntities++;
+    }
+  }
+
+  /**
+   * Rewrites the differing blocks of the chunk's plot columns, continuing at the column the previous tick stopped at.
+   *
+   * @return the number of rewritten blocks.
+   */
+  private int rebuild(final PlotResetJob job, final ChunkReset chunkReset, final Chunk chunk, final long deadline) {
+    final ChunkSnapshot snapshot = chunk.getChunkSnapshot(false, false, false);
+    final int chunkMinX = chunkReset.chunkX << 4;
+    final int chunkMinZ = chunkReset.chunkZ << 4;
+    final int width = chunkReset.toZ - chunkReset.fromZ;
+    int blocks = 0;
+
+    while (!chunkReset.isFinished() && System.nanoTime() < deadline) {
+      final int x = chunkReset.fromX + chunkReset.column / width;
+      final int z = chunkReset.fromZ + chunkReset.column % width;
+      final Material[] targets = job.targets[job.plotLayout.getColumn(chunkMinX + x, chunkMinZ + z).ordinal()];
+
+      for (int index = 0; index < targets.length; index++) {
+        final int y = job.minY + index;
+        if (snapshot.getBlockType(x, y, z) == targets[index])
+          continue;
+
+        chunk.getBlock(x, y, z).setType(targets[index], false);
+        blocks++;
+      }
+      chunkReset.column++;
+    }
+    return blocks;
+  }
+
+  private void finish(final PlotResetJob job) {
+    final long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - job.startNanos);
+    final long blocksPerTick = job.blocks / Math.max(1, job.ticks);
+    this.multiverse.getPlatformLogger().logDebug(
+      "Reset plot " + job.plotX + ", " + job.plotZ + " of " + job.worldName + ": " + job.blocks + " blocks over " + job.ticks +
+        " ticks (" + blocksPerTick + " per tick), " + job.entities + " entities, " + job.tileEntities + " tile entities in " +
+        durationMillis + " ms"
+    );
+    this.sendMessage(job.initiator, "multiverse.plot_reset_finished", Map.of(
+      "world_name", job.worldName,
+      "plot_x", job.plotX,
+      "plot_z", job.plotZ,
+      "block_count", job.blocks,
+      "blocks_per_tick", blocksPerTick,
+      "entity_count", job.entities,
+      "duration", durationMillis + " ms"
+    ));
+  }
+
+  /**
+   * Releases the chunk tickets of all chunks a job still holds or is about to acquire.
+   */
+  private void release(final PlotResetJob job) {
+    for (ChunkReset chunkReset : job.chunks)
+      chunkReset.chunk.thenAccept(chunk -> chunk.removePluginChunkTicket(this.multiverse));
+    job.chunks.clear();
+  }
+
+  private void sendMessage(final @Nullable UUID playerId, final @NotNull String key, final @NotNull Map<String, Object> placeholders) {
+    if (playerId == null)
+      return;
+
+    final Player player = Bukkit.getPlayer(playerId);
+    if (player == null)
+      return;
+
+    new I18n.Builder(key, player)
+      .includingPrefix()
+      .withPlaceholders(placeholders)
+      .build()
+      .send();
+  }
+
+  /**
+   * Computes the material of every height of every column class, {@code Material.AIR} where no segment applies.
+   * Later segments override earlier ones, as in the generator.
+   */
+  private static Material[][] computeTargets(final PlotLayout plotLayout, final int minY, final int maxY) {
+    final PlotLayer[][] segments = plotLayout.getSegments(minY);
+    final Material[][] targets = new Material[PlotColumn.values().length][];
+    for (PlotColumn column : PlotColumn.values()) {
+      final Material[] columnTargets = new Material[maxY - minY];
+      Arrays.fill(columnTargets, Material.AIR);
+      for (PlotLayer segment : segments[column.ordinal()])
+        Arrays.fill(
+          columnTargets,
+          Math.clamp(segment.getStartY() - minY, 0, columnTargets.length),
+          Math.clamp(segment.getEndY() - minY, 0, columnTargets.length),
+          segment.getMaterial()
+        );
+      targets[column.ordinal()] = columnTargets;
+    }
+    return targets;
+  }
+
+  /**
+   * The state of one plot being reset. Only accessed on the main thread.
+   */
+  private static final class PlotResetJob {
+
+    private final UUID worldId;
+    private final String worldName;
+    private final PlotLayout plotLayout;
+    private final int plotX;
+    private final int plotZ;
+    private final int minX;
+    private final int maxX;
+    private final int minZ;
+    private final int maxZ;
+    private final int minY;
+    private final Material[][] targets;
+    private final UUID initiator;
+    private final long startNanos = System.nanoTime();
+    private final ArrayDeque<ChunkReset> chunks = new ArrayDeque<>();
+
+    private long blocks;
+    private long ticks;
+    private int entities;
+    private int tileEntities;
+
+    private PlotResetJob(
+      final World world,
+      final PlotLayout plotLayout,
+      final int plotX,
+      final int plotZ,
+      final UUID initiator
+    ) {
+      this.worldId = world.getUID();
+      this.worldName = world.getName();
+      this.plotLayout = plotLayout;
+      this.plotX = plotX;
+      this.plotZ = plotZ;
+      this.minX = plotLayout.getPlotOrigin(plotX);
+      this.maxX = this.minX + plotLayout.getPlotSize();
+      this.minZ = plotLayout.getPlotOrigin(plotZ);
+      this.maxZ = this.minZ + plotLayout.getPlotSize();
+      this.minY = world.getMinHeight();
+      this.targets = computeTargets(plotLayout, world.getMinHeight(), world.getMaxHeight());
+      this.initiator = initiator;
+    }
+
+    private boolean contains(final int x, final int z) {
+      return x >= this.minX && x < this.maxX && z >= this.minZ && z < this.maxZ;
+    }
+  }
+
+  /**
+   * The progress of one chunk of a plot, the columns of the plot inside the chunk being visited in order.
+   */
+  private static final class ChunkReset {
+
+    private final int chunkX;
+    private final int chunkZ;
+    private final CompletableFuture<Chunk> chunk;
+    private final int fromX;
+    private final int toX;
+    private final int fromZ;
+    private final int toZ;
+
+    private boolean cleared;
+    private int column;
+
+    private ChunkReset(
+      final PlotResetJob job,
+      final int chunkX,
+      final int chunkZ,
+      final CompletableFuture<Chunk> chunk
+    ) {
+      this.chunkX = chunkX;
+      this.chunkZ = chunkZ;
+      this.chunk = chunk;
+      this.fromX = Math.max(job.minX - (chunkX << 4), 0);
+      this.toX = Math.min(job.maxX - (chunkX << 4), 16);
+      this.fromZ = Math.max(job.minZ - (chunkZ << 4), 0);
+      this.toZ = Math.min(job.maxZ - (chunkZ << 4), 16);
+    }
+
+    private boolean isFinished() {
+      return this.column >= (this.toX - this.fromX) * (this.toZ - this.fromZ);
+    }
+  }
+}
@@ -0,0 +1,297 @@
+package de.jexcellence.multiverse.utility;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The state of a chunk pre-generation of one world.
+ * <p>
+ * Chunks are visited in a square spiral around the center, so the area closest to spawn is ready first. Chunk loads
+ * complete out of order, so the job tracks the contiguous prefix of finished spiral indices; only that prefix is
+ * persisted, and a resumed job re-requests at most one concurrency window of already generated chunks, which are
+ * then merely read from disk. All methods must be called on the main thread.
+ * </p>
+ */
+public class PregenerationJob {
+
+  private final String identifier;
+  private final int centerX;
+  private final int centerZ;
+  private final int radius;
+  private final long chunkCount;
+  private final long resumedIndex;
+
+  private final PriorityQueue<Long> completedAhead = new PriorityQueue<>();
+  private long contiguousIndex;
+  private long nextIndex;
+  private int inFlight;
+  private int window = 1;
+
+  private final long startNanos = System.nanoTime();
+  private long lastReportNanos = this.startNanos;
+  private long lastSaveNanos = this.startNanos;
+  private @Nullable UUID initiator;
+
+  /**
+   * Constructs a new PregenerationJob.
+   *
+   * @param identifier     the identifier of the world.
+   * @param centerX        the x coordinate of the center chunk.
+   * @param centerZ        the z coordinate of the center chunk.
+   * @param radius         the radius in chunks around the center.
+   * @param completedIndex the number of spiral indices already finished by a previous run.
+   */
+  public PregenerationJob(
+    final @NotNull String identifier,
+    final int centerX,
+    final int centerZ,
+    final int radius,
+    final long completedIndex
+  ) {
+    this.identifier = identifier;
+    this.centerX = centerX;
+    this.centerZ = centerZ;
+    this.radius = radius;
+    this.chunkCount = (2L * radius + 1) * (2L * radius + 1);
+    this.resumedIndex = Math.min(completedIndex, this.chunkCount);
+    this.contiguousIndex = this.resumedIndex;
+    this.nextIndex = this.resumedIndex;
+  }
+
+  /**
+   * Restores a job from its persisted form.
+   *
+   * @param serialized the persisted job, see {@link #serialize()}.
+   * @return the restored job.
+   * @throws InvalidConfigurationException if the data is malformed.
+   */
+  public static @NotNull PregenerationJob deserialize(final @NotNull String serialized) throws InvalidConfigurationException {
+    final YamlConfiguration configuration = new YamlConfiguration();
+    configuration.loadFromString(serialized);
+
+    final String identifier = configuration.getString("world");
+    if (identifier == null || !configuration.isInt("radius"))
+      throw new InvalidConfigurationException("Missing world or radius");
+
+    return new PregenerationJob(
+      identifier,
+      configuration.getInt("center-x"),
+      configuration.getInt("center-z"),
+      configuration.getInt("radius"),
+      configuration.getLong("completed-index")
+    );
+  }
+
+  /**
+   * Serializes the persistent part of this job.
+   *
+   * @return the job as YAML.
+   */
+  public @NotNull String serialize() {
+    final YamlConfiguration configuration = new YamlConfiguration();
+    configuration.set("world", this.identifier);
+    configuration.set("center-x", this.centerX);
+    configuration.set("center-z", this.centerZ);
+    configuration.set("radius", this.radius);
+    configuration.set("completed-index", this.contiguousIndex);
+    return configuration.saveToString();
+  }
+
+  /**
+   * Converts a spiral index into the chunk x offset and z offset from the center.
+   *
+   * @param index the zero-based spiral index.
+   * @return the offsets, x in the upper and z in the lower 32 bits.
+   */
+  static long spiralOffset(final long index) {
+    if (index == 0)
+      return 0L;
+
+    final long position = index + 1;
+    final long ring = (long) Math.ceil((Math.sqrt(position) - 1) / 2);
+    final long side = 2 * ring;
+    long corner = (side + 1) * (side + 1);
+
+    if (position >= corner - side)
+      return pack(ring - (corner - position), -ring);
+    corner -= side;
+    if (position >= corner - side)
+      return pack(-ring, -ring + (corner - position));
+    corner -= side;
+    if (position >= corner - side)
+      return pack(-ring + (corner - position), ring);
+    return pack(ring, ring - (corner - position - side));
+  }
+
+  private static long pack(final long x, final long z) {
+    return (x << 32) | (z & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Checks whether chunks remain that have not been requested yet.
+   *
+   * @return {@code true} if another chunk can be requested.
+   */
+  public boolean hasNext() {
+    return this.nextIndex < this.chunkCount;
+  }
+
+  /**
+   * Claims the next spiral index and counts it as in flight.
+   *
+   * @return the claimed index.
+   */
+  public long claimNext() {
+    this.inFlight++;
+    return this.nextIndex++;
+  }
+
+  /**
+   * Retrieves the chunk x coordinate of a spiral index.
+   *
+   * @param index the spiral index.
+   * @return the chunk x coordinate.
+   */
+  public int getChunkX(final long index) {
+    return this.centerX + (int) (spiralOffset(index) >> 32);
+  }
+
+  /**
+   * Retrieves the chunk z coordinate of a spiral index.
+   *
+   * @param index the spiral index.
+   * @return the chunk z coordinate.
+   */
+  public int getChunkZ(final long index) {
+    return this.centerZ + (int) spiralOffset(index);
+  }
+
+  /**
+   * Marks a spiral index as finished and advances the contiguous prefix.
+   *
+   * @param index the finished index.
+   */
+  public void complete(final long index) {
+    this.inFlight--;
+    if (index != this.contiguousIndex) {
+      this.completedAhead.add(index);
+      return;
+    }
+
+    this.contiguousIndex++;
+    while (!this.completedAhead.isEmpty() && this.completedAhead.peek() == this.contiguousIndex) {
+      this.completedAhead.poll();
+      this.contiguousIndex++;
+    }
+  }
+
+  /**
+   * Checks whether every chunk of the job is finished.
+   *
+   * @return {@code true} if the job is done.
+   */
+  public boolean isFinished() {
+    return this.contiguousIndex >= this.chunkCount;
+  }
+
+  /**
+   * Retrieves the average number of chunks finished per second since the job was started or resumed.
+   *
+   * @return the chunks per second.
+   */
+  public double getChunksPerSecond() {
+    final double elapsedSeconds = (System.nanoTime() - this.startNanos) / 1_000_000_000.0;
+    return elapsedSeconds <= 0 ? 0.0 : (this.contiguousIndex - this.resumedIndex) / elapsedSeconds;
+  }
+
+  /**
+   * Retrieves the estimated remaining time at the current rate.
+   *
+   * @return the remaining time in seconds, or {@code -1} if no rate is known yet.
+   */
+  public long getEtaSeconds() {
+    final double chunksPerSecond = this.getChunksPerSecond();
+    return chunksPerSecond <= 0 ? -1L : (long) ((this.chunkCount - this.contiguousIndex) / chunksPerSecond);
+  }
+
+  /**
+   * Formats a duration in seconds for players, e.g. {@code 1h 4m 12s}.
+   *
+   * @param seconds the duration, or a negative value if unknown.
+   * @return the formatted duration.
+   */
+  public static @NotNull String formatDuration(final long seconds) {
+    if (seconds < 0)
+      return "?";
+
+    final long hours = TimeUnit.SECONDS.toHours(seconds);
+    final long minutes = TimeUnit.SECONDS.toMinutes(seconds) % 60;
+    if (hours > 0)
+      return hours + "h " + minutes + "m " + seconds % 60 + "s";
+    if (minutes > 0)
+      return minutes + "m " + seconds % 60 + "s";
+    return seconds + "s";
+  }
+
+  public @NotNull String getIdentifier() {
+    return this.identifier;
+  }
+
+  public int getRadius() {
+    return this.radius;
+  }
+
+  public long getChunkCount() {
+    return this.chunkCount;
+  }
+
+  public long getCompletedCount() {
+    return this.contiguousIndex;
+  }
+
+  public int getInFlight() {
+    return this.inFlight;
+  }
+
+  public int getWindow() {
+    return this.window;
+  }
+
+  public void setWindow(final int window) {
+    this.window = window;
+  }
+
+  public long getElapsedNanos() {
+    return System.nanoTime() - this.startNanos;
+  }
+
+  public long getLastReportNanos() {
+    return this.lastReportNanos;
+  }
+
+  public void setLastReportNanos(final long lastReportNanos) {
+    this.lastReportNanos = lastReportNanos;
+  }
+
+  public long getLastSaveNanos() {
+    return this.lastSaveNanos;
+  }
+
+  public void setLastSaveNanos(final long lastSaveNanos) {
+    this.lastSaveNanos = lastSaveNanos;
+  }
+
+  public @Nullable UUID getInitiator() {
+    return this.initiator;
+  }
+
+  public void setInitiator(final @Nullable UUID initiator) {
+    this.initiator = initiator;
+  }
+}
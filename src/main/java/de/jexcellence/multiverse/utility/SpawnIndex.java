@@ -0,0 +1,149 @@
+package de.jexcellence.multiverse.utility;
+
+import de.jexcellence.multiverse.database.entity.MVWorld;
+import de.jexcellence.multiverse.database.entity.SpawnPoint;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the resolved spawn locations of all registered worlds in memory.
+ * <p>
+ * The index holds the identifier of the world flagged as global spawn and the spawn location of every
+ * {@link MVWorld}, so spawn and respawn events can be answered synchronously on the main thread without
+ * any database or executor hop. It listens to the {@link WorldRegistry}, so it is kept up to date whenever a world
+ * is created, loaded, edited or deleted.
+ * </p>
+ */
+public class SpawnIndex implements WorldRegistry.Listener {
+
+  private final Map<String, SpawnPoint> spawnPoints = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder fallbacks = new LongAdder();
+
+  private volatile String globalSpawnIdentifier;
+
+  /**
+   * Adds or refreshes the spawn entry of the given world.
+   *
+   * @param mvWorld the world whose spawn location and global spawn flag should be indexed.
+   */
+  public void index(final @NotNull MVWorld mvWorld) {
+    final String identifier = mvWorld.getIdentifier();
+    final SpawnPoint spawnPoint = mvWorld.getSpawnPoint();
+
+    if (spawnPoint == null)
+      this.spawnPoints.remove(identifier);
+    else
+      this.spawnPoints.put(identifier, spawnPoint);
+
+    if (mvWorld.isGlobalizedSpawn())
+      this.globalSpawnIdentifier = identifier;
+    else if (identifier.equals(this.globalSpawnIdentifier))
+      this.globalSpawnIdentifier = null;
+  }
+
+  /**
+   * Removes the spawn entry of the given world, clearing the global spawn pointer if it referenced it.
+   *
+   * @param identifier the identifier of the world to remove.
+   */
+  public void remove(final @NotNull String identifier) {
+    this.spawnPoints.remove(identifier);
+    if (identifier.equals(this.globalSpawnIdentifier))
+      this.globalSpawnIdentifier = null;
+  }
+
+  @Override
+  public void onWorldRegistered(final @NotNull MVWorld mvWorld, final boolean loaded) {
+    this.index(mvWorld);
+  }
+
+  @Override
+  public void onWorldUnregistered(final @NotNull MVWorld mvWorld) {
+    this.remove(mvWorld.getIdentifier());
+  }
+
+  /**
+   * Resolves the spawn location for the given player.
+   * <p>
+   * The global spawn takes precedence, followed by the spawn of the player's current world. If the index
+   * holds no usable entry, the vanilla spawn location of the player's world is returned and counted as a fallback.
+   * </p>
+   *
+   * @param player the player whose spawn location is being determined.
+   * @return the resolved spawn location, never {@code null}.
+   */
+  public @NotNull Location resolve(final @NotNull Player player) {
+    final String globalIdentifier = this.globalSpawnIdentifier;
+    if (globalIdentifier != null) {
+      final Location globalSpawn = this.lookup(globalIdentifier);
+      if (globalSpawn != null) {
+        this.hits.increment();
+        return globalSpawn;
+      }
+    }
+
+    final World world = player.getWorld();
+    final Location worldSpawn = this.lookup(world.getName());
+    if (worldSpawn != null) {
+      this.hits.increment();
+      return worldSpawn;
+    }
+
+    this.fallbacks.increment();
+    return world.getSpawnLocation();
+  }
+
+  /**
+   * Retrieves the identifier of the world currently flagged as global spawn.
+   *
+   * @return the identifier, or {@code null} if no global spawn is set.
+   */
+  public @Nullable String getGlobalSpawnIdentifier() {
+    return this.globalSpawnIdentifier;
+  }
+
+  /**
+   * Retrieves how many spawn resolutions were answered from the index.
+   *
+   * @return the number of index hits.
+   */
+  public long getHits() {
+    return this.hits.sum();
+  }
+
+  /**
+   * Retrieves how many spawn resolutions had to fall back to the vanilla world spawn.
+   *
+   * @return the number of fallbacks.
+   */
+  public long getFallbacks() {
+    return this.fallbacks.sum();
+  }
+
+  /**
+   * Resolves the indexed spawn point of the given world to a location.
+   * <p>
+   * Spawn points reference their world by name only, so the index never keeps an unloaded world alive; they are
+   * bound to the world on every lookup, which is a single map read.
+   * </p>
+   *
+   * @param identifier the world identifier.
+   * @return a new spawn location, or {@code null} if none is indexed or its world is not loaded.
+   */
+  private @Nullable Location lookup(final @NotNull String identifier) {
+    final SpawnPoint spawnPoint = this.spawnPoints.get(identifier);
+    if (spawnPoint == null)
+      return null;
+
+    final Location spawnLocation = spawnPoint.toLocation();
+    return spawnLocation.getWorld() == null ? null : spawnLocation;
+  }
+}
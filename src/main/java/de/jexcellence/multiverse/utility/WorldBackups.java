@@ -0,0 +1,458 @@
+package de.jexcellence.multiverse.utility;
+
+import de.jexcellence.je18n.i18n.I18n;
+import de.jexcellence.multiverse.Multiverse;
+import de.jexcellence.multiverse.database.entity.MVWorld;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Backs up worlds incrementally into a deduplicating, content-addressed store and restores them into new worlds.
+ * <p>
+ * Every file of a world is stored once per distinct content as a gzip compressed object named after its SHA-256 hash,
+ * and each backup writes a {@link BackupSnapshot} manifest referencing the objects. Files whose size and modification
+ * time match the previous snapshot are not even read again, and content that is already stored is never rewritten, so
+ * a backup of a mostly unchanged world costs little more than a directory walk. Hashing and compression stream on the
+ * I/O executor while the world is frozen, see {@link WorldLifecycleManager#freeze(String)}, which flushes all pending
+ * chunk writes first and keeps the files consistent while they are read. Snapshot ids carry milliseconds, and an
+ * existing snapshot is never overwritten.
+ * </p>
+ */
+public class WorldBackups {
+
+  private static final String BACKUP_DIRECTORY = "backups";
+  private static final String OBJECT_DIRECTORY = "objects";
+  private static final String SNAPSHOT_DIRECTORY = "snapshots";
+  private static final String SNAPSHOT_EXTENSION = ".yml";
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int LISTED_SNAPSHOTS = 10;
+  private static final DateTimeFormatter SNAPSHOT_ID_FORMAT =
+    DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS", Locale.ROOT).withZone(ZoneId.systemDefault());
+
+  private final Multiverse multiverse;
+  private final Set<String> runningBackups = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Constructs a new WorldBackups.
+   *
+   * @param multiverse the Multiverse plugin instance.
+   */
+  public WorldBackups(final @NotNull Multiverse multiverse) {
+    this.multiverse = multiverse;
+  }
+
+  /**
+   * Creates a new snapshot of a registered world. Must be called on the main thread.
+   *
+   * @param identifier the identifier of the world.
+   * @param player     the player initiating the backup.
+   */
+  public void backup(final @NotNull String identifier, final @NotNull Player player) {
+    final MVWorld mvWorld = this.multiverse.getWorldRegistry().get(identifier);
+    if (mvWorld == null) {
+      this.sendMessage(player, "multiverse.world_doesnt_exist", Map.of("world_name", identifier));
+      return;
+    }
+
+    if (!this.runningBackups.add(identifier)) {
+      this.sendMessage(player, "multiverse.backup_already_running", Map.of("world_name", identifier));
+      return;
+    }
+
+    final Path worldFolder = Bukkit.getWorldContainer().toPath().resolve(identifier);
+    final Runnable release = this.multiverse.getWorldLifecycleManager().freeze(identifier);
+    final Location spawnLocation = mvWorld.getSpawnLocation();
+    if (spawnLocation != null)
+      spawnLocation.setWorld(null);
+
+    final String snapshotId = SNAPSHOT_ID_FORMAT.format(Instant.now());
+    this.sendMessage(player, "multiverse.backup_started", Map.of("world_name", identifier, "snapshot", snapshotId));
+
+    final long startNanos = System.nanoTime();
+    final Counters counters = new Counters();
+    CompletableFuture.supplyAsync(() -> this.readLatestSnapshot(identifier), this.multiverse.getExecutor())
+      .thenCompose(previous -> this.storeFiles(worldFolder, previous, counters))
+      .thenApplyAsync(entries -> {
+        final BackupSnapshot snapshot = new BackupSnapshot(
+          identifier, snapshotId, mvWorld.getType(), mvWorld.getEnvironment(), mvWorld.getGeneratorSettings(), spawnLocation,
+          System.currentTimeMillis(), entries
+        );
+        this.writeSnapshot(snapshot);
+        return snapshot;
+      }, this.multiverse.getExecutor())
+      .whenComplete((snapshot, throwable) -> Bukkit.getScheduler().runTask(this.multiverse, () -> {
+        release.run();
+        this.runningBackups.remove(identifier);
+
+        if (throwable != null) {
+          this.multiverse.getPlatformLogger().logDebug("Failed to back up world " + identifier, throwable);
+          this.sendMessage(player, "multiverse.backup_failed", Map.of(
+            "world_name", identifier,
+            "exception", String.valueOf(throwable.getMessage())
+          ));
+          return;
+        }
+
+        final long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        this.multiverse.getPlatformLogger().logInfo(
+          "Backed up " + identifier + " as " + snapshotId + ": " + snapshot.getEntries().size() + " files (" +
+            WorldFiles.formatSize(snapshot.getTotalSize()) + "), " + counters.storedFiles.sum() + " stored (" +
+            WorldFiles.formatSize(counters.storedBytes.sum()) + " compressed), " + counters.unchangedFiles.sum() +
+            " unchanged, " + counters.deduplicatedFiles.sum() + " deduplicated in " + durationMillis + " ms"
+        );
+        this.sendMessage(player, "multiverse.backup_finished", Map.of(
+          "world_name", identifier,
+          "snapshot", snapshotId,
+          "file_count", snapshot.getEntries().size(),
+          "stored_count", counters.storedFiles.sum(),
+          "stored_size", WorldFiles.formatSize(counters.storedBytes.sum()),
+          "duration", durationMillis + " ms"
+        ));
+      }));
+  }
+
+  /**
+   * Restores a snapshot into a new world with the type, environment and spawn of the backed up world. Must be called
+   * on the main thread.
+   *
+   * @param identifier       the identifier of the backed up world.
+   * @param snapshotId       the snapshot to restore.
+   * @param targetIdentifier the identifier of the new world.
+   * @param worldManager     the world manager creating the restored world.
+   * @param player           the player initiating the restore.
+   */
+  public void restore(
+    final @NotNull String identifier,
+    final @NotNull String snapshotId,
+    final @NotNull String targetIdentifier,
+    final @NotNull WorldManager worldManager,
+    final @NotNull Player player
+  ) {
+    final String unavailableKey = worldManager.checkNewIdentifier(targetIdentifier);
+    if (unavailableKey != null) {
+      this.sendMessage(player, unavailableKey, Map.of("world_name", targetIdentifier));
+      return;
+    }
+
+    final Path targetFolder = Bukkit.getWorldContainer().toPath().resolve(targetIdentifier);
+    final long startNanos = System.nanoTime();
+    CompletableFuture.supplyAsync(() -> this.readSnapshot(identifier, snapshotId), this.multiverse.getExecutor())
+      .whenComplete((snapshot, throwable) -> Bukkit.getScheduler().runTask(this.multiverse, () -> {
+        if (throwable != null || snapshot == null) {
+          if (throwable != null)
+            this.multiverse.getPlatformLogger().logDebug("Failed to read snapshot " + snapshotId + " of " + identifier, throwable);
+          this.sendMessage(player, "multiverse.backup_not_found", Map.of("world_name", identifier, "snapshot", snapshotId));
+          return;
+        }
+
+        this.sendMessage(player, "multiverse.restore_started", Map.of(
+          "world_name", targetIdentifier,
+          "source_name", identifier,
+          "snapshot", snapshotId
+        ));
+        this.extractFiles(snapshot, targetFolder)
+          .whenComplete((ignored, extractionThrowable) -> Bukkit.getScheduler().runTask(this.multiverse, () -> {
+            if (extractionThrowable != null) {
+              worldManager.discardPreparedWorld(targetIdentifier, targetFolder, player, extractionThrowable);
+              return;
+            }
+
+            worldManager.createFromFolder(
+                targetIdentifier,
+                snapshot.getEnvironment(),
+                snapshot.getType(),
+                snapshot.getGeneratorSettings(),
+                snapshot.getSpawnLocation()
+              ).whenComplete((mvWorld, creationThrowable) -> {
+                if (creationThrowable != null) {
+                  worldManager.discardPreparedWorld(targetIdentifier, targetFolder, player, creationThrowable);
+                  return;
+                }
+
+                this.sendMessage(player, "multiverse.restore_finished", Map.of(
+                  "world_name", targetIdentifier,
+                  "snapshot", snapshotId,
+                  "size", WorldFiles.formatSize(snapshot.getTotalSize()),
+                  "duration", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms"
+                ));
+              });
+          }));
+      }));
+  }
+
+  /**
+   * Sends the most recent snapshots of a world to the player.
+   *
+   * @param identifier the identifier of the world.
+   * @param player     the player requesting the list.
+   */
+  public void list(final @NotNull String identifier, final @NotNull Player player) {
+    CompletableFuture.supplyAsync(() -> this.listSnapshotIds(identifier), this.multiverse.getExecutor())
+      .whenComplete((snapshotIds, throwable) -> {
+        if (throwable != null) {
+          this.multiverse.getPlatformLogger().logDebug("Failed to list snapshots of " + identifier, throwable);
+          return;
+        }
+
+        this.sendMessage(player, "multiverse.backup_list", Map.of(
+          "world_name", identifier,
+          "snapshot_count", snapshotIds.size(),
+          "snapshots", snapshotIds.isEmpty()
+            ? "-"
+            : String.join(", ", snapshotIds.subList(Math.max(0, snapshotIds.size() - LISTED_SNAPSHOTS), snapshotIds.size()))
+        ));
+      });
+  }
+
+  /**
+   * Stores every file of the world folder that the previous snapshot does not already cover, in parallel.
+   */
+  private CompletableFuture<List<BackupSnapshot.Entry>> storeFiles(
+    final Path worldFolder,
+    final @Nullable BackupSnapshot previous,
+    final Counters counters
+  ) {
+    final Map<String, BackupSnapshot.Entry> previousEntries = previous == null ? Map.of() : previous.getEntriesByPath();
+    final List<Path> files;
+    try (Stream<Path> walk = Files.walk(worldFolder)) {
+      files = walk
+        .filter(Files::isRegularFile)
+        .filter(file -> WorldCloner.isClonedFile(worldFolder.relativize(file)))
+        .toList();
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+
+    final List<CompletableFuture<BackupSnapshot.Entry>> entries = files.stream()
+      .map(file -> CompletableFuture.supplyAsync(
+        () -> this.storeFile(worldFolder, file, previousEntries, counters),
+        this.multiverse.getExecutor()
+      ))
+      .toList();
+    return CompletableFuture.allOf(entries.toArray(CompletableFuture[]::new))
+      .thenApply(ignored -> entries.stream().map(CompletableFuture::join).toList());
+  }
+
+  private BackupSnapshot.Entry storeFile(
+    final Path worldFolder,
+    final Path file,
+    final Map<String, BackupSnapshot.Entry> previousEntries,
+    final Counters counters
+  ) {
+    try {
+      final String path = worldFolder.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+      final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      final long size = attributes.size();
+      final long modified = attributes.lastModifiedTime().toMillis();
+
+      final BackupSnapshot.Entry previous = previousEntries.get(path);
+      if (
+        previous != null &&
+          previous.size() == size &&
+          previous.modified() == modified &&
+          Files.exists(this.getObjectFile(previous.hash()))
+      ) {
+        counters.unchangedFiles.increment();
+        return previous;
+      }
+
+      final String hash = hash(file);
+      final Path objectFile = this.getObjectFile(hash);
+      if (Files.exists(objectFile)) {
+        counters.deduplicatedFiles.increment();
+      } else {
+        counters.storedBytes.add(compress(file, objectFile));
+        counters.storedFiles.increment();
+      }
+      return new BackupSnapshot.Entry(path, hash, size, modified);
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  private CompletableFuture<Void> extractFiles(final BackupSnapshot snapshot, final Path targetFolder) {
+    final List<CompletableFuture<Void>> extractions = snapshot.getEntries().stream()
+      .map(entry -> CompletableFuture.runAsync(() -> {
+        final Path targetFile = targetFolder.resolve(entry.path()).normalize();
+        if (!targetFile.startsWith(targetFolder))
+          throw new IllegalStateException("Snapshot entry escapes the world folder: " + entry.path());
+
+        try {
+          Files.createDirectories(targetFile.getParent());
+          try (InputStream input = new GZIPInputStream(Files.newInputStream(this.getObjectFile(entry.hash())), BUFFER_SIZE)) {
+            Files.copy(input, targetFile, StandardCopyOption.REPLACE_EXISTING);
+          }
+          Files.setLastModifiedTime(targetFile, FileTime.fromMillis(entry.modified()));
+        } catch (final IOException exception) {
+          throw new UncheckedIOException(exception);
+        }
+      }, this.multiverse.getExecutor()))
+      .toList();
+    return CompletableFuture.allOf(extractions.toArray(CompletableFuture[]::new));
+  }
+
+  private static String hash(final Path file) throws IOException {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException exception) {
+      throw new IllegalStateException("SHA-256 is not available", exception);
+    }
+
+    try (InputStream input = new DigestInputStream(Files.newInputStream(file), digest)) {
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      while (input.read(buffer) != -1) {
+        // the digest is updated while reading
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * Compresses a file into the object store. The object is written to a temporary file first and moved into place
+   * atomically, so a crash never leaves a truncated object behind.
+   *
+   * @return the compressed size.
+   */
+  private static long compress(final Path file, final Path objectFile) throws IOException {
+    Files.createDirectories(objectFile.getParent());
+    final Path temporaryFile = objectFile.resolveSibling(objectFile.getFileName() + "." + UUID.randomUUID() + ".tmp");
+    try {
+      try (
+        InputStream input = Files.newInputStream(file);
+        OutputStream output = new GZIPOutputStream(Files.newOutputStream(temporaryFile), BUFFER_SIZE)
+      ) {
+        input.transferTo(output);
+      }
+      final long compressedSize = Files.size(temporaryFile);
+      try {
+        Files.move(temporaryFile, objectFile, StandardCopyOption.ATOMIC_MOVE);
+      } catch (final FileAlreadyExistsException ignored) {
+        // stored concurrently by another backup, the content is identical
+      }
+      return compressedSize;
+    } finally {
+      Files.deleteIfExists(temporaryFile);
+    }
+  }
+
+  private @Nullable BackupSnapshot readLatestSnapshot(final String identifier) {
+    final List<String> snapshotIds = this.listSnapshotIds(identifier);
+    return snapshotIds.isEmpty() ? null : this.readSnapshot(identifier, snapshotIds.get(snapshotIds.size() - 1));
+  }
+
+  private @Nullable BackupSnapshot readSnapshot(final String identifier, final String snapshotId) {
+    final Path snapshotFile = this.getSnapshotDirectory(identifier).resolve(snapshotId + SNAPSHOT_EXTENSION);
+    if (!snapshotFile.normalize().startsWith(this.getSnapshotDirectory(identifier)) || !Files.isRegularFile(snapshotFile))
+      return null;
+
+    try {
+      return BackupSnapshot.deserialize(Files.readString(snapshotFile, StandardCharsets.UTF_8));
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    } catch (final InvalidConfigurationException exception) {
+      throw new IllegalStateException("Corrupt snapshot " + snapshotFile, exception);
+    }
+  }
+
+  private void writeSnapshot(final BackupSnapshot snapshot) {
+    final Path snapshotDirectory = this.getSnapshotDirectory(snapshot.getIdentifier());
+    try {
+      Files.createDirectories(snapshotDirectory);
+      final Path snapshotFile = snapshotDirectory.resolve(snapshot.getId() + SNAPSHOT_EXTENSION);
+      Files.writeString(snapshotFile, snapshot.serialize(), StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW);
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  /**
+   * Lists the snapshot ids of a world, oldest first.
+   */
+  private List<String> listSnapshotIds(final String identifier) {
+    final Path snapshotDirectory = this.getSnapshotDirectory(identifier);
+    if (!Files.isDirectory(snapshotDirectory))
+      return List.of();
+
+    try (Stream<Path> files = Files.list(snapshotDirectory)) {
+      return files
+        .map(file -> file.getFileName().toString())
+        .filter(fileName -> fileName.endsWith(SNAPSHOT_EXTENSION))
+        .map(fileName -> fileName.substring(0, fileName.length() - SNAPSHOT_EXTENSION.length()))
+        .sorted(Comparator.naturalOrder())
+        .toList();
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  private Path getObjectFile(final String hash) {
+    return this.multiverse.getDataFolder().toPath()
+      .resolve(BACKUP_DIRECTORY)
+      .resolve(OBJECT_DIRECTORY)
+      .resolve(hash.substring(0, 2))
+      .resolve(hash + ".gz");
+  }
+
+  private Path getSnapshotDirectory(final String identifier) {
+    return this.multiverse.getDataFolder().toPath()
+      .resolve(BACKUP_DIRECTORY)
+      .resolve(SNAPSHOT_DIRECTORY)
+      .resolve(identifier.replace('/', '_'));
+  }
+
+  private void sendMessage(final Player player, final String key, final Map<String, Object> placeholders) {
+    new I18n.Builder(key, player)
+      .includingPrefix()
+      .withPlaceholders(placeholders)
+      .build()
+      .send();
+  }
+
+  /**
+   * Counts how the files of one backup were handled.
+   */
+  private static final class Counters {
+    private final LongAdder storedFiles = new LongAdder();
+    private final LongAdder storedBytes = new LongAdder();
+    private final LongAdder unchangedFiles = new LongAdder();
+    private final LongAdder deduplicatedFiles = new LongAdder();
+  }
+}
@@ -0,0 +1,149 @@
+package de.jexcellence.multiverse.utility;
+
+import de.jexcellence.je18n.i18n.I18n;
+import de.jexcellence.multiverse.Multiverse;
+import de.jexcellence.multiverse.database.entity.MVWorld;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Clones a registered world into a new world without blocking the main thread.
+ * <p>
+ * The source world is saved and frozen on the main thread, see {@link WorldLifecycleManager#freeze(String)}. Freezing
+ * flushes the pending chunk writes through {@link WorldLifecycleManager#saveAndFlush(World)}, so the copy never reads
+ * a half written region file. The folder is then copied in parallel on the I/O executor, leaving out the
+ * {@code session.lock} and {@code uid.dat} files that identify the source. The clone is created with the same type, environment and generator as the source,
+ * registered and persisted. The initiating player receives the throughput periodically.
+ * </p>
+ */
+public class WorldCloner {
+
+  static final Set<String> EXCLUDED_FILES = Set.of("session.lock", "uid.dat");
+  private static final long PROGRESS_INTERVAL_TICKS = 40L;
+
+  private final Multiverse multiverse;
+  private final WorldManager worldManager;
+
+  /**
+   * Constructs a new WorldCloner.
+   *
+   * @param multiverse   the Multiverse plugin instance.
+   * @param worldManager the world manager providing the world creators.
+   */
+  public WorldCloner(
+    final @NotNull Multiverse multiverse,
+    final @NotNull WorldManager worldManager
+  ) {
+    this.multiverse = multiverse;
+    this.worldManager = worldManager;
+  }
+
+  /**
+   * Clones the source world into a new world. Must be called on the main thread.
+   *
+   * @param sourceIdentifier the identifier of the registered source world.
+   * @param targetIdentifier the identifier of the new world.
+   * @param player           the player initiating the clone.
+   */
+  public void cloneWorld(
+    final @NotNull String sourceIdentifier,
+    final @NotNull String targetIdentifier,
+    final @NotNull Player player
+  ) {
+    final MVWorld source = this.multiverse.getWorldRegistry().get(sourceIdentifier);
+    if (source == null) {
+      this.sendMessage(player, "multiverse.world_doesnt_exist", Map.of("world_name", sourceIdentifier));
+      return;
+    }
+
+    final Path targetFolder = Bukkit.getWorldContainer().toPath().resolve(targetIdentifier);
+    final String unavailableKey = this.worldManager.checkNewIdentifier(targetIdentifier);
+    if (unavailableKey != null) {
+      this.sendMessage(player, unavailableKey, Map.of("world_name", targetIdentifier));
+      return;
+    }
+
+    final World sourceWorld = Bukkit.getWorld(sourceIdentifier);
+    final Path sourceFolder = sourceWorld != null
+      ? sourceWorld.getWorldFolder().toPath()
+      : Bukkit.getWorldContainer().toPath().resolve(sourceIdentifier);
+    // Flushes the source's chunk writes to disk and keeps autosave off until the copy is done.
+    final Runnable release = this.multiverse.getWorldLifecycleManager().freeze(sourceIdentifier);
+
+    this.sendMessage(player, "multiverse.clone_started", Map.of(
+      "source_name", sourceIdentifier,
+      "world_name", targetIdentifier
+    ));
+
+    final long startNanos = System.nanoTime();
+    final AtomicLong copiedBytes = new AtomicLong();
+    final BukkitTask progressTask = Bukkit.getScheduler().runTaskTimer(
+      this.multiverse,
+      () -> this.sendMessage(player, "multiverse.clone_progress", Map.of(
+        "world_name", targetIdentifier,
+        "size", WorldFiles.formatSize(copiedBytes.get()),
+        "throughput", formatThroughput(copiedBytes.get(), System.nanoTime() - startNanos)
+      )),
+      PROGRESS_INTERVAL_TICKS,
+      PROGRESS_INTERVAL_TICKS
+    );
+
+    WorldFiles.copyTree(sourceFolder, targetFolder, WorldCloner::isClonedFile, this.multiverse.getExecutor(), copiedBytes::addAndGet)
+      .whenComplete((totalBytes, throwable) -> Bukkit.getScheduler().runTask(this.multiverse, () -> {
+        progressTask.cancel();
+        release.run();
+
+        if (throwable != null) {
+          this.worldManager.discardPreparedWorld(targetIdentifier, targetFolder, player, throwable);
+          return;
+        }
+
+        this.multiverse.getPlatformLogger().logInfo(
+          "Copied " + sourceIdentifier + " to " + targetIdentifier + " (" + WorldFiles.formatSize(totalBytes) + " in " +
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms)"
+        );
+        this.worldManager.createFromFolder(targetIdentifier, source.getEnvironment(), source.getType(), source.getGeneratorSettings(), source.getSpawnLocation())
+          .whenComplete((mvWorld, creationThrowable) -> {
+            if (creationThrowable != null) {
+              this.worldManager.discardPreparedWorld(targetIdentifier, targetFolder, player, creationThrowable);
+              return;
+            }
+
+            final long elapsedNanos = System.nanoTime() - startNanos;
+            this.sendMessage(player, "multiverse.clone_finished", Map.of(
+              "source_name", sourceIdentifier,
+              "world_name", targetIdentifier,
+              "size", WorldFiles.formatSize(totalBytes),
+              "duration", TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms",
+              "throughput", formatThroughput(totalBytes, elapsedNanos)
+            ));
+          });
+      }));
+  }
+
+  static boolean isClonedFile(final Path relativePath) {
+    return !EXCLUDED_FILES.contains(relativePath.getFileName().toString());
+  }
+
+  static String formatThroughput(final long bytes, final long elapsedNanos) {
+    final long elapsedMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    return WorldFiles.formatSize(bytes * 1000L / elapsedMillis) + "/s";
+  }
+
+  private void sendMessage(final Player player, final String key, final Map<String, Object> placeholders) {
+    new I18n.Builder(key, player)
+      .includingPrefix()
+      .withPlaceholders(placeholders)
+      .build()
+      .send();
+  }
+}
@@ -0,0 +1,178 @@
+package de.jexcellence.multiverse.utility;
+
+import de.jexcellence.je18n.i18n.I18n;
+import de.jexcellence.multiverse.Multiverse;
+import de.jexcellence.multiverse.database.entity.MVWorld;
+import de.jexcellence.multiverse.jfr.WorldPhaseEvent;
+import de.jexcellence.multiverse.type.MVWorldType;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Deletes worlds without blocking the main thread.
+ * <p>
+ * The world is unloaded and its folder is atomically renamed into the trash directory on the main thread, which
+ * only costs a single rename. The file tree is then deleted in parallel on the executor while the database row is
+ * removed through the repository. Folders left in the trash by a crash are deleted by {@link #cleanTrash()} on startup.
+ * </p>
+ * <p>
+ * The unload, the file deletion and the row deletion are each recorded as a {@link WorldPhaseEvent}.
+ * </p>
+ */
+public class WorldDeletionPipeline {
+
+  private final Multiverse multiverse;
+
+  /**
+   * Constructs a new WorldDeletionPipeline.
+   *
+   * @param multiverse the Multiverse plugin instance.
+   */
+  public WorldDeletionPipeline(final @NotNull Multiverse multiverse) {
+    this.multiverse = multiverse;
+  }
+
+  /**
+   * Deletes the specified world if it exists and is not populated by players. Must be called on the main thread.
+   *
+   * @param identifier the unique identifier of the world to delete.
+   * @param player     the player who initiated the deletion.
+   */
+  public void delete(final @NotNull String identifier, final @NotNull Player player) {
+    final World world = Bukkit.getWorld(identifier);
+    if (world == null) {
+      this.sendMessage(player, "multiverse.world_doesnt_exist", Map.of("world_name", identifier));
+      return;
+    }
+    this.sendMessage(player, "multiverse.deleting_world", Map.of("world_name", identifier));
+    if (!world.getEntitiesByClass(Player.class).isEmpty()) {
+      this.sendMessage(player, "multiverse.world_contains_players", Map.of("world_name", identifier));
+      return;
+    }
+
+    final long startNanos = System.nanoTime();
+    final WorldPhaseEvent unloadEvent = new WorldPhaseEvent();
+    unloadEvent.begin();
+    final Path worldFolder = world.getWorldFolder().toPath();
+    if (!Bukkit.unloadWorld(world, false)) {
+      this.multiverse.getPlatformLogger().logDebug("Failed to unload world: " + identifier);
+      this.sendMessage(player, "multiverse.failed_to_delete_world", Map.of("world_name", identifier));
+      return;
+    }
+    final MVWorld unregistered = this.multiverse.getWorldRegistry().unregister(identifier);
+    final MVWorldType type = unregistered == null ? null : unregistered.getType();
+
+    Path trashFolder;
+    try {
+      trashFolder = WorldFiles.moveToTrash(worldFolder);
+    } catch (final IOException exception) {
+      this.multiverse.getPlatformLogger().logDebug("Failed to move world folder to the trash, deleting in place: " + worldFolder, exception);
+      trashFolder = worldFolder;
+    }
+
+    unloadEvent.end(identifier, type, WorldPhaseEvent.DELETE, "unload");
+
+    final Path deletedFolder = trashFolder;
+    final WorldPhaseEvent fileEvent = new WorldPhaseEvent();
+    fileEvent.begin();
+    final CompletableFuture<Long> fileDeletion = WorldFiles.deleteTree(deletedFolder, this.multiverse.getExecutor());
+    fileDeletion.thenRun(() -> fileEvent.end(identifier, type, WorldPhaseEvent.DELETE, "deleteFiles"));
+    final CompletableFuture<Boolean> rowDeletion = this.multiverse.getMvWorldRepository().findByIdentifierAsync(identifier)
+      .thenApplyAsync(mvWorld -> {
+        final WorldPhaseEvent rowEvent = new WorldPhaseEvent();
+        rowEvent.begin();
+        final boolean deleted = this.deleteRow(mvWorld);
+        rowEvent.end(identifier, type, WorldPhaseEvent.DELETE, "deleteRow");
+        return deleted;
+      }, this.multiverse.getExecutor());
+
+    CompletableFuture.allOf(fileDeletion, rowDeletion).whenComplete((ignored, throwable) -> {
+      this.multiverse.getMetrics().timer("world.delete").recordSince(startNanos);
+      if (throwable != null)
+        this.multiverse.getMetrics().counter("world.delete.errors").increment();
+    });
+    fileDeletion.whenComplete((reclaimedBytes, throwable) -> {
+      if (throwable != null) {
+        this.multiverse.getPlatformLogger().logDebug("Failed to delete world folder: " + deletedFolder, throwable);
+        this.sendMessage(player, "multiverse.failed_to_delete_world", Map.of("world_name", identifier));
+        return;
+      }
+
+      final long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+      this.multiverse.getPlatformLogger().logInfo(
+        "Deleted world " + identifier + " in " + durationMillis + " ms, reclaimed " + WorldFiles.formatSize(reclaimedBytes)
+      );
+
+      rowDeletion.whenComplete((deleted, rowThrowable) -> {
+        if (rowThrowable != null || !deleted) {
+          if (rowThrowable != null)
+            this.multiverse.getPlatformLogger().logDebug("Failed to delete world row: " + identifier, rowThrowable);
+          this.sendMessage(player, "multiverse.failed_to_delete_world_in_database", Map.of("world_name", identifier));
+          return;
+        }
+
+        this.sendMessage(player, "multiverse.world_deleted", Map.of(
+          "world_name", identifier,
+          "reclaimed_size", WorldFiles.formatSize(reclaimedBytes),
+          "delete_time", durationMillis
+        ));
+      });
+    });
+  }
+
+  /**
+   * Deletes all folders left in the trash directory, e.g. after a crash during a deletion.
+   */
+  public void cleanTrash() {
+    final Path trashDirectory = WorldFiles.getTrashDirectory();
+    if (!Files.isDirectory(trashDirectory))
+      return;
+
+    final List<Path> leftovers;
+    try (Stream<Path> children = Files.list(trashDirectory)) {
+      leftovers = children.toList();
+    } catch (final IOException exception) {
+      this.multiverse.getPlatformLogger().logDebug("Failed to list the world trash: " + trashDirectory, exception);
+      return;
+    }
+
+    for (Path leftover : leftovers)
+      WorldFiles.deleteTree(leftover, this.multiverse.getExecutor())
+        .whenComplete((reclaimedBytes, throwable) -> {
+          if (throwable != null)
+            this.multiverse.getPlatformLogger().logDebug("Failed to clean world trash: " + leftover, throwable);
+          else
+            this.multiverse.getPlatformLogger().logInfo("Cleaned leftover world trash " + leftover.getFileName() + ", reclaimed " + WorldFiles.formatSize(reclaimedBytes));
+        });
+  }
+
+  private boolean deleteRow(final MVWorld mvWorld) {
+    if (mvWorld == null)
+      return false;
+
+    this.multiverse.getMvWorldRepository().delete(mvWorld.getId());
+    return true;
+  }
+
+  private void sendMessage(final @NotNull Player player, final @NotNull String key, final @NotNull Map<String, Object> placeholders) {
+    if (!player.isOnline())
+      return;
+
+    new I18n.Builder(key, player)
+      .includingPrefix()
+      .withPlaceholders(placeholders)
+      .build()
+      .send();
+  }
+}
@@ -0,0 +1,226 @@
+package de.jexcellence.multiverse.utility;
+
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+
+/**
+ * File system operations on world folders that are too expensive for the main thread.
+ */
+public final class WorldFiles {
+
+  /**
+   * The name of the trash directory inside the world container.
+   */
+  public static final String TRASH_DIRECTORY = ".multiverse-trash";
+
+  private static final int FILE_CHUNK_SIZE = 64;
+
+  private WorldFiles() {}
+
+  /**
+   * Retrieves the trash directory, which lives in the world container so moves into it stay on one file system.
+   *
+   * @return the path of the trash directory.
+   */
+  public static @NotNull Path getTrashDirectory() {
+    return Bukkit.getWorldContainer().toPath().resolve(TRASH_DIRECTORY);
+  }
+
+  /**
+   * Atomically moves a world folder into the trash directory under a unique name.
+   *
+   * @param folder the world folder to move.
+   * @return the path of the folder inside the trash directory.
+   * @throws IOException if the folder cannot be moved atomically.
+   */
+  public static @NotNull Path moveToTrash(final @NotNull Path folder) throws IOException {
+    final Path trashDirectory = getTrashDirectory();
+    Files.createDirectories(trashDirectory);
+
+    final Path target = trashDirectory.resolve(folder.getFileName() + "-" + System.currentTimeMillis());
+    return Files.move(folder, target, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Deletes a file tree in the background. Files are deleted in parallel chunks on the executor, directories
+   * are removed afterwards from the deepest level up. No executor thread ever blocks on another task.
+   *
+   * @param root     the root of the tree to delete.
+   * @param executor the executor running the deletion.
+   * @return a future completing with the number of reclaimed bytes.
+   */
+  public static @NotNull CompletableFuture<Long> deleteTree(
+    final @NotNull Path root,
+    final @NotNull Executor executor
+  ) {
+    return CompletableFuture.supplyAsync(() -> scan(root), executor)
+      .thenCompose(tree -> {
+        final List<CompletableFuture<Void>> deletions = new ArrayList<>();
+        for (int fromIndex = 0; fromIndex < tree.files().size(); fromIndex += FILE_CHUNK_SIZE) {
+          final List<Path> chunk = tree.files().subList(fromIndex, Math.min(fromIndex + FILE_CHUNK_SIZE, tree.files().size()));
+          deletions.add(CompletableFuture.runAsync(() -> chunk.forEach(WorldFiles::delete), executor));
+        }
+
+        return CompletableFuture.allOf(deletions.toArray(CompletableFuture[]::new))
+          .thenApplyAsync(ignored -> {
+            tree.directories().forEach(WorldFiles::delete);
+            return tree.bytes();
+          }, executor);
+      });
+  }
+
+  /**
+   * Copies a file tree in the background. Only the directories of copied files are created, up front; files are
+   * copied in parallel chunks on the executor. Copies go through {@link Files#copy}, which lets the JDK use in-kernel
+   * copying where available. Hardlinks are deliberately not used: the server rewrites region files in place, so a
+   * linked file would let one world write into another.
+   *
+   * @param source   the root of the tree to copy.
+   * @param target   the root of the copy, which may already exist.
+   * @param filter   decides by the path relative to {@code source} whether a file is copied.
+   * @param executor the executor running the copy.
+   * @return a future completing with the number of copied bytes.
+   */
+  public static @NotNull CompletableFuture<Long> copyTree(
+    final @NotNull Path source,
+    final @NotNull Path target,
+    final @NotNull Predicate<Path> filter,
+    final @NotNull Executor executor
+  ) {
+    return copyTree(source, target, filter, executor, copiedBytes -> {});
+  }
+
+  /**
+   * Copies a file tree in the background like {@link #copyTree(Path, Path, Predicate, Executor)}, reporting the size
+   * of every copied file.
+   *
+   * @param source   the root of the tree to copy.
+   * @param target   the root of the copy, which may already exist.
+   * @param filter   decides by the path relative to {@code source} whether a file is copied.
+   * @param executor the executor running the copy.
+   * @param progress receives the size of each copied file, from the executor threads.
+   * @return a future completing with the number of copied bytes.
+   */
+  public static @NotNull CompletableFuture<Long> copyTree(
+    final @NotNull Path source,
+    final @NotNull Path target,
+    final @NotNull Predicate<Path> filter,
+    final @NotNull Executor executor,
+    final @NotNull LongConsumer progress
+  ) {
+    return CompletableFuture.supplyAsync(() -> {
+        final Tree tree = scan(source, filter);
+        try {
+          for (Path directory : tree.files().stream().map(file -> target.resolve(source.relativize(file)).getParent()).distinct().toList())
+            Files.createDirectories(directory);
+        } catch (final IOException exception) {
+          throw new UncheckedIOException(exception);
+        }
+        return tree;
+      }, executor)
+      .thenCompose(tree -> {
+        final List<CompletableFuture<Void>> copies = new ArrayList<>();
+        for (int fromIndex = 0; fromIndex < tree.files().size(); fromIndex += FILE_CHUNK_SIZE) {
+          final List<Path> chunk = tree.files().subList(fromIndex, Math.min(fromIndex + FILE_CHUNK_SIZE, tree.files().size()));
+          copies.add(CompletableFuture.runAsync(
+            () -> chunk.forEach(file -> progress.accept(copy(file, target.resolve(source.relativize(file))))),
+            executor
+          ));
+        }
+
+        return CompletableFuture.allOf(copies.toArray(CompletableFuture[]::new)).thenApply(ignored -> tree.bytes());
+      });
+  }
+
+  /**
+   * Formats a byte count for players, e.g. {@code 12.3 MB}.
+   *
+   * @param bytes the byte count.
+   * @return the human readable size.
+   */
+  public static @NotNull String formatSize(final long bytes) {
+    if (bytes < 1024)
+      return bytes + " B";
+
+    final int exponent = (63 - Long.numberOfLeadingZeros(bytes)) / 10;
+    return String.format(Locale.ROOT, "%.1f %sB", bytes / (double) (1L << (exponent * 10)), "KMGTPE".charAt(exponent - 1));
+  }
+
+  private static Tree scan(final Path root) {
+    return scan(root, path -> true);
+  }
+
+  private static Tree scan(final Path root, final Predicate<Path> filter) {
+    final List<Path> files = new ArrayList<>();
+    final List<Path> directories = new ArrayList<>();
+    final long[] bytes = new long[1];
+
+    try {
+      Files.walkFileTree(root, new SimpleFileVisitor<>() {
+        @Override
+        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+          if (!filter.test(root.relativize(file)))
+            return FileVisitResult.CONTINUE;
+
+          files.add(file);
+          bytes[0] += attributes.size();
+          return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(final Path directory, final IOException exception) throws IOException {
+          if (exception != null)
+            throw exception;
+          directories.add(directory);
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+
+    return new Tree(files, directories, bytes[0]);
+  }
+
+  private static long copy(final Path source, final Path target) {
+    try {
+      Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+      return Files.size(target);
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  private static void delete(final Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  /**
+   * The result of a scan, with directories in post order so children precede their parents.
+   */
+  private record Tree(
+    List<Path> files,
+    List<Path> directories,
+    long bytes
+  ) {}
+}
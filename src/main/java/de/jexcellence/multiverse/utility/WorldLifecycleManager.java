@@ -0,0 +1,318 @@
+package de.jexcellence.multiverse.utility;
+
+import de.jexcellence.multiverse.Multiverse;
+import de.jexcellence.multiverse.database.entity.MVWorld;
+import de.jexcellence.multiverse.type.WorldLifecycleMode;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Loads registered worlds on demand and unloads idle ones in {@link WorldLifecycleMode#LAZY} mode.
+ * <p>
+ * {@link #ensureLoaded(MVWorld)} is the single entry point for everything that needs a world to be present, such as
+ * teleports and API requests; concurrent requests for the same world share one load. In lazy mode a repeating task
+ * saves and unloads every registered world that has been without players for the configured time, except the
+ * global spawn world, worlds being pre-generated or having plots reset and {@link #freeze(String) frozen} worlds. In eager mode worlds are
+ * still loaded on demand, but never unloaded.
+ * </p>
+ */
+public class WorldLifecycleManager {
+
+  /**
+   * The number of chunks kept loaded around a world spawn with the default spawn chunk radius of 2.
+   */
+  private static final int SPAWN_CHUNK_COUNT = 25;
+
+  private final Multiverse multiverse;
+  private final WorldManager worldManager;
+  private final Map<String, CompletableFuture<World>> pendingLoads = new ConcurrentHashMap<>();
+  private final Map<String, Integer> unloadedChunkCounts = new ConcurrentHashMap<>();
+  private final Map<String, Long> idleSince = new HashMap<>();
+  private final Set<String> frozenWorlds = ConcurrentHashMap.newKeySet();
+
+  private final LongAdder lazyLoads = new LongAdder();
+  private final LongAdder idleUnloads = new LongAdder();
+
+  private BukkitTask idleTask;
+
+  /**
+   * Constructs a new WorldLifecycleManager.
+   *
+   * @param multiverse   the Multiverse plugin instance.
+   * @param worldManager the world manager used to create the worlds.
+   */
+  public WorldLifecycleManager(
+    final @NotNull Multiverse multiverse,
+    final @NotNull WorldManager worldManager
+  ) {
+    this.multiverse = multiverse;
+    this.worldManager = worldManager;
+  }
+
+  /**
+   * Starts the idle unload task if the lazy mode is configured.
+   */
+  public void start() {
+    if (this.multiverse.getMultiverseConfig().getWorldLifecycleMode() != WorldLifecycleMode.LAZY)
+      return;
+
+    final long intervalTicks = this.multiverse.getMultiverseConfig().getIdleCheckIntervalSeconds() * 20L;
+    this.idleTask = Bukkit.getScheduler().runTaskTimer(this.multiverse, this::unloadIdleWorlds, intervalTicks, intervalTicks);
+  }
+
+  /**
+   * Stops the idle unload task.
+   */
+  public void stop() {
+    if (this.idleTask != null)
+      this.idleTask.cancel();
+  }
+
+  /**
+   * Ensures the given world is loaded, loading it on the main thread if necessary. May be called from any thread.
+   *
+   * @param mvWorld the world to load.
+   * @return a future completing with the loaded world, or exceptionally if it could not be loaded.
+   */
+  public @NotNull CompletableFuture<World> ensureLoaded(final @NotNull MVWorld mvWorld) {
+    final World world = Bukkit.getWorld(mvWorld.getIdentifier());
+    if (world != null)
+      return CompletableFuture.completedFuture(world);
+
+    final CompletableFuture<World> load = new CompletableFuture<>();
+    final CompletableFuture<World> pendingLoad = this.pendingLoads.putIfAbsent(mvWorld.getIdentifier(), load);
+    if (pendingLoad != null)
+      return pendingLoad;
+
+    if (Bukkit.isPrimaryThread())
+      this.load(mvWorld, load);
+    else
+      Bukkit.getScheduler().runTask(this.multiverse, () -> this.load(mvWorld, load));
+    return load;
+  }
+
+  /**
+   * Keeps the files of the given world consistent while they are read in the background, e.g. for a copy or a backup.
+   * A loaded world is saved with a {@link #saveAndFlush(World) flush} and its autosave is suspended, and the world is
+   * not unloaded for being idle until the returned release is run. Must be called on the main thread.
+   *
+   * @param identifier the world identifier.
+   * @return the release, which must be run on the main thread once the files have been read.
+   */
+  public @NotNull Runnable freeze(final @NotNull String identifier) {
+    final World world = Bukkit.getWorld(identifier);
+    final boolean autoSave = world != null && world.isAutoSave();
+    if (world != null) {
+      this.saveAndFlush(world);
+      world.setAutoSave(false);
+    }
+    this.frozenWorlds.add(identifier);
+
+    return () -> {
+      this.frozenWorlds.remove(identifier);
+      final World loadedWorld = Bukkit.getWorld(identifier);
+      if (loadedWorld != null && autoSave)
+        loadedWorld.setAutoSave(true);
+    };
+  }
+
+  /**
+   * Saves the given world and waits until all of its chunk writes have reached the region files.
+   * <p>
+   * {@link World#save()} only queues the chunks for Paper's asynchronous region file I/O, so files read right after it
+   * may still be half-written. The public API has no flushing save of a single world, so the server level's
+   * {@code save(ProgressListener, boolean flush, boolean skipSave)} is called reflectively with {@code flush}, which
+   * blocks only for the chunks of this world. If that method is not available, the world is saved without a flush,
+   * unless {@code world-lifecycle.server-wide-flush-fallback} is enabled: then {@code save-all flush} saves and flushes
+   * every world of the server, which stalls the main thread for all of them. Must be called on the main thread.
+   * </p>
+   *
+   * @param world the world to save.
+   */
+  public void saveAndFlush(final @NotNull World world) {
+    if (this.saveLevel(world))
+      return;
+
+    if (!this.multiverse.getMultiverseConfig().isServerWideFlushFallback()) {
+      world.save();
+      this.multiverse.getPlatformLogger().logDebug(
+        "Saved " + world.getName() + " without a flush, its region files may still be written while they are read"
+      );
+      return;
+    }
+
+    // Worlds without autosave are skipped by save-all
+    final boolean autoSave = world.isAutoSave();
+    world.setAutoSave(true);
+    world.save();
+    Bukkit.dispatchCommand(Bukkit.getConsoleSender(), "save-all flush");
+    world.setAutoSave(autoSave);
+  }
+
+  /**
+   * Calls the flushing save of the server level behind the given world.
+   *
+   * @param world the world to save.
+   * @return whether the level was saved and flushed.
+   */
+  private boolean saveLevel(final World world) {
+    try {
+      final Object level = world.getClass().getMethod("getHandle").invoke(world);
+      for (Method method : level.getClass().getMethods()) {
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        if (!method.getName().equals("save") || parameterTypes.length != 3 ||
+          parameterTypes[1] != boolean.class || parameterTypes[2] != boolean.class)
+          continue;
+
+        method.invoke(level, null, true, false);
+        return true;
+      }
+    } catch (final ReflectiveOperationException | RuntimeException exception) {
+      this.multiverse.getPlatformLogger().logDebug("Failed to flush world " + world.getName(), exception);
+    }
+    return false;
+  }
+
+  /**
+   * Ensures the given world is loaded and resolves its spawn location bound to the loaded world.
+   *
+   * @param mvWorld the world whose spawn is requested.
+   * @return a future completing with the spawn location.
+   */
+  public @NotNull CompletableFuture<Location> resolveSpawn(final @NotNull MVWorld mvWorld) {
+    return this.ensureLoaded(mvWorld).thenApply(world -> {
+      final Location spawnLocation = mvWorld.getSpawnLocation();
+      if (spawnLocation == null)
+        return world.getSpawnLocation();
+
+      final Location boundLocation = spawnLocation.clone();
+      boundLocation.setWorld(world);
+      return boundLocation;
+    });
+  }
+
+  /**
+   * Retrieves the lifecycle statistics.
+   *
+   * @return a snapshot of the current {@link Statistics}.
+   */
+  public @NotNull Statistics getStatistics() {
+    final WorldRegistry.Snapshot snapshot = this.multiverse.getWorldRegistry().snapshot();
+    final long chunkBytes = this.multiverse.getMultiverseConfig().getEstimatedChunkBytes();
+
+    long savedChunks = 0L;
+    for (MVWorld mvWorld : snapshot.getAll())
+      if (!snapshot.isLoaded(mvWorld.getIdentifier()))
+        savedChunks += this.unloadedChunkCounts.getOrDefault(mvWorld.getIdentifier(), SPAWN_CHUNK_COUNT);
+
+    return new Statistics(
+      this.multiverse.getMultiverseConfig().getWorldLifecycleMode(),
+      snapshot.size(),
+      snapshot.getLoaded().size(),
+      this.lazyLoads.sum(),
+      this.idleUnloads.sum(),
+      savedChunks * chunkBytes
+    );
+  }
+
+  private void load(final MVWorld mvWorld, final CompletableFuture<World> load) {
+    try {
+      final World world = this.worldManager.loadWorld(mvWorld);
+      if (world == null) {
+        load.completeExceptionally(new IllegalStateException("World " + mvWorld.getIdentifier() + " could not be loaded"));
+        return;
+      }
+
+      this.unloadedChunkCounts.remove(mvWorld.getIdentifier());
+      this.lazyLoads.increment();
+      load.complete(world);
+    } finally {
+      this.pendingLoads.remove(mvWorld.getIdentifier(), load);
+    }
+  }
+
+  /**
+   * Saves and unloads every registered world that has been without players for the configured time.
+   */
+  private void unloadIdleWorlds() {
+    final long now = System.currentTimeMillis();
+    final long idleMillis = TimeUnit.SECONDS.toMillis(this.multiverse.getMultiverseConfig().getIdleUnloadSeconds());
+    final String globalSpawnIdentifier = this.multiverse.getSpawnIndex().getGlobalSpawnIdentifier();
+    int unloaded = 0;
+
+    for (MVWorld mvWorld : this.multiverse.getWorldRegistry().snapshot().getLoaded()) {
+      final String identifier = mvWorld.getIdentifier();
+      final World world = Bukkit.getWorld(identifier);
+      if (world == null || identifier.equals(globalSpawnIdentifier))
+        continue;
+
+      if (
+        !world.getPlayers().isEmpty() ||
+          this.pendingLoads.containsKey(identifier) ||
+          this.frozenWorlds.contains(identifier) ||
+          this.multiverse.getChunkPregenerator().isRunning(identifier) ||
+          this.multiverse.getPlotResetEngine().isRunning(identifier)
+      ) {
+        this.idleSince.remove(identifier);
+        continue;
+      }
+
+      final long emptySince = this.idleSince.computeIfAbsent(identifier, key -> now);
+      if (now - emptySince < idleMillis)
+        continue;
+
+      final int chunkCount = world.getChunkCount();
+      if (!Bukkit.unloadWorld(world, true)) {
+        this.multiverse.getPlatformLogger().logDebug("Failed to unload idle world: " + identifier);
+        continue;
+      }
+
+      this.idleSince.remove(identifier);
+      this.unloadedChunkCounts.put(identifier, Math.max(chunkCount, SPAWN_CHUNK_COUNT));
+      this.idleUnloads.increment();
+      unloaded++;
+      this.multiverse.getPlatformLogger().logDebug("Unloaded idle world " + identifier + " with " + chunkCount + " chunks");
+    }
+
+    this.idleSince.keySet().removeIf(identifier -> !this.multiverse.getWorldRegistry().isLoaded(identifier));
+
+    if (unloaded > 0) {
+      final Statistics statistics = this.getStatistics();
+      this.multiverse.getPlatformLogger().logInfo(
+        "Unloaded " + unloaded + " idle worlds, " + statistics.residentWorlds() + "/" + statistics.registeredWorlds() +
+          " worlds resident, ~" + WorldFiles.formatSize(statistics.estimatedHeapSavedBytes()) + " heap saved"
+      );
+    }
+  }
+
+  /**
+   * Statistics of the world lifecycle.
+   *
+   * @param mode                     the configured lifecycle mode.
+   * @param registeredWorlds         the number of registered worlds.
+   * @param residentWorlds           the number of registered worlds that are loaded.
+   * @param lazyLoads                the number of worlds loaded on demand.
+   * @param idleUnloads              the number of worlds unloaded for being idle.
+   * @param estimatedHeapSavedBytes  the estimated heap not held by unloaded worlds, based on their last chunk counts.
+   */
+  public record Statistics(
+    WorldLifecycleMode mode,
+    int registeredWorlds,
+    int residentWorlds,
+    long lazyLoads,
+    long idleUnloads,
+    long estimatedHeapSavedBytes
+  ) {}
+}
@@ -0,0 +1,226 @@
+package de.jexcellence.multiverse.utility;
+
+import de.jexcellence.multiverse.Multiverse;
+import de.jexcellence.multiverse.database.entity.MVWorld;
+import de.jexcellence.multiverse.type.WorldLifecycleMode;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Streams every {@link MVWorld} record from the database and creates the corresponding worlds on the main thread.
+ * <p>
+ * The global spawn world is looked up and created on the main thread before anything else, so it is available no
+ * matter on which page its record is. The other records are then fetched page by page on the executor and fed into a
+ * priority queue. A repeating main-thread task drains the queue within the configured per-tick time budget, creating
+ * the worlds that were played most recently first, which serves as the demand estimate.
+ * </p>
+ * <p>
+ * In {@link WorldLifecycleMode#LAZY} mode only the global spawn world is created; all other records are registered
+ * as unloaded and loaded on first use by the {@link WorldLifecycleManager}.
+ * </p>
+ */
+public class WorldLoader {
+
+  private static final int PROGRESS_LOG_INTERVAL = 25;
+
+  private static final Comparator<QueuedWorld> LOAD_ORDER = Comparator.comparingLong(QueuedWorld::lastPlayed).reversed();
+
+  private final Multiverse multiverse;
+  private final WorldManager worldManager;
+  private final PriorityBlockingQueue<QueuedWorld> queue = new PriorityBlockingQueue<>(64, LOAD_ORDER);
+
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicInteger skipped = new AtomicInteger();
+  private final AtomicInteger deferred = new AtomicInteger();
+  private int loaded;
+  private int failed;
+
+  private volatile String globalSpawnIdentifier;
+  private volatile boolean streamingComplete;
+  private long startNanos;
+  private BukkitTask task;
+
+  /**
+   * Constructs a new WorldLoader.
+   *
+   * @param multiverse   the Multiverse plugin instance.
+   * @param worldManager the world manager used to create the individual worlds.
+   */
+  public WorldLoader(
+    final @NotNull Multiverse multiverse,
+    final @NotNull WorldManager worldManager
+  ) {
+    this.multiverse = multiverse;
+    this.worldManager = worldManager;
+  }
+
+  /**
+   * Creates the global spawn world, then starts streaming the other world records and the main-thread creation task.
+   */
+  public void start() {
+    this.startNanos = System.nanoTime();
+    this.multiverse.getPlatformLogger().logInfo("Loading existing worlds...");
+
+    this.multiverse.getMvWorldRepository().findByGlobalSpawnAsync()
+      .exceptionally(throwable -> {
+        this.multiverse.getPlatformLogger().logDebug("Failed to find the global spawn world", throwable);
+        return null;
+      })
+      .thenAcceptAsync(globalSpawn -> {
+        if (globalSpawn != null)
+          this.loadGlobalSpawn(globalSpawn);
+        this.task = Bukkit.getScheduler().runTaskTimer(this.multiverse, this::tick, 1L, 1L);
+        this.fetchPage(0);
+      }, runnable -> Bukkit.getScheduler().runTask(this.multiverse, runnable));
+  }
+
+  /**
+   * Creates the global spawn world right away, outside of the per-tick budget, and excludes it from the paged records.
+   *
+   * @param mvWorld the global spawn world record.
+   */
+  private void loadGlobalSpawn(final @NotNull MVWorld mvWorld) {
+    if (!WorldManager.WORLD_IDENTIFIER_PATTERN.matcher(mvWorld.getIdentifier()).matches())
+      return;
+
+    this.globalSpawnIdentifier = mvWorld.getIdentifier();
+    this.queued.incrementAndGet();
+    if (this.worldManager.loadWorld(mvWorld) != null)
+      this.loaded++;
+    else
+      this.failed++;
+    this.multiverse.getPlatformLogger().logDebug("Loaded global spawn world " + mvWorld.getIdentifier() + " before the other worlds");
+  }
+
+  /**
+   * Fetches a single page of world records and schedules the next page until a partial page is returned.
+   *
+   * @param pageNumber the zero-based page number.
+   */
+  private void fetchPage(final int pageNumber) {
+    final int pageSize = this.multiverse.getMultiverseConfig().getWorldLoadPageSize();
+
+    this.multiverse.getMvWorldRepository().findAllAsync(pageNumber, pageSize)
+      .thenAcceptAsync(page -> {
+        final List<MVWorld> deferredWorlds = new ArrayList<>();
+        page.forEach(mvWorld -> this.enqueue(mvWorld, deferredWorlds));
+        this.registerDeferred(deferredWorlds);
+        this.multiverse.getPlatformLogger().logDebug(
+          "Fetched world page " + pageNumber + " with " + page.size() + " records (" + this.queued.get() + " queued)"
+        );
+
+        if (page.size() < pageSize)
+          this.streamingComplete = true;
+        else
+          this.fetchPage(pageNumber + 1);
+      }, this.multiverse.getExecutor())
+      .exceptionally(throwable -> {
+        this.multiverse.getPlatformLogger().logDebug("Failed to fetch world page " + pageNumber, throwable);
+        this.streamingComplete = true;
+        return null;
+      });
+  }
+
+  /**
+   * Validates a world record and adds it to the load queue, or to the deferred worlds in
+   * {@link WorldLifecycleMode#LAZY} mode.
+   *
+   * @param mvWorld        the world record.
+   * @param deferredWorlds the worlds of the current page that are only registered.
+   */
+  private void enqueue(final @NotNull MVWorld mvWorld, final @NotNull List<MVWorld> deferredWorlds) {
+    if (mvWorld.getIdentifier().equals(this.globalSpawnIdentifier))
+      return;
+
+    if (!WorldManager.WORLD_IDENTIFIER_PATTERN.matcher(mvWorld.getIdentifier()).matches()) {
+      this.multiverse.getPlatformLogger().logDebug("Skipping invalid world: " + mvWorld.getIdentifier());
+      this.skipped.incrementAndGet();
+      return;
+    }
+
+    if (!mvWorld.isGlobalizedSpawn() && this.multiverse.getMultiverseConfig().getWorldLifecycleMode() == WorldLifecycleMode.LAZY) {
+      deferredWorlds.add(mvWorld);
+      this.deferred.incrementAndGet();
+      return;
+    }
+
+    final File levelFile = new File(new File(Bukkit.getWorldContainer(), mvWorld.getIdentifier()), "level.dat");
+    this.queue.add(new QueuedWorld(mvWorld, levelFile.lastModified()));
+    this.queued.incrementAndGet();
+  }
+
+  /**
+   * Registers the deferred worlds of a page with one registry snapshot per loaded state.
+   *
+   * @param deferredWorlds the deferred worlds.
+   */
+  private void registerDeferred(final @NotNull List<MVWorld> deferredWorlds) {
+    final Map<Boolean, List<MVWorld>> worldsByLoaded = deferredWorlds.stream()
+      .collect(Collectors.partitioningBy(mvWorld -> Bukkit.getWorld(mvWorld.getIdentifier()) != null));
+    worldsByLoaded.forEach((loaded, mvWorlds) -> this.multiverse.getWorldRegistry().registerAll(mvWorlds, loaded));
+  }
+
+  /**
+   * Creates queued worlds until the tick budget is spent, finishing once streaming is complete and the queue is empty.
+   */
+  private void tick() {
+    final long deadline = System.nanoTime() + this.multiverse.getMultiverseConfig().getWorldLoadTickBudgetNanos();
+
+    QueuedWorld next;
+    while ((next = this.queue.poll()) != null) {
+      if (this.worldManager.loadWorld(next.mvWorld()) != null)
+        this.loaded++;
+      else
+        this.failed++;
+
+      final int processed = this.loaded + this.failed;
+      if (processed % PROGRESS_LOG_INTERVAL == 0)
+        this.multiverse.getPlatformLogger().logInfo("Loaded " + processed + "/" + this.queued.get() + " worlds...");
+
+      if (System.nanoTime() >= deadline)
+        break;
+    }
+
+    if (this.streamingComplete && this.queue.isEmpty())
+      this.finish();
+  }
+
+  /**
+   * Stops the creation task and reports the startup statistics.
+   */
+  private void finish() {
+    this.task.cancel();
+
+    if (this.queued.get() == 0 && this.skipped.get() == 0 && this.deferred.get() == 0) {
+      this.multiverse.getPlatformLogger().logInfo("No existing worlds found in database");
+      return;
+    }
+
+    this.multiverse.getPlatformLogger().logInfo(
+      "Loaded " + this.loaded + " worlds in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startNanos) + " ms" +
+        " (" + this.failed + " failed, " + this.skipped.get() + " skipped, " + this.deferred.get() + " deferred until first use)"
+    );
+  }
+
+  /**
+   * A world record waiting in the load queue.
+   *
+   * @param mvWorld    the world record.
+   * @param lastPlayed the last modification time of the world's level data, used as demand estimate.
+   */
+  private record QueuedWorld(
+    @NotNull MVWorld mvWorld,
+    long lastPlayed
+  ) {}
+}
@@ -2,36 +2,51 @@ package de.jexcellence.multiverse.utility;
 
 import de.jexcellence.je18n.i18n.I18n;
 import de.jexcellence.multiverse.Multiverse;
+import de.jexcellence.multiverse.config.MultiverseConfig;
 import de.jexcellence.multiverse.database.entity.MVWorld;
-import de.jexcellence.multiverse.generator.plotgenerator.PlotBiomeProvider;
+import de.jexcellence.multiverse.generator.biome.BiomeZoning;
+import de.jexcellence.multiverse.generator.biome.ZonedBiomeProvider;
+import de.jexcellence.multiverse.generator.flatgenerator.FlatChunkGenerator;
+import de.jexcellence.multiverse.generator.flatgenerator.FlatLayerPreset;
+import de.jexcellence.multiverse.generator.islandgenerator.IslandGridChunkGenerator;
+import de.jexcellence.multiverse.generator.islandgenerator.IslandGridSettings;
+import de.jexcellence.multiverse.generator.islandgenerator.IslandTemplate;
 import de.jexcellence.multiverse.generator.plotgenerator.PlotChunkGenerator;
-import de.jexcellence.multiverse.generator.voidgenerator.VoidBiomeProvider;
 import de.jexcellence.multiverse.generator.voidgenerator.VoidChunkGenerator;
+import de.jexcellence.multiverse.jfr.WorldPhaseEvent;
 import de.jexcellence.multiverse.type.MVWorldType;
+import de.jexcellence.multiverse.type.WorldLifecycleMode;
 import net.kyori.adventure.util.TriState;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.WorldCreator;
+import org.bukkit.block.Biome;
 import org.bukkit.entity.Player;
-import org.codehaus.plexus.util.FileUtils;
 import org.jetbrains.annotations.NotNull;
-import java.util.List;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
-import java.util.function.Function;
 
 /**
  * Manages world creation, deletion, loading, and teleportation operations for the Multiverse plugin.
  * <p>
  * This class handles asynchronous operations efficiently with proper thread management and provides
  * feedback to players via localized messages. It uses custom chunk generators and biome providers for different world types.
+ * World creation, loading and teleport resolution are timed in the plugin's
+ * {@link de.jexcellence.multiverse.metrics.MetricsRegistry}, and every phase of creating or loading a world is
+ * recorded as a {@link WorldPhaseEvent} for Flight Recorder.
  * </p>
  */
 public class WorldManager {
-  private static final Pattern WORLD_IDENTIFIER_PATTERN = Pattern.compile("^[a-zA-Z0-9/._-]+$");
-  private static final int WORLD_LOAD_BATCH_SIZE = 128;
+  static final Pattern WORLD_IDENTIFIER_PATTERN = Pattern.compile("^[a-zA-Z0-9/._-]+$");
 
   /**
    * Mapping for plot generator parameters. The materials represent the primary block, secondary block, and accent block respectively.
@@ -40,7 +55,15 @@ public class WorldManager {
     MVWorldType.PLOT, new Material[]{Material.STONE, Material.COBBLESTONE_SLAB, Material.IRON_BLOCK}
   );
 
+  private static final int PLOT_SIZE = 30;
+  private static final int PLOT_ROAD_WIDTH = 6;
+  private static final int PLOT_HEIGHT = 30;
+
+  private static final BiomeZoning DEFAULT_VOID_BIOME_ZONING = BiomeZoning.single(Biome.THE_VOID);
+  private static final BiomeZoning DEFAULT_PLOT_BIOME_ZONING = BiomeZoning.single(Biome.PLAINS);
+
   private final Multiverse multiverse;
+  private final WorldTemplates worldTemplates;
 
   /**
    * Constructs a new WorldManager with the specified Multiverse instance.
@@ -49,6 +72,7 @@ public class WorldManager {
    */
   public WorldManager(final @NotNull Multiverse multiverse) {
     this.multiverse = multiverse;
+    this.worldTemplates = new WorldTemplates(multiverse);
   }
 
   /**
@@ -56,7 +80,9 @@ public class WorldManager {
    *
    * @param identifier    the unique identifier/name for the world to be created.
    * @param environment   the environment of the world (e.g., NORMAL, NETHER, THE_END).
-   * @param type          the type of world to be created (e.g., VOID, PLOT, DEFAULT).
+   * @param type          the type of world to be created (e.g., VOID, PLOT, FLAT, DEFAULT).
+   * @param preset        the layer preset of a {@link MVWorldType#FLAT} world or the schematic or island grid settings
+   *                      of an {@link MVWorldType#ISLAND_GRID} world, or {@code null} for the configured default.
    * @param player        the player initiating the world creation.
    * @param forceCreation if true, forces world creation even if a world with the same identifier exists.
    */
@@ -64,65 +90,269 @@ public class WorldManager {
     final @NotNull String identifier,
     final @NotNull World.Environment environment,
     final @NotNull MVWorldType type,
+    final @Nullable String preset,
     final @NotNull Player player,
     final boolean forceCreation
   ) {
-    final World existingWorld = Bukkit.getWorld(identifier);
-    if (existingWorld != null && !forceCreation) {
+    final boolean exists = Bukkit.getWorld(identifier) != null || multiverse.getWorldRegistry().get(identifier) != null;
+    if (exists && !forceCreation) {
       sendPlayerMessage(player, "multiverse.world_already_exists", Map.of("world_name", identifier));
       return;
     }
 
+    final String generatorSettings = resolveGeneratorSettings(type, preset, player);
+    if (hasGeneratorSettings(type) && generatorSettings == null)
+      return;
+
     sendPlayerMessage(player, "multiverse.preparing_world", Map.of("world_name", identifier));
 
-    CompletableFuture.supplyAsync(() -> createWorldCreator(identifier, environment, type), multiverse.getExecutor())
-      .thenComposeAsync(this::createBukkitWorld, multiverse.getExecutor())
-      .whenCompleteAsync((world, throwable) -> handleWorldCreationResult(world, throwable, identifier, player, type, environment), multiverse.getExecutor());
+    multiverse.getMetrics().time("world.create", prepareWorld(identifier, environment, type, generatorSettings).thenCompose(worldCreator -> createBukkitWorld(worldCreator, type)))
+      .whenCompleteAsync((world, throwable) -> handleWorldCreationResult(world, throwable, identifier, player, type, environment, generatorSettings), multiverse.getExecutor());
+  }
+
+  /**
+   * Resolves the generator settings stored with a new world of the given type. For {@link MVWorldType#FLAT} worlds
+   * this is the normalized layer preset, for {@link MVWorldType#ISLAND_GRID} worlds either a bare schematic name or
+   * {@code schematic=<name>,spacing=<blocks>,y=<height>} with any entry left out, see
+   * {@link IslandGridSettings#parse(String, IslandGridSettings)}. Everything not given falls back to the configured
+   * default; other types have no settings.
+   *
+   * @param type   the world type.
+   * @param preset the requested layer preset, schematic or island grid settings, or {@code null}.
+   * @param player the player to notify if the preset or schematic is invalid.
+   * @return the settings, or {@code null} if the type has none or the preset or schematic is invalid.
+   */
+  @Nullable String resolveGeneratorSettings(
+    final @NotNull MVWorldType type,
+    final @Nullable String preset,
+    final @NotNull Player player
+  ) {
+    try {
+      return switch (type) {
+        case FLAT -> (preset == null ? multiverse.getMultiverseConfig().getFlatWorldDefaultPreset() : FlatLayerPreset.parse(preset)).serialize();
+        case ISLAND_GRID -> {
+          final IslandGridSettings defaults = multiverse.getMultiverseConfig().getIslandGridDefaults();
+          final IslandGridSettings settings = preset == null ? defaults : IslandGridSettings.parse(preset, defaults);
+          createIslandGridGenerator(settings);
+          yield settings.serialize();
+        }
+        case DEFAULT, VOID, PLOT -> null;
+      };
+    } catch (final IllegalArgumentException exception) {
+      sendPlayerMessage(player, type == MVWorldType.FLAT ? "multiverse.invalid_flat_preset" : "multiverse.invalid_island_schematic", Map.of(
+        "preset", String.valueOf(preset),
+        "exception", String.valueOf(exception.getMessage())
+      ));
+      return null;
+    }
+  }
+
+  /**
+   * Checks whether worlds of the given type store generator settings, see {@link MVWorld#getGeneratorSettings()}.
+   *
+   * @param type the world type.
+   * @return whether the type has generator settings.
+   */
+  static boolean hasGeneratorSettings(final @NotNull MVWorldType type) {
+    return type == MVWorldType.FLAT || type == MVWorldType.ISLAND_GRID;
+  }
+
+  /**
+   * Prepares the creation of a new world off the main thread: builds its {@link WorldCreator} and seeds the world
+   * folder from a matching template, see {@link WorldTemplates}.
+   *
+   * @param identifier        the world identifier.
+   * @param environment       the world environment.
+   * @param type              the world type.
+   * @param generatorSettings the generator settings of the world, see {@link MVWorld#getGeneratorSettings()}.
+   * @return a future completing with the configured {@link WorldCreator} once the world folder is prepared.
+   */
+  CompletableFuture<WorldCreator> prepareWorld(String identifier, World.Environment environment, MVWorldType type, @Nullable String generatorSettings) {
+    return CompletableFuture.supplyAsync(() -> {
+        final WorldPhaseEvent event = new WorldPhaseEvent();
+        event.begin();
+        final WorldCreator worldCreator = createWorldCreator(identifier, environment, type, generatorSettings);
+        event.end(identifier, type, WorldPhaseEvent.CREATE, "createWorldCreator");
+        return worldCreator;
+      }, multiverse.getCpuExecutor())
+      .thenCompose(worldCreator -> {
+        final WorldPhaseEvent event = new WorldPhaseEvent();
+        event.begin();
+        return worldTemplates.apply(identifier, environment, type, generatorSettings).thenApply(copiedBytes -> {
+          event.end(identifier, type, WorldPhaseEvent.CREATE, "applyTemplate");
+          return worldCreator;
+        });
+      });
   }
 
   /**
    * Creates a {@link WorldCreator} instance based on the world type.
+   * Spawn chunks are only kept loaded in {@link WorldLifecycleMode#EAGER} mode.
    *
-   * @param identifier  the world identifier.
-   * @param environment the world environment.
-   * @param type        the world type.
+   * @param identifier        the world identifier.
+   * @param environment       the world environment.
+   * @param type              the world type.
+   * @param generatorSettings the generator settings of the world, see {@link MVWorld#getGeneratorSettings()}.
    * @return a configured {@link WorldCreator} instance.
    */
-  private WorldCreator createWorldCreator(String identifier, World.Environment environment, MVWorldType type) {
+  WorldCreator createWorldCreator(String identifier, World.Environment environment, MVWorldType type, @Nullable String generatorSettings) {
+    final TriState keepSpawnLoaded = multiverse.getMultiverseConfig().getWorldLifecycleMode() == WorldLifecycleMode.LAZY
+      ? TriState.FALSE
+      : TriState.TRUE;
+
     return switch (type) {
       case VOID -> new WorldCreator(identifier)
         .environment(environment)
         .generator(new VoidChunkGenerator())
-        .biomeProvider(new VoidBiomeProvider())
-        .keepSpawnLoaded(TriState.TRUE);
+        .biomeProvider(ZonedBiomeProvider.of(getBiomeZoning(type, multiverse.getMultiverseConfig())))
+        .keepSpawnLoaded(keepSpawnLoaded);
       case PLOT -> {
         Material[] materials = PLOT_GENERATOR_PARAMS.get(type);
         yield new WorldCreator(identifier)
           .environment(environment)
-          .generator(new PlotChunkGenerator(30, 6, 30, materials[0], materials[1], materials[2]))
-          .biomeProvider(new PlotBiomeProvider())
-          .keepSpawnLoaded(TriState.TRUE);
+          .generator(new PlotChunkGenerator(PLOT_SIZE, PLOT_ROAD_WIDTH, PLOT_HEIGHT, materials[0], materials[1], materials[2]))
+          .biomeProvider(ZonedBiomeProvider.of(getBiomeZoning(type, multiverse.getMultiverseConfig())))
+          .keepSpawnLoaded(keepSpawnLoaded);
       }
+      case FLAT -> new WorldCreator(identifier)
+        .environment(environment)
+        .generator(new FlatChunkGenerator(getFlatPreset(generatorSettings), multiverse.getMetrics().timer("generator.flat.chunk")))
+        .biomeProvider(ZonedBiomeProvider.of(DEFAULT_PLOT_BIOME_ZONING))
+        .keepSpawnLoaded(keepSpawnLoaded);
+      case ISLAND_GRID -> new WorldCreator(identifier)
+        .environment(environment)
+        .generator(createIslandGridGenerator(generatorSettings == null
+          ? multiverse.getMultiverseConfig().getIslandGridDefaults()
+          : IslandGridSettings.parse(generatorSettings)))
+        .biomeProvider(ZonedBiomeProvider.of(DEFAULT_PLOT_BIOME_ZONING))
+        .keepSpawnLoaded(keepSpawnLoaded);
       case DEFAULT -> new WorldCreator(identifier)
         .environment(environment)
-        .keepSpawnLoaded(TriState.TRUE);
+        .keepSpawnLoaded(keepSpawnLoaded);
     };
   }
 
+  /**
+   * Describes the generator configuration of a world type, so that region files generated with one configuration are
+   * never reused for another.
+   *
+   * The configured biome zoning is included unless it is the built-in default, so existing templates stay valid.
+   *
+   * @param type              the world type.
+   * @param generatorSettings the generator settings of the world, see {@link MVWorld#getGeneratorSettings()}.
+   * @param config            the plugin configuration providing the biome zoning.
+   * @return the generator signature, or {@code null} if the terrain depends on the seed.
+   */
+  static @Nullable String getGeneratorSignature(
+    final @NotNull MVWorldType type,
+    final @Nullable String generatorSettings,
+    final @NotNull MultiverseConfig config
+  ) {
+    return switch (type) {
+      case VOID -> "void" + getBiomeZoningSignature(getBiomeZoning(type, config), DEFAULT_VOID_BIOME_ZONING);
+      case PLOT -> {
+        final Material[] materials = PLOT_GENERATOR_PARAMS.get(type);
+        yield "plot-" + PLOT_SIZE + "-" + PLOT_ROAD_WIDTH + "-" + PLOT_HEIGHT + "-" + materials[0] + "-" + materials[1] + "-" + materials[2] +
+          getBiomeZoningSignature(getBiomeZoning(type, config), DEFAULT_PLOT_BIOME_ZONING);
+      }
+      case FLAT -> "flat-" + generatorSettings;
+      case ISLAND_GRID -> "island_grid-" + generatorSettings;
+      case DEFAULT -> null;
+    };
+  }
+
+  /**
+   * Retrieves the configured biome zoning of a world type, with plot zones aligned to the plot grid.
+   *
+   * @param type   the world type, {@link MVWorldType#VOID} or {@link MVWorldType#PLOT}.
+   * @param config the plugin configuration.
+   * @return the biome zoning.
+   */
+  private static BiomeZoning getBiomeZoning(final MVWorldType type, final MultiverseConfig config) {
+    final BiomeZoning zoning = type == MVWorldType.VOID ? config.getVoidBiomeZoning() : config.getPlotBiomeZoning();
+    return zoning.withPlotPeriod(PLOT_SIZE + PLOT_ROAD_WIDTH);
+  }
+
+  private static String getBiomeZoningSignature(final BiomeZoning zoning, final BiomeZoning defaultZoning) {
+    return zoning.equals(defaultZoning) ? "" : "-" + zoning.signature();
+  }
+
+  /**
+   * Creates the generator of an island grid world, compiling its schematic on first use.
+   *
+   * @param settings the island grid settings.
+   * @return the generator.
+   * @throws IllegalArgumentException if the schematic cannot be loaded or is wider than the spacing.
+   */
+  private IslandGridChunkGenerator createIslandGridGenerator(final @NotNull IslandGridSettings settings) {
+    final IslandTemplate template = multiverse.getIslandSchematics().get(settings.schematic());
+    return new IslandGridChunkGenerator(
+      template, settings.spacing(), settings.islandY(), multiverse.getMetrics().timer("generator.island_grid.chunk")
+    );
+  }
+
+  /**
+   * Parses the stored layer preset of a flat world, falling back to the configured default for worlds without one.
+   *
+   * @param generatorSettings the stored generator settings.
+   * @return the layer preset.
+   */
+  private FlatLayerPreset getFlatPreset(final @Nullable String generatorSettings) {
+    return generatorSettings == null
+      ? multiverse.getMultiverseConfig().getFlatWorldDefaultPreset()
+      : FlatLayerPreset.parse(generatorSettings);
+  }
+
+  /**
+   * Saves the region files of the given world as the template for new worlds of its type and environment.
+   *
+   * @param world   the source world.
+   * @param mvWorld the record of the source world.
+   * @param player  the player initiating the save.
+   */
+  public void saveTemplate(final @NotNull World world, final @NotNull MVWorld mvWorld, final @NotNull Player player) {
+    if (getGeneratorSignature(mvWorld.getType(), mvWorld.getGeneratorSettings(), multiverse.getMultiverseConfig()) == null) {
+      sendPlayerMessage(player, "multiverse.template_unsupported", Map.of("world_type", mvWorld.getType()));
+      return;
+    }
+
+    final long startNanos = System.nanoTime();
+    worldTemplates.save(world, mvWorld.getType(), mvWorld.getGeneratorSettings()).whenComplete((copiedBytes, throwable) -> {
+      if (throwable != null) {
+        multiverse.getPlatformLogger().logDebug("Failed to save template of " + world.getName(), throwable);
+        sendPlayerMessage(player, "multiverse.template_failed", Map.of(
+          "world_name", world.getName(),
+          "exception", String.valueOf(throwable.getMessage())
+        ));
+        return;
+      }
+
+      sendPlayerMessage(player, "multiverse.template_saved", Map.of(
+        "world_name", world.getName(),
+        "world_type", mvWorld.getType(),
+        "size", WorldFiles.formatSize(copiedBytes),
+        "duration", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms"
+      ));
+    });
+  }
+
   /**
    * Creates a Bukkit world using the provided {@link WorldCreator} instance, scheduling the task on the main thread.
    *
    * @param worldCreator the {@link WorldCreator} instance that defines world creation parameters.
+   * @param type         the world type.
    * @return a {@link CompletableFuture} that resolves to the created {@link World} or completes exceptionally if an error occurs.
    */
-  private CompletableFuture<World> createBukkitWorld(WorldCreator worldCreator) {
+  private CompletableFuture<World> createBukkitWorld(WorldCreator worldCreator, MVWorldType type) {
     CompletableFuture<World> future = new CompletableFuture<>();
     Bukkit.getScheduler().runTask(multiverse, () -> {
       try {
+        final WorldPhaseEvent event = new WorldPhaseEvent();
+        event.begin();
         World world = worldCreator.createWorld();
         if (world == null) throw new IllegalStateException("World creation returned null");
-        // Set bedrock beneath the spawn location for a stable spawn area.
-        world.getSpawnLocation().clone().subtract(0, 1, 0).toCenterLocation().getBlock().setType(Material.BEDROCK);
+        placeSpawnPlatform(world);
+        event.end(worldCreator.name(), type, WorldPhaseEvent.CREATE, "createBukkitWorld");
         future.complete(world);
       } catch (Exception e) {
         future.completeExceptionally(e);
@@ -131,6 +361,151 @@ public class WorldManager {
     return future;
   }
 
+  /**
+   * Places bedrock beneath the spawn location of a freshly created world for a stable spawn area.
+   *
+   * @param world the created world.
+   */
+  static void placeSpawnPlatform(final @NotNull World world) {
+    world.getSpawnLocation().clone().subtract(0, 1, 0).toCenterLocation().getBlock().setType(Material.BEDROCK);
+  }
+
+  /**
+   * Creates many worlds of the same type and environment at once, see {@link BatchWorldCreator}.
+   *
+   * @param identifiers the identifiers of the worlds to create.
+   * @param environment the environment of all worlds.
+   * @param type        the type of all worlds.
+   * @param preset      the layer preset of {@link MVWorldType#FLAT} worlds or the schematic or island grid settings
+   *                    of {@link MVWorldType#ISLAND_GRID} worlds, or {@code null} for the configured default.
+   * @param player      the player initiating the batch.
+   */
+  public void createWorlds(
+    final @NotNull List<String> identifiers,
+    final @NotNull World.Environment environment,
+    final @NotNull MVWorldType type,
+    final @Nullable String preset,
+    final @NotNull Player player
+  ) {
+    final String generatorSettings = resolveGeneratorSettings(type, preset, player);
+    if (hasGeneratorSettings(type) && generatorSettings == null)
+      return;
+
+    new BatchWorldCreator(multiverse, this, identifiers, environment, type, generatorSettings, player).start();
+  }
+
+  /**
+   * Clones a registered world into a new world with the same type, environment and generator, see
+   * {@link WorldCloner}.
+   *
+   * @param sourceIdentifier the identifier of the world to clone.
+   * @param targetIdentifier the identifier of the new world.
+   * @param player           the player initiating the clone.
+   */
+  public void cloneWorld(
+    final @NotNull String sourceIdentifier,
+    final @NotNull String targetIdentifier,
+    final @NotNull Player player
+  ) {
+    new WorldCloner(multiverse, this).cloneWorld(sourceIdentifier, targetIdentifier, player);
+  }
+
+  /**
+   * Checks whether a new world folder may be prepared under the given identifier.
+   *
+   * @param identifier the identifier of the new world.
+   * @return the translation key explaining why the identifier is unavailable, or {@code null} if it is available.
+   */
+  @Nullable String checkNewIdentifier(final @NotNull String identifier) {
+    if (!WORLD_IDENTIFIER_PATTERN.matcher(identifier).matches())
+      return "multiverse.invalid_world_name";
+
+    if (
+      Bukkit.getWorld(identifier) != null ||
+        multiverse.getWorldRegistry().get(identifier) != null ||
+        Files.exists(Bukkit.getWorldContainer().toPath().resolve(identifier))
+    ) return "multiverse.world_already_exists";
+    return null;
+  }
+
+  /**
+   * Creates, persists and registers a world whose folder has been prepared beforehand, such as a clone or a restored
+   * backup. Must be called on the main thread.
+   *
+   * @param identifier        the identifier of the world.
+   * @param environment       the world environment.
+   * @param type              the world type.
+   * @param generatorSettings the generator settings to keep, see {@link MVWorld#getGeneratorSettings()}.
+   * @param spawnLocation     the spawn location to keep, or {@code null} to use the spawn of the world.
+   * @return a future completing on the main thread with the registered {@link MVWorld}.
+   */
+  CompletableFuture<MVWorld> createFromFolder(
+    final @NotNull String identifier,
+    final @NotNull World.Environment environment,
+    final @NotNull MVWorldType type,
+    final @Nullable String generatorSettings,
+    final @Nullable Location spawnLocation
+  ) {
+    final World world;
+    final WorldPhaseEvent creationEvent = new WorldPhaseEvent();
+    creationEvent.begin();
+    try {
+      world = createWorldCreator(identifier, environment, type, generatorSettings).createWorld();
+      if (world == null)
+        throw new IllegalStateException("World creation returned null");
+    } catch (final Exception exception) {
+      return CompletableFuture.failedFuture(exception);
+    }
+    creationEvent.end(identifier, type, WorldPhaseEvent.CREATE, "createBukkitWorld");
+
+    final MVWorld.Builder builder = new MVWorld.Builder(world, type, environment);
+    builder.setGeneratorSettings(generatorSettings);
+    if (spawnLocation != null) {
+      final Location boundLocation = spawnLocation.clone();
+      boundLocation.setWorld(world);
+      builder.setSpawnLocation(boundLocation);
+    }
+
+    return CompletableFuture.supplyAsync(() -> {
+        final WorldPhaseEvent insertEvent = new WorldPhaseEvent();
+        insertEvent.begin();
+        final MVWorld mvWorld = multiverse.getMvWorldRepository().create(builder.build());
+        insertEvent.end(identifier, type, WorldPhaseEvent.CREATE, "insert");
+        return mvWorld;
+      }, multiverse.getExecutor())
+      .thenApplyAsync(mvWorld -> {
+        multiverse.getWorldRegistry().register(mvWorld, true);
+        return mvWorld;
+      }, runnable -> Bukkit.getScheduler().runTask(multiverse, runnable));
+  }
+
+  /**
+   * Reports a failed world preparation and removes what was created of it: the loaded world or the partial folder.
+   * Must be called on the main thread.
+   *
+   * @param identifier the identifier of the world.
+   * @param folder     the prepared world folder.
+   * @param player     the player that initiated the preparation.
+   * @param throwable  the cause of the failure.
+   */
+  void discardPreparedWorld(
+    final @NotNull String identifier,
+    final @NotNull Path folder,
+    final @NotNull Player player,
+    final @NotNull Throwable throwable
+  ) {
+    multiverse.getPlatformLogger().logDebug("Failed to prepare world " + identifier, throwable);
+    sendPlayerMessage(player, "multiverse.world_creation_failed", Map.of(
+      "world_name", identifier,
+      "exception", String.valueOf(throwable.getMessage())
+    ));
+
+    if (Bukkit.getWorld(identifier) != null)
+      deleteWorld(identifier, player);
+    else
+      WorldFiles.deleteTree(folder, multiverse.getExecutor());
+  }
+
   /**
    * Handles the result of the world creation process, notifying the player and updating the world repository.
    *
@@ -138,10 +513,19 @@ public class WorldManager {
    * @param throwable   the exception thrown during creation, or null if successful.
    * @param identifier  the world identifier.
    * @param player      the player that initiated world creation.
-   * @param type        the world type.
-   * @param environment the world environment.
+   * @param type              the world type.
+   * @param environment       the world environment.
+   * @param generatorSettings the generator settings of the world.
    */
-  private void handleWorldCreationResult(World world, Throwable throwable, String identifier, Player player, MVWorldType type, World.Environment environment) {
+  private void handleWorldCreationResult(
+    World world,
+    Throwable throwable,
+    String identifier,
+    Player player,
+    MVWorldType type,
+    World.Environment environment,
+    @Nullable String generatorSettings
+  ) {
     if (throwable != null || world == null) {
       sendPlayerMessage(player, "multiverse.world_creation_failed", Map.of(
         "world_name", identifier,
@@ -151,11 +535,14 @@ public class WorldManager {
     }
 
     try {
-      MVWorld mvWorld = multiverse.getMvWorldRepository().create(
-        new MVWorld.Builder(world, type, environment).build()
-      );
+      final WorldPhaseEvent insertEvent = new WorldPhaseEvent();
+      insertEvent.begin();
+      final MVWorld.Builder builder = new MVWorld.Builder(world, type, environment);
+      builder.setGeneratorSettings(generatorSettings);
+      MVWorld mvWorld = multiverse.getMvWorldRepository().create(builder.build());
+      insertEvent.end(identifier, type, WorldPhaseEvent.CREATE, "insert");
       Bukkit.getScheduler().runTask(multiverse, () -> {
-        multiverse.getWorlds().put(mvWorld.getIdentifier(), mvWorld);
+        multiverse.getWorldRegistry().register(mvWorld, true);
         teleport(mvWorld, player);
       });
       sendPlayerMessage(player, "multiverse.world_created", Map.of(
@@ -175,105 +562,58 @@ public class WorldManager {
   /**
    * Loads existing worlds from the database and creates them in the game.
    * <p>
-   * Only a batch of {@code WORLD_LOAD_BATCH_SIZE} worlds is loaded at once.
+   * All records are streamed page by page and created on the main thread within the configured per-tick budget,
+   * see {@link WorldLoader}.
    * </p>
    */
   public void loadWorlds() {
-    multiverse.getPlatformLogger().logInfo("Loading existing worlds...");
-    multiverse.getMvWorldRepository().findAllAsync(0, WORLD_LOAD_BATCH_SIZE)
-      .thenAcceptAsync(this::processLoadedWorlds, multiverse.getExecutor());
+    new WorldLoader(multiverse, this).start();
   }
 
   /**
-   * Processes the list of loaded {@link MVWorld} records, creating in-game worlds.
+   * Creates the in-game world of an already registered {@link MVWorld} and registers it with the plugin.
+   * <p>
+   * Must be called on the main thread. If the world is already loaded, it is only registered.
+   * </p>
    *
-   * @param foundWorlds the list of {@link MVWorld} objects obtained from the database.
+   * @param mvWorld the world record to load.
+   * @return the loaded {@link World}, or {@code null} if it could not be created.
    */
-  private void processLoadedWorlds(final List<MVWorld> foundWorlds) {
-    if (foundWorlds == null || foundWorlds.isEmpty()) {
-      multiverse.getPlatformLogger().logInfo("No existing worlds found in database");
-      return;
-    }
-
-    foundWorlds.forEach(mvWorld -> {
-      if (!WORLD_IDENTIFIER_PATTERN.matcher(mvWorld.getIdentifier()).matches()) {
-        multiverse.getPlatformLogger().logDebug("Skipping invalid world: " + mvWorld.getIdentifier());
-        return;
+  public @Nullable World loadWorld(final @NotNull MVWorld mvWorld) {
+    final long startNanos = System.nanoTime();
+    final WorldPhaseEvent event = new WorldPhaseEvent();
+    event.begin();
+    try {
+      World world = createWorldCreator(mvWorld.getIdentifier(), mvWorld.getEnvironment(), mvWorld.getType(), mvWorld.getGeneratorSettings()).createWorld();
+      if (world == null) {
+        multiverse.getMetrics().counter("world.load.errors").increment();
+        return null;
       }
-      Bukkit.getScheduler().runTask(multiverse, () -> {
-        WorldCreator creator = new WorldCreator(mvWorld.getIdentifier())
-          .environment(mvWorld.getEnvironment())
-          .keepSpawnLoaded(TriState.TRUE);
-        switch (mvWorld.getType()) {
-          case VOID:
-            creator.generator(new VoidChunkGenerator()).biomeProvider(new VoidBiomeProvider());
-            break;
-          case PLOT:
-            Material[] materials = PLOT_GENERATOR_PARAMS.get(MVWorldType.PLOT);
-            creator.generator(new PlotChunkGenerator(30, 6, 30, materials[0], materials[1], materials[2]))
-              .biomeProvider(new PlotBiomeProvider());
-            break;
-          // DEFAULT does not require a custom generator.
-        }
-        World world = creator.createWorld();
-        if (world != null) {
-          multiverse.getWorlds().put(mvWorld.getIdentifier(), mvWorld);
-          multiverse.getPlatformLogger().logInfo("Loaded world: " + world.getName() + " (" + mvWorld.getType() + ")");
-        }
-      });
-    });
+
+      multiverse.getWorldRegistry().register(mvWorld, true);
+      multiverse.getMetrics().timer("world.load").recordSince(startNanos);
+      event.end(mvWorld.getIdentifier(), mvWorld.getType(), WorldPhaseEvent.LOAD, "createWorld");
+      multiverse.getPlatformLogger().logInfo("Loaded world: " + world.getName() + " (" + mvWorld.getType() + ")");
+      return world;
+    } catch (final Exception exception) {
+      multiverse.getMetrics().counter("world.load.errors").increment();
+      multiverse.getPlatformLogger().logDebug("Failed to load world: " + mvWorld.getIdentifier(), exception);
+      return null;
+    }
   }
 
   /**
-   * Asynchronously deletes the specified world if it exists and is not populated by players.
+   * Deletes the specified world if it exists and is not populated by players.
    * <p>
-   * Notifies the initiating player with success or failure messages.
+   * Only the unload and an atomic folder rename run on the main thread, the files and the database row are deleted
+   * in the background, see {@link WorldDeletionPipeline}. Notifies the initiating player with success or failure messages.
    * </p>
    *
    * @param identifier the unique identifier of the world to delete.
    * @param player     the player who initiated the deletion.
    */
   public void deleteWorld(final @NotNull String identifier, final @NotNull Player player) {
-    final World world = Bukkit.getWorld(identifier);
-    if (world == null) {
-      sendPlayerMessage(player, "multiverse.world_does_not_exist", Map.of("world_name", identifier));
-      return;
-    }
-    sendPlayerMessage(player, "multiverse.deleting_world", Map.of("world_name", identifier));
-    if (!world.getEntitiesByClass(Player.class).isEmpty()) {
-      sendPlayerMessage(player, "multiverse.world_contains_players", Map.of("world_name", identifier));
-      return;
-    }
-    try {
-      Bukkit.unloadWorld(world, false);
-      multiverse.getMvWorldRepository().findByIdentifierAsync(identifier)
-        .thenAcceptAsync(mvWorld -> {
-          if (mvWorld == null) {
-            new I18n.Builder("multiverse.failed_to_delete_world_in_database", player)
-              .includingPrefix()
-              .withPlaceholder("world_name", identifier)
-              .build()
-              .send();
-            return;
-          }
-          multiverse.getMvWorldRepository().delete(mvWorld.getId());
-          new I18n.Builder("multiverse.world_deleted", player)
-            .includingPrefix()
-            .withPlaceholder("world_name", identifier)
-            .build()
-            .send();
-        }, multiverse.getExecutor());
-      FileUtils.deleteDirectory(world.getWorldFolder());
-      multiverse.getWorlds().remove(identifier);
-      multiverse.getPlatformLogger().logDebug("Deleted world folder: " + world.getWorldFolder().getAbsolutePath());
-    } catch (final Exception exception) {
-      multiverse.getPlatformLogger().logDebug("Failed to delete world: " + identifier, exception);
-      new I18n.Builder("multiverse.failed_to_delete_world", player)
-        .includingPrefix()
-        .withPlaceholder("world_name", identifier)
-        .build()
-        .send();
-    }
+    new WorldDeletionPipeline(multiverse).delete(identifier, player);
   }
 
   /**
@@ -292,17 +632,30 @@ public class WorldManager {
   }
 
   /**
-   * Teleports the player to the spawn location of the specified world.
+   * Teleports the player to the spawn location of the specified world, loading the world first if necessary.
+   * The destination chunks are pre-warmed asynchronously, see {@link ChunkPrewarmer}.
    *
    * @param mvWorld the {@link MVWorld} representing the target world.
    * @param player  the player to teleport.
    */
   public void teleport(final @NotNull MVWorld mvWorld, final @NotNull Player player) {
-    multiverse.getTeleportFactory().teleport(
-      player,
-      mvWorld.getSpawnLocation(),
-      "multiverse.teleported",
-      Map.of("world_name", mvWorld.getIdentifier())
-    );
+    multiverse.getMetrics().time(
+        "teleport.resolve",
+        multiverse.getWorldLifecycleManager().resolveSpawn(mvWorld).thenCompose(multiverse.getChunkPrewarmer()::prewarm)
+      )
+      .whenComplete((spawnLocation, throwable) -> {
+        if (throwable != null) {
+          multiverse.getPlatformLogger().logDebug("Failed to load world for teleport: " + mvWorld.getIdentifier(), throwable);
+          sendPlayerMessage(player, "multiverse.world_load_failed", Map.of("world_name", mvWorld.getIdentifier()));
+          return;
+        }
+
+        multiverse.getTeleportFactory().teleport(
+          player,
+          spawnLocation,
+          "multiverse.teleported",
+          Map.of("world_name", mvWorld.getIdentifier())
+        );
+      });
   }
 }
\ No newline at end of file
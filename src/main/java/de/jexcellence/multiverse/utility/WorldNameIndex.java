@@ -0,0 +1,132 @@
+package de.jexcellence.multiverse.utility;
+
+import de.jexcellence.multiverse.database.entity.MVWorld;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A prefix index over the names of all registered and all loaded worlds, used for tab completion.
+ * <p>
+ * The names are kept in an array sorted case-insensitively, which is replaced on every change. A completion is a
+ * binary search for the first name not below the prefix followed by a scan over the matching names, so it never
+ * touches names that do not match and is safe to call from any thread without locking. A name stays in the index as
+ * long as its world is registered through the {@link WorldRegistry} or loaded on the server, so registered worlds
+ * that are currently unloaded can be completed as well.
+ * </p>
+ */
+public class WorldNameIndex implements WorldRegistry.Listener {
+
+  private static final Comparator<String> ORDER = String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder());
+  private static final int REGISTERED = 1;
+  private static final int LOADED = 2;
+
+  private final Map<String, Integer> sources = new HashMap<>();
+
+  private volatile String[] names = new String[0];
+
+  @Override
+  public void onWorldRegistered(final @NotNull MVWorld mvWorld, final boolean loaded) {
+    this.update(mvWorld.getIdentifier(), REGISTERED, true);
+  }
+
+  @Override
+  public void onWorldUnregistered(final @NotNull MVWorld mvWorld) {
+    this.update(mvWorld.getIdentifier(), REGISTERED, false);
+  }
+
+  /**
+   * Updates whether a world is loaded on the server, independent of whether it is registered.
+   *
+   * @param name   the world name.
+   * @param loaded whether the world is loaded.
+   */
+  public void setLoaded(final @NotNull String name, final boolean loaded) {
+    this.update(name, LOADED, loaded);
+  }
+
+  /**
+   * Finds the names starting with the given prefix, ignoring case, in case-insensitive order.
+   *
+   * @param prefix the prefix, empty to list all names.
+   * @param limit  the maximum number of names to return.
+   * @return the matching names.
+   */
+  public @NotNull List<String> complete(final @NotNull String prefix, final int limit) {
+    final String[] currentNames = this.names;
+    final List<String> matches = new ArrayList<>(Math.min(limit, 16));
+
+    for (int index = lowerBound(currentNames, prefix); index < currentNames.length && matches.size() < limit; index++) {
+      if (!currentNames[index].regionMatches(true, 0, prefix, 0, prefix.length()))
+        break;
+      matches.add(currentNames[index]);
+    }
+    return matches;
+  }
+
+  /**
+   * Retrieves the number of indexed names.
+   *
+   * @return the number of names.
+   */
+  public int size() {
+    return this.names.length;
+  }
+
+  private void update(final String name, final int source, final boolean present) {
+    synchronized (this.sources) {
+      final int previous = this.sources.getOrDefault(name, 0);
+      final int current = present ? previous | source : previous & ~source;
+      if (current == previous)
+        return;
+
+      if (current == 0)
+        this.sources.remove(name);
+      else
+        this.sources.put(name, current);
+
+      if (previous == 0)
+        this.names = insert(this.names, name);
+      else if (current == 0)
+        this.names = remove(this.names, name);
+    }
+  }
+
+  private static int lowerBound(final String[] sortedNames, final String prefix) {
+    int low = 0;
+    int high = sortedNames.length;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (String.CASE_INSENSITIVE_ORDER.compare(sortedNames[middle], prefix) < 0)
+        low = middle + 1;
+      else
+        high = middle;
+    }
+    return low;
+  }
+
+  private static String[] insert(final String[] sortedNames, final String name) {
+    final int index = -Arrays.binarySearch(sortedNames, name, ORDER) - 1;
+    final String[] result = new String[sortedNames.length + 1];
+    System.arraycopy(sortedNames, 0, result, 0, index);
+    result[index] = name;
+    System.arraycopy(sortedNames, index, result, index + 1, sortedNames.length - index);
+    return result;
+  }
+
+  private static String[] remove(final String[] sortedNames, final String name) {
+    final int index = Arrays.binarySearch(sortedNames, name, ORDER);
+    if (index < 0)
+      return sortedNames;
+
+    final String[] result = new String[sortedNames.length - 1];
+    System.arraycopy(sortedNames, 0, result, 0, index);
+    System.arraycopy(sortedNames, index + 1, result, index, sortedNames.length - index - 1);
+    return result;
+  }
+}
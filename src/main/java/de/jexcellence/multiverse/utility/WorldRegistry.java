@@ -0,0 +1,336 @@
+package de.jexcellence.multiverse.utility;
+
+import de.jexcellence.multiverse.database.entity.MVWorld;
+import de.jexcellence.multiverse.type.MVWorldType;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Thread-safe registry of all {@link MVWorld}s known to the plugin, keyed by their identifiers.
+ * <p>
+ * Writers are serialized and publish an immutable {@link Snapshot} on every change, which also carries secondary
+ * indexes by {@link MVWorldType}, {@link World.Environment}, loaded state and the global spawn flag. Readers only
+ * dereference the current snapshot, so lookups are lock-free, never scan and never observe a partial update.
+ * </p>
+ * <p>
+ * Registering rebuilds the snapshot, so many worlds are registered at once through
+ * {@link #registerAll(Collection, boolean)}, which publishes a single snapshot. Changing the loaded state, which happens
+ * on every world load and unload, only copies the loaded-state indexes of the previous snapshot.
+ * </p>
+ * <p>
+ * {@link MVWorld} instances are mutable; after changing a registered world it has to be registered again so the
+ * indexes and listeners pick up the change.
+ * </p>
+ */
+public class WorldRegistry {
+
+  private final Map<String, Entry> entries = new HashMap<>();
+  private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+  /**
+   * Registers or replaces a world, keeping its loaded state if it was registered before.
+   *
+   * @param mvWorld the world to register.
+   */
+  public void register(final @NotNull MVWorld mvWorld) {
+    synchronized (this.entries) {
+      final Entry previous = this.entries.get(mvWorld.getIdentifier());
+      this.put(mvWorld, previous != null && previous.loaded());
+    }
+  }
+
+  /**
+   * Registers or replaces a world with the given loaded state.
+   *
+   * @param mvWorld the world to register.
+   * @param loaded  whether the world is currently loaded.
+   */
+  public void register(final @NotNull MVWorld mvWorld, final boolean loaded) {
+    synchronized (this.entries) {
+      this.put(mvWorld, loaded);
+    }
+  }
+
+  /**
+   * Registers or replaces many worlds with the given loaded state, publishing a single snapshot for all of them.
+   *
+   * @param mvWorlds the worlds to register.
+   * @param loaded   whether the worlds are currently loaded.
+   */
+  public void registerAll(final @NotNull Collection<MVWorld> mvWorlds, final boolean loaded) {
+    if (mvWorlds.isEmpty())
+      return;
+
+    synchronized (this.entries) {
+      mvWorlds.forEach(mvWorld -> this.entries.put(mvWorld.getIdentifier(), new Entry(mvWorld, loaded)));
+      this.snapshot = Snapshot.of(this.entries.values());
+      mvWorlds.forEach(mvWorld -> this.listeners.forEach(listener -> listener.onWorldRegistered(mvWorld, loaded)));
+    }
+  }
+
+  /**
+   * Removes a world from the registry.
+   *
+   * @param identifier the identifier of the world to remove.
+   * @return the removed world, or {@code null} if it was not registered.
+   */
+  public @Nullable MVWorld unregister(final @NotNull String identifier) {
+    synchronized (this.entries) {
+      final Entry removed = this.entries.remove(identifier);
+      if (removed == null)
+        return null;
+
+      this.snapshot = Snapshot.of(this.entries.values());
+      this.listeners.forEach(listener -> listener.onWorldUnregistered(removed.mvWorld()));
+      return removed.mvWorld();
+    }
+  }
+
+  /**
+   * Updates the loaded state of a registered world. Unknown identifiers are ignored.
+   *
+   * @param identifier the world identifier.
+   * @param loaded     whether the world is currently loaded.
+   */
+  public void setLoaded(final @NotNull String identifier, final boolean loaded) {
+    synchronized (this.entries) {
+      final Entry entry = this.entries.get(identifier);
+      if (entry == null || entry.loaded() == loaded)
+        return;
+
+      this.entries.put(identifier, new Entry(entry.mvWorld(), loaded));
+      this.snapshot = this.snapshot.withLoaded(entry.mvWorld(), loaded);
+      this.listeners.forEach(listener -> listener.onWorldRegistered(entry.mvWorld(), loaded));
+    }
+  }
+
+  /**
+   * Adds a listener that is notified after every change. Listeners are called while the registry is locked,
+   * so they must be cheap and must not write to the registry.
+   *
+   * @param listener the listener to add.
+   */
+  public void addListener(final @NotNull Listener listener) {
+    this.listeners.add(listener);
+  }
+
+  /**
+   * Retrieves the current immutable snapshot of the registry.
+   *
+   * @return the current {@link Snapshot}.
+   */
+  public @NotNull Snapshot snapshot() {
+    return this.snapshot;
+  }
+
+  /**
+   * Retrieves a registered world by its identifier.
+   *
+   * @param identifier the world identifier.
+   * @return the world, or {@code null} if it is not registered.
+   */
+  public @Nullable MVWorld get(final @NotNull String identifier) {
+    return this.snapshot.get(identifier);
+  }
+
+  /**
+   * Retrieves all registered worlds.
+   *
+   * @return an immutable collection of all worlds.
+   */
+  public @NotNull Collection<MVWorld> getAll() {
+    return this.snapshot.getAll();
+  }
+
+  /**
+   * Retrieves the world flagged as global spawn.
+   *
+   * @return the global spawn world, or {@code null} if none is flagged.
+   */
+  public @Nullable MVWorld getGlobalSpawn() {
+    return this.snapshot.getGlobalSpawn();
+  }
+
+  /**
+   * Checks whether the given world is registered and loaded.
+   *
+   * @param identifier the world identifier.
+   * @return {@code true} if the world is loaded.
+   */
+  public boolean isLoaded(final @NotNull String identifier) {
+    return this.snapshot.isLoaded(identifier);
+  }
+
+  private void put(final @NotNull MVWorld mvWorld, final boolean loaded) {
+    this.entries.put(mvWorld.getIdentifier(), new Entry(mvWorld, loaded));
+    this.snapshot = Snapshot.of(this.entries.values());
+    this.listeners.forEach(listener -> listener.onWorldRegistered(mvWorld, loaded));
+  }
+
+  /**
+   * Receives registry changes.
+   */
+  public interface Listener {
+
+    /**
+     * Called after a world was registered, replaced or changed its loaded state.
+     *
+     * @param mvWorld the registered world.
+     * @param loaded  whether the world is loaded.
+     */
+    default void onWorldRegistered(final @NotNull MVWorld mvWorld, final boolean loaded) {}
+
+    /**
+     * Called after a world was removed from the registry.
+     *
+     * @param mvWorld the removed world.
+     */
+    default void onWorldUnregistered(final @NotNull MVWorld mvWorld) {}
+  }
+
+  /**
+   * An immutable, fully indexed view of the registry at one point in time.
+   */
+  public static final class Snapshot {
+
+    private static final Snapshot EMPTY = of(List.of());
+
+    private final Map<String, MVWorld> worlds;
+    private final Map<MVWorldType, List<MVWorld>> worldsByType;
+    private final Map<World.Environment, List<MVWorld>> worldsByEnvironment;
+    private final Set<String> loadedIdentifiers;
+    private final List<MVWorld> loadedWorlds;
+    private final MVWorld globalSpawn;
+
+    private Snapshot(
+      final Map<String, MVWorld> worlds,
+      final Map<MVWorldType, List<MVWorld>> worldsByType,
+      final Map<World.Environment, List<MVWorld>> worldsByEnvironment,
+      final Set<String> loadedIdentifiers,
+      final List<MVWorld> loadedWorlds,
+      final MVWorld globalSpawn
+    ) {
+      this.worlds = worlds;
+      this.worldsByType = worldsByType;
+      this.worldsByEnvironment = worldsByEnvironment;
+      this.loadedIdentifiers = loadedIdentifiers;
+      this.loadedWorlds = loadedWorlds;
+      this.globalSpawn = globalSpawn;
+    }
+
+    private static Snapshot of(final Collection<Entry> entries) {
+      final Map<String, MVWorld> worlds = new HashMap<>();
+      final Map<MVWorldType, List<MVWorld>> worldsByType = new EnumMap<>(MVWorldType.class);
+      final Map<World.Environment, List<MVWorld>> worldsByEnvironment = new EnumMap<>(World.Environment.class);
+      final Set<String> loadedIdentifiers = new HashSet<>();
+      final List<MVWorld> loadedWorlds = new ArrayList<>();
+      MVWorld globalSpawn = null;
+
+      for (Entry entry : entries) {
+        final MVWorld mvWorld = entry.mvWorld();
+        worlds.put(mvWorld.getIdentifier(), mvWorld);
+        if (mvWorld.getType() != null)
+          worldsByType.computeIfAbsent(mvWorld.getType(), type -> new ArrayList<>()).add(mvWorld);
+        if (mvWorld.getEnvironment() != null)
+          worldsByEnvironment.computeIfAbsent(mvWorld.getEnvironment(), environment -> new ArrayList<>()).add(mvWorld);
+        if (entry.loaded()) {
+          loadedIdentifiers.add(mvWorld.getIdentifier());
+          loadedWorlds.add(mvWorld);
+        }
+        if (mvWorld.isGlobalizedSpawn())
+          globalSpawn = mvWorld;
+      }
+
+      worldsByType.replaceAll((type, list) -> List.copyOf(list));
+      worldsByEnvironment.replaceAll((environment, list) -> List.copyOf(list));
+
+      return new Snapshot(
+        Map.copyOf(worlds),
+        Collections.unmodifiableMap(worldsByType),
+        Collections.unmodifiableMap(worldsByEnvironment),
+        Set.copyOf(loadedIdentifiers),
+        List.copyOf(loadedWorlds),
+        globalSpawn
+      );
+    }
+
+    /**
+     * Derives a snapshot that only differs in the loaded state of one world, sharing all other indexes.
+     *
+     * @param mvWorld the registered world.
+     * @param loaded  whether the world is loaded.
+     * @return the derived snapshot.
+     */
+    private Snapshot withLoaded(final MVWorld mvWorld, final boolean loaded) {
+      final Set<String> loadedIdentifiers = new HashSet<>(this.loadedIdentifiers);
+      final List<MVWorld> loadedWorlds = new ArrayList<>(this.loadedWorlds);
+      if (loaded) {
+        loadedIdentifiers.add(mvWorld.getIdentifier());
+        loadedWorlds.add(mvWorld);
+      } else {
+        loadedIdentifiers.remove(mvWorld.getIdentifier());
+        loadedWorlds.removeIf(loadedWorld -> loadedWorld.getIdentifier().equals(mvWorld.getIdentifier()));
+      }
+
+      return new Snapshot(
+        this.worlds,
+        this.worldsByType,
+        this.worldsByEnvironment,
+        Set.copyOf(loadedIdentifiers),
+        List.copyOf(loadedWorlds),
+        this.globalSpawn
+      );
+    }
+
+    public @Nullable MVWorld get(final @NotNull String identifier) {
+      return this.worlds.get(identifier);
+    }
+
+    public @NotNull Collection<MVWorld> getAll() {
+      return this.worlds.values();
+    }
+
+    public @NotNull List<MVWorld> getByType(final @NotNull MVWorldType type) {
+      return this.worldsByType.getOrDefault(type, List.of());
+    }
+
+    public @NotNull List<MVWorld> getByEnvironment(final @NotNull World.Environment environment) {
+      return this.worldsByEnvironment.getOrDefault(environment, List.of());
+    }
+
+    public @NotNull List<MVWorld> getLoaded() {
+      return this.loadedWorlds;
+    }
+
+    public boolean isLoaded(final @NotNull String identifier) {
+      return this.loadedIdentifiers.contains(identifier);
+    }
+
+    public @Nullable MVWorld getGlobalSpawn() {
+      return this.globalSpawn;
+    }
+
+    public int size() {
+      return this.worlds.size();
+    }
+  }
+
+  private record Entry(
+    @NotNull MVWorld mvWorld,
+    boolean loaded
+  ) {}
+}
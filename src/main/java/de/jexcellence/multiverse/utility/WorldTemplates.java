@@ -0,0 +1,168 @@
+package de.jexcellence.multiverse.utility;
+
+import de.jexcellence.multiverse.Multiverse;
+import de.jexcellence.multiverse.type.MVWorldType;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores pre-generated region files per world type, environment and generator configuration, and seeds new worlds
+ * with them.
+ * <p>
+ * A template is taken from an existing world, typically after pre-generating it, and lives in the plugin's
+ * {@code templates} folder under a key that includes the SHA-256 hash of the generator configuration, so changing the
+ * plot dimensions, materials or flat layers never applies stale terrain. Before a new world of a matching type is
+ * created, the template's region, entity and POI files are copied into the new world folder off the main thread, so
+ * the server only has to read the pregenerated area instead of generating it. {@link MVWorldType#DEFAULT} worlds
+ * depend on their random seed and never use templates.
+ * </p>
+ */
+public class WorldTemplates {
+
+  private static final String TEMPLATE_DIRECTORY = "templates";
+  private static final Set<String> REGION_DIRECTORIES = Set.of("region", "entities", "poi");
+
+  private final Multiverse multiverse;
+
+  /**
+   * Constructs a new WorldTemplates.
+   *
+   * @param multiverse the Multiverse plugin instance.
+   */
+  public WorldTemplates(final @NotNull Multiverse multiverse) {
+    this.multiverse = multiverse;
+  }
+
+  /**
+   * Copies the matching template into the folder of a world that is about to be created.
+   * Nothing is copied if no template exists or the world folder already exists.
+   *
+   * @param identifier        the identifier of the new world.
+   * @param environment       the environment of the new world.
+   * @param type              the type of the new world.
+   * @param generatorSettings the generator settings of the new world.
+   * @return a future completing with the number of copied bytes.
+   */
+  public @NotNull CompletableFuture<Long> apply(
+    final @NotNull String identifier,
+    final @NotNull World.Environment environment,
+    final @NotNull MVWorldType type,
+    final @Nullable String generatorSettings
+  ) {
+    final Path template = this.getTemplate(environment, type, generatorSettings);
+    final Path worldFolder = Bukkit.getWorldContainer().toPath().resolve(identifier);
+    if (template == null || !Files.isDirectory(template) || Files.exists(worldFolder))
+      return CompletableFuture.completedFuture(0L);
+
+    final long startNanos = System.nanoTime();
+    return WorldFiles.copyTree(template, worldFolder, WorldTemplates::isRegionFile, this.multiverse.getExecutor())
+      .thenApply(copiedBytes -> {
+        this.multiverse.getPlatformLogger().logDebug(
+          "Seeded world " + identifier + " from template " + template.getFileName() + " (" + WorldFiles.formatSize(copiedBytes) +
+            " in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms)"
+        );
+        return copiedBytes;
+      });
+  }
+
+  /**
+   * Saves the region files of a world as the template for its type, environment and generator configuration,
+   * replacing any previous template. Must be called on the main thread; the world is saved and frozen first, see
+   * {@link WorldLifecycleManager#freeze(String)}, so no chunk write is pending while the files are copied in the
+   * background.
+   *
+   * @param world             the source world.
+   * @param type              the type of the source world.
+   * @param generatorSettings the generator settings of the source world.
+   * @return a future completing with the number of copied bytes.
+   * @throws IllegalArgumentException if the type does not support templates.
+   */
+  public @NotNull CompletableFuture<Long> save(
+    final @NotNull World world,
+    final @NotNull MVWorldType type,
+    final @Nullable String generatorSettings
+  ) {
+    final Path template = this.getTemplate(world.getEnvironment(), type, generatorSettings);
+    if (template == null)
+      throw new IllegalArgumentException("World type " + type + " does not support templates");
+
+    final Runnable release = this.multiverse.getWorldLifecycleManager().freeze(world.getName());
+
+    final Path staging = template.resolveSibling(template.getFileName() + ".tmp-" + System.currentTimeMillis());
+    return WorldFiles.copyTree(world.getWorldFolder().toPath(), staging, WorldTemplates::isRegionFile, this.multiverse.getExecutor())
+      .thenApplyAsync(copiedBytes -> {
+        try {
+          if (Files.exists(template)) {
+            final Path previous = template.resolveSibling(template.getFileName() + ".old-" + System.currentTimeMillis());
+            Files.move(template, previous, StandardCopyOption.ATOMIC_MOVE);
+            WorldFiles.deleteTree(previous, this.multiverse.getExecutor());
+          }
+          Files.move(staging, template, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException exception) {
+          throw new UncheckedIOException(exception);
+        }
+        return copiedBytes;
+      }, this.multiverse.getExecutor())
+      .whenComplete((copiedBytes, throwable) -> Bukkit.getScheduler().runTask(this.multiverse, release));
+  }
+
+  /**
+   * Retrieves the template folder for the given environment, type and generator settings.
+   *
+   * @param environment       the world environment.
+   * @param type              the world type.
+   * @param generatorSettings the generator settings of the world.
+   * @return the template folder, which may not exist yet, or {@code null} if the type does not support templates.
+   */
+  public @Nullable Path getTemplate(
+    final @NotNull World.Environment environment,
+    final @NotNull MVWorldType type,
+    final @Nullable String generatorSettings
+  ) {
+    final String generatorSignature = WorldManager.getGeneratorSignature(
+      type, generatorSettings, this.multiverse.getMultiverseConfig()
+    );
+    if (generatorSignature == null)
+      return null;
+
+    final String key = type.name().toLowerCase(Locale.ROOT) + "-" + environment.name().toLowerCase(Locale.ROOT) + "-" +
+      hash(generatorSignature);
+    return this.multiverse.getDataFolder().toPath().resolve(TEMPLATE_DIRECTORY).resolve(key);
+  }
+
+  private static String hash(final String generatorSignature) {
+    try {
+      return HexFormat.of().formatHex(
+        MessageDigest.getInstance("SHA-256").digest(generatorSignature.getBytes(StandardCharsets.UTF_8))
+      );
+    } catch (final NoSuchAlgorithmException exception) {
+      throw new IllegalStateException("SHA-256 is not available", exception);
+    }
+  }
+
+  private static boolean isRegionFile(final Path relativePath) {
+    if (!relativePath.getFileName().toString().endsWith(".mca"))
+      return false;
+
+    for (Path segment : relativePath)
+      if (REGION_DIRECTORIES.contains(segment.toString()))
+        return true;
+    return false;
+  }
+}